@@ -1,5 +1,7 @@
 package com.smartfilemanager.constants;
 
+import java.util.Set;
+
 /**
  * 파일 처리 관련 상수들을 관리하는 클래스
  */
@@ -68,6 +70,104 @@ public final class FileConstants {
         public static final long UI_MESSAGE_DISPLAY = 3000;  // 3초
     }
     
+    // 스캔 결과 배치 전달
+    public static final class ScanBatching {
+        public static final int BATCH_SIZE = 500;          // 이 개수마다 테이블에 추가
+        public static final long FLUSH_INTERVAL = 250;     // 최대 대기 시간 (밀리초)
+    }
+    
+    // 파일 정리 동시 이동
+    public static final class OrganizeConcurrency {
+        public static final int AUTO_MAX = 8;               // 자동일 때 CPU 코어 수, 최대 8
+        public static final long UI_UPDATE_INTERVAL = 100;  // 진행률 표시 간격 (밀리초)
+    }
+    
+    // 파일 이동 작업 저널
+    public static final class OperationJournaling {
+        public static final String DIRECTORY_NAME = "journal";     // ~/.smartfilemanager 아래 폴더
+        public static final int GROUP_COMMIT_RECORDS = 256;        // 이만큼 쌓이면 한 번에 기록 + fsync
+        public static final int KEEP_SESSIONS = 20;                // 남겨둘 종료된 세션 수
+    }
+    
+    // 이동/삭제 전 백업
+    public static final class BackupPolicy {
+        public static final long MOVE_MIN_SIZE = 100 * 1024 * 1024;    // 이동 시 이 크기 초과면 백업 (100MB)
+        public static final long DELETE_MIN_SIZE = 10 * 1024 * 1024;   // 삭제 시 이 크기 초과면 백업 (10MB)
+    }
+    
+    // 다른 저장장치로 이동 (복사 후 검증)
+    public static final class CrossDeviceTransfer {
+        public static final long CHUNK_SIZE = 64 * 1024 * 1024;        // transferTo 한 번에 넘길 크기 (64MB)
+        public static final int HASH_BUFFER_SIZE = 1024 * 1024;        // 해시 계산용 읽기 버퍼 (1MB)
+        public static final long PROGRESS_INTERVAL = 200;              // 진행률 보고 간격 (밀리초)
+        public static final String PARTIAL_SUFFIX = ".sfmpart";        // 복사 중인 파일 확장자
+    }
+    
+    // 중복 탐지 해시 계산 (저장장치별 동시 작업 수)
+    public static final class HashingConcurrency {
+        public static final int SSD_MAX = 16;               // SSD/NVMe: CPU 코어 수, 최대 16
+        public static final int HDD = 1;                    // 회전 디스크: 순차 읽기
+        public static final int NETWORK = 2;                // 네트워크 드라이브
+        public static final int UNKNOWN = 2;                // 종류를 알 수 없는 저장장치
+        public static final int READ_BUFFER_SIZE = 1024 * 1024;  // 1MB
+        public static final long PROGRESS_INTERVAL = 200;   // 진행률 보고 간격 (밀리초)
+        public static final int CACHED_FILES_MAX = 100_000; // 메모리에 둘 해시 캐시 파일 수 (나머지는 SQLite에서 다시 읽음)
+    }
+    
+    // 중복 탐지 해시 알고리즘 이름
+    public static final class HashAlgorithms {
+        public static final String XXH64 = "XXH64";        // 빠른 비암호화 해시
+        public static final String MD5 = "MD5";
+        public static final String SHA256 = "SHA-256";
+        public static final String DEFAULT = XXH64;        // 설정이 비어 있을 때
+    }
+    
+    // 이미지 지각 해시 (비슷한 이미지 탐지)
+    public static final class PerceptualHashing {
+        public static final String HASH_TYPE = "dhash-64";   // 해시 캐시 종류 이름
+        public static final int MAX_DISTANCE = 10;           // 64비트 중 이 개수 이하로 다르면 비슷한 이미지
+        public static final int DECODE_MIN_SIZE = 64;        // 축소 디코딩 후 짧은 변의 최소 크기 (픽셀)
+    }
+    
+    // 내용이 거의 같은 문서 (MinHash + LSH)
+    public static final class NearDuplicateText {
+        public static final String HASH_TYPE = "minhash-128-full";  // 해시 캐시 종류 이름 (파일 전체 기준)
+        public static final int SIGNATURE_SIZE = 128;           // MinHash 값 개수
+        public static final int BANDS = 16;                     // LSH 밴드 수 (밴드당 8개 → 약 0.71부터 후보)
+        public static final int SHINGLE_WORDS = 3;              // 단어 3개씩 묶어 비교
+        public static final int MIN_SHINGLES = 8;               // 이보다 짧은 문서는 비교하지 않음
+        public static final double SIMILARITY_THRESHOLD = 0.8;  // 추정 자카드 유사도 80% 이상
+        // PDF/Word는 아직 본문을 추출하지 못하므로 제외
+        public static final Set<String> EXTENSIONS = Set.of(
+                "txt", "md", "log", "html", "htm", "xml", "json", "csv", "rtf",
+                "ini", "cfg", "conf", "properties", "yaml", "yml", "toml"
+        );
+    }
+    
+    // 일부만 같은 큰 파일 (내용 기반 청크 분할)
+    public static final class ContentChunking {
+        public static final int MIN_CHUNK = 16 * 1024;                 // 최소 청크 크기
+        public static final int AVERAGE_CHUNK = 64 * 1024;             // 평균 청크 크기 (2의 거듭제곱)
+        public static final int MAX_CHUNK = 256 * 1024;                // 최대 청크 크기
+        public static final long MIN_FILE_SIZE = 8L * 1024 * 1024;     // 이보다 작은 파일은 청크 비교 안 함
+        public static final int MAX_FILES_PER_CHUNK = 64;              // 이보다 흔한 청크(0으로 채운 영역 등)는 무시
+        public static final double SHARED_RATIO_THRESHOLD = 0.5;       // 큰 쪽 파일 기준 공유 비율 50% 이상
+    }
+    
+    // 대용량 미사용 파일
+    public static final class LargeUnusedFiles {
+        public static final long MIN_SIZE = 100L * 1024 * 1024;   // 100MB 이상
+        public static final int UNUSED_DAYS = 90;                 // 이 기간 동안 접근(접근 시간이 없으면 수정)되지 않음
+        public static final int TOP_K = 100;                      // 큰 순서로 이만큼만 후보로 보여줌
+    }
+    
+    // 폴더별 사용량 (디렉토리 집계 트리)
+    public static final class DirectorySpace {
+        public static final long UNUSED_FOLDER_MIN_SIZE = 1024L * 1024 * 1024;   // 1GB 이상인 폴더만 미사용 폴더 후보
+        public static final int UNUSED_DAYS = 90;                                // 안의 파일이 모두 이 기간 동안 수정되지 않음
+        public static final int TOP_HEAVY_COUNT = 10;                            // 통계 화면에 보여줄 큰 폴더 수
+    }
+    
     // 날짜 포맷
     public static final class DateFormats {
         public static final String TABLE_DATE_FORMAT = "MM-dd HH:mm";
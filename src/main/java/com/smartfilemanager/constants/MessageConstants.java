@@ -32,6 +32,7 @@ public final class MessageConstants {
         public static final String NO_FILES = "📋 파일 없음";
         public static final String NO_ORGANIZE_FILES = "📋 정리할 파일 없음";
         public static final String NO_UNDO_FILES = "↩️ 되돌릴 파일 없음";
+        public static final String INTERRUPTED_SESSION = "⚠️ 중단된 작업 발견";
         public static final String DUPLICATES_FOUND = "🔄 중복 파일 발견!";
         public static final String NO_DUPLICATES = "🎉 중복 파일 없음";
         public static final String CLEANUP_FOUND = "🧹 불필요한 파일 발견!";
@@ -56,6 +57,10 @@ public final class MessageConstants {
         public static final String UNDO_CONFIRM = "↩️ %d개의 정리된 파일을 원래 위치로 되돌리시겠습니까?\n📏 총 크기: %s\n\n❓ 계속하시겠습니까?";
         public static final String ORGANIZE_SUCCESS = "🎉 %s가 완료되었습니다!\n✅ 성공: %d개 파일";
         public static final String NO_ORGANIZED_FILES = "정리된 파일이 없습니다.";
+        public static final String UNDO_SESSION_CONFIRM = "↩️ %s에 시작한 정리 작업의 파일 %d개를 원래 위치로 되돌리시겠습니까?\n\n❓ 계속하시겠습니까?";
+        public static final String RESUME_ORGANIZE_CONFIRM = "⚠️ %s에 시작한 파일 정리가 끝나기 전에 중단되었습니다.\n📦 계획된 이동: %d개\n\n❓ 남은 파일 정리를 이어서 진행하시겠습니까?";
+        public static final String ROLLBACK_ORGANIZE_CONFIRM = "↩️ 대신 이미 옮긴 파일을 원래 위치로 되돌리시겠습니까?\n(아니오를 누르면 다음 실행 때 다시 묻습니다)";
+        public static final String RESUME_UNDO_CONFIRM = "⚠️ %s에 시작한 정리 작업의 되돌리기가 중단되었습니다.\n\n❓ 남은 파일을 이어서 되돌리시겠습니까?";
         public static final String DUPLICATES_RESULT = "%d개의 중복 그룹을 발견했습니다.";
         public static final String NO_DUPLICATES_FOUND = "분석 결과 중복된 파일을 찾지 못했습니다.";
         public static final String CLEANUP_RESULT = "%d개의 정리 후보를 발견했습니다.";
@@ -393,6 +393,15 @@ public class EventHandlers {
         long exactDuplicates = duplicateGroups.stream()
                 .filter(g -> g.getType() == com.smartfilemanager.model.DuplicateType.EXACT)
                 .count();
+        long visualDuplicates = duplicateGroups.stream()
+                .filter(g -> g.getType() == com.smartfilemanager.model.DuplicateType.VISUAL)
+                .count();
+        long nearDuplicates = duplicateGroups.stream()
+                .filter(g -> g.getType() == com.smartfilemanager.model.DuplicateType.NEAR_DUPLICATE)
+                .count();
+        long partialDuplicates = duplicateGroups.stream()
+                .filter(g -> g.getType() == com.smartfilemanager.model.DuplicateType.PARTIAL)
+                .count();
         long similarFiles = duplicateGroups.stream()
                 .filter(g -> g.getType() == com.smartfilemanager.model.DuplicateType.SIMILAR)
                 .count();
@@ -411,6 +420,11 @@ public class EventHandlers {
 
         message.append("📊 발견된 중복 그룹: ").append(duplicateGroups.size()).append("개\n");
         message.append("  • 🎯 정확한 중복: ").append(exactDuplicates).append("개 그룹\n");
+        message.append("  • 🖼️ 비슷한 이미지: ").append(visualDuplicates).append("개 그룹\n");
+        message.append("  • 📝 비슷한 문서: ").append(nearDuplicates).append("개 그룹\n");
+        if (partialDuplicates > 0) {
+            message.append("  • 🧩 일부 중복: ").append(partialDuplicates).append("개 그룹\n");
+        }
         message.append("  • 🔍 유사한 파일: ").append(similarFiles).append("개 그룹\n\n");
 
         message.append("📁 중복 파일 개수: ").append(totalDuplicateFiles).append("개\n");
@@ -90,6 +90,9 @@ public class MainController implements Initializable {
         setupListeners();
         updateUI();
         
+        // 지난 실행에서 중단된 정리 작업 확인 (창이 뜬 뒤에 묻기)
+        Platform.runLater(() -> fileOperationHandler.handleInterruptedSessions());
+        
         // 매니저 초기화 후 AI 상태 업데이트
         updateAIStatusIndicator();
 
@@ -1,8 +1,11 @@
 package com.smartfilemanager.controller;
 
+import com.smartfilemanager.constants.FileConstants;
+import com.smartfilemanager.model.DirectoryUsage;
 import com.smartfilemanager.model.FileInfo;
 import com.smartfilemanager.model.ProcessingStatus;
 import com.smartfilemanager.service.ConfigService;
+import com.smartfilemanager.service.DirectorySizeIndex;
 import com.smartfilemanager.util.DatabaseHelper;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -331,6 +334,20 @@ public class StatisticsController implements Initializable {
             rootItem.getChildren().add(categoryItem);
         });
 
+        // 용량이 큰 폴더 (스캔 때 만든 디렉토리 집계 트리에서 바로 조회)
+        List<DirectoryUsage> heavyFolders = DirectorySizeIndex.getShared()
+                .topHeavyDirectories(FileConstants.DirectorySpace.TOP_HEAVY_COUNT);
+        if (!heavyFolders.isEmpty()) {
+            TreeItem<String> heavyItem = new TreeItem<>("용량이 큰 폴더");
+            heavyItem.setExpanded(true);
+            for (DirectoryUsage usage : heavyFolders) {
+                heavyItem.getChildren().add(new TreeItem<>(
+                        usage.getPath() + " (" + usage.getFormattedSize() + ", " + usage.getFileCount() + "개 파일)"
+                ));
+            }
+            rootItem.getChildren().add(heavyItem);
+        }
+
         folderStructureTree.setRoot(rootItem);
     }
 
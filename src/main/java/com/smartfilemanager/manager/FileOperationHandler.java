@@ -7,12 +7,14 @@ import com.smartfilemanager.model.CleanupCandidate;
 import com.smartfilemanager.model.DuplicateGroup;
 import com.smartfilemanager.model.ProcessingStatus;
 import com.smartfilemanager.service.*;
+import com.smartfilemanager.util.FileFormatUtils;
 import com.smartfilemanager.util.TaskUtils;
 import javafx.concurrent.Task;
 import javafx.stage.DirectoryChooser;
 import javafx.stage.Stage;
 
 import java.io.File;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -90,6 +92,16 @@ public class FileOperationHandler {
     public void handleUndoOrganization(List<FileInfo> fileList) {
         List<FileInfo> undoableFiles = UndoService.getUndoableFiles(new ArrayList<>(fileList));
         if (undoableFiles.isEmpty()) {
+            // 이번 실행에서 정리한 파일이 없으면 저널에 남은 지난 정리 작업을 되돌림
+            OperationJournal.Session lastSession = findLastUndoableSession();
+            if (lastSession != null) {
+                String message = String.format(MessageConstants.DialogMessages.UNDO_SESSION_CONFIRM,
+                        FileFormatUtils.formatTableDate(lastSession.getStartedAt()), lastSession.getRevertibleCount());
+                if (dialogManager.showConfirmDialog(MessageConstants.DialogTitles.UNDO_FILES, message)) {
+                    startSessionUndo(lastSession);
+                }
+                return;
+            }
             dialogManager.showInfoDialog(MessageConstants.DialogTitles.NO_UNDO_FILES, 
                                        MessageConstants.DialogMessages.NO_ORGANIZED_FILES);
             return;
@@ -100,6 +112,35 @@ public class FileOperationHandler {
         }
     }
     
+    /**
+     * 지난 실행에서 중단된 정리/되돌리기 작업 처리 (앱 시작 시)
+     * 정리 도중 중단된 작업은 이어서 진행하거나 되돌리고, 되돌리기 도중 중단된 작업은 이어서 되돌립니다.
+     */
+    public void handleInterruptedSessions() {
+        OperationJournal.pruneSessions(FileConstants.OperationJournaling.KEEP_SESSIONS);
+
+        for (OperationJournal.Session session : OperationJournal.listInterruptedSessions()) {
+            String startedAt = FileFormatUtils.formatTableDate(session.getStartedAt());
+
+            if (session.isReverting()) {
+                if (dialogManager.showConfirmDialog(MessageConstants.DialogTitles.INTERRUPTED_SESSION,
+                        String.format(MessageConstants.DialogMessages.RESUME_UNDO_CONFIRM, startedAt))) {
+                    startSessionUndo(session);
+                }
+            } else if (dialogManager.showConfirmDialog(MessageConstants.DialogTitles.INTERRUPTED_SESSION,
+                    String.format(MessageConstants.DialogMessages.RESUME_ORGANIZE_CONFIRM, startedAt,
+                            session.getMoves().size()))) {
+                Task<Integer> resumeTask = fileOrganizerService.resumeSessionAsync(session);
+                setupTaskHandlers(resumeTask, "정리", session.getMoves().size());
+            } else if (dialogManager.showConfirmDialog(MessageConstants.DialogTitles.INTERRUPTED_SESSION,
+                    MessageConstants.DialogMessages.ROLLBACK_ORGANIZE_CONFIRM)) {
+                startSessionUndo(session);
+            }
+            // 한 번에 하나씩만 처리 (나머지는 다음 실행 때 다시 물음)
+            return;
+        }
+    }
+    
     /**
      * 중복 파일 검사 처리
      */
@@ -226,6 +267,33 @@ public class FileOperationHandler {
         setupUndoTaskHandlers(undoTask, undoableFiles.size());
     }
     
+    private void startSessionUndo(OperationJournal.Session session) {
+        Task<Integer> undoTask = undoService.undoSessionAsync(session);
+        setupUndoTaskHandlers(undoTask, session.getRevertibleCount());
+    }
+    
+    /**
+     * 되돌릴 파일이 실제로 정리된 위치에 남아 있는 가장 최근 세션
+     * (저널에 기록되기 전에 다른 방법으로 되돌렸거나 옮긴 세션은 건너뜀)
+     */
+    private OperationJournal.Session findLastUndoableSession() {
+        for (OperationJournal.Session session : OperationJournal.listSessions()) {
+            if (session.isClosed() && hasFilesToRevert(session)) {
+                return session;
+            }
+        }
+        return null;
+    }
+
+    private boolean hasFilesToRevert(OperationJournal.Session session) {
+        for (OperationJournal.Move move : session.getRevertCandidates()) {
+            if (Files.exists(move.getTarget())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     private void startDuplicateDetection(List<FileInfo> fileList) {
         uiUpdateManager.updateStatusLabel(MessageConstants.StatusMessages.ANALYZING_DUPLICATES);
         uiUpdateManager.updateProgress(-1, "중복 파일 분석 중...");
@@ -298,6 +366,10 @@ public class FileOperationHandler {
             @Override
             protected List<DuplicateGroup> call() throws Exception {
                 List<FileInfo> filesToAnalyze = new ArrayList<>(fileList);
+                duplicateDetectorService.setHashProgressCallback((completed, total, bytesRead, bytesPerSecond) ->
+                        uiUpdateManager.updateProgress((double) completed / total,
+                                String.format("중복 파일 해시 계산 중... %d/%d (%.1f MB/s)",
+                                        completed, total, bytesPerSecond / (1024 * 1024))));
                 return duplicateDetectorService.findDuplicates(filesToAnalyze);
             }
         };
@@ -33,11 +33,18 @@ public class AppConfig {
     private boolean enableDuplicateDetection;  // 중복 파일 탐지 활성화
     private boolean autoResolveDuplicates;     // 자동 중복 해결
     private String duplicateResolutionStrategy; // "KEEP_NEWEST", "KEEP_LARGEST", "ASK_USER"
+    private boolean verifyDuplicatesByteByByte; // 해시가 같은 파일을 바이트 단위로 한 번 더 비교
+    private String duplicateHashAlgorithm;      // "XXH64", "MD5", "SHA-256" (빈 값 = XXH64)
+    private String duplicateConfirmationHash;   // 확인용 해시 "MD5", "SHA-256" (빈 값 = 사용 안 함)
+    private boolean chunkLevelDuplicateAnalysis; // 큰 파일을 청크 단위로 비교해 일부만 같은 파일도 찾기
+    private String hashStorageKind;             // 해시 계산 시 저장장치 종류 "SSD", "HDD", "NETWORK" (빈 값 = 자동 판별)
 
     // 파일 크기 및 성능 설정
     private int maxFileSizeForAnalysis;         // 분석할 최대 파일 크기 (MB)
     private int monitoringInterval;             // 폴더 감시 간격 (초)
     private int maxFileCount;                   // 한 번에 처리할 최대 파일 수
+    private int scanParallelism;                // 스캔 병렬 스레드 수 (0 = CPU 코어 수)
+    private int organizeParallelism;            // 정리 시 동시에 이동할 파일 수 (0 = 자동)
 
     // UI 설정
     private boolean minimizeToTray;             // 시스템 트레이로 최소화
@@ -90,11 +97,18 @@ public class AppConfig {
                 .enableDuplicateDetection(true)      // 중복 탐지는 활성화
                 .autoResolveDuplicates(false)        // 자동 해결은 비활성화 (안전성)
                 .duplicateResolutionStrategy("ASK_USER")  // 사용자에게 물어보기
+                .verifyDuplicatesByteByByte(false)   // 해시 비교로 충분 (속도 우선)
+                .duplicateHashAlgorithm("XXH64")     // 빠른 비암호화 해시
+                .duplicateConfirmationHash("")       // 확인용 해시 사용 안 함
+                .chunkLevelDuplicateAnalysis(false)  // 큰 파일을 모두 읽으므로 기본은 비활성화
+                .hashStorageKind("")                 // 저장장치 종류 자동 판별
 
                 // 성능 설정 (합리적 기본값)
                 .maxFileSizeForAnalysis(100)         // 100MB
                 .monitoringInterval(5)               // 5초
                 .maxFileCount(1000)                  // 1000개 파일
+                .scanParallelism(0)                  // 자동 (CPU 코어 수)
+                .organizeParallelism(0)              // 자동 (CPU 코어 수, 최대 8)
 
                 // UI 설정
                 .minimizeToTray(false)               // 트레이 최소화 비활성화
@@ -145,6 +159,14 @@ public class AppConfig {
             return false;
         }
 
+        if (scanParallelism < 0 || scanParallelism > 256) { // 0(자동) ~ 256
+            return false;
+        }
+
+        if (organizeParallelism < 0 || organizeParallelism > 64) { // 0(자동) ~ 64
+            return false;
+        }
+
         return true;
     }
 
@@ -148,6 +148,27 @@ public class CleanupCandidate {
         return safetyLevel == SafetyLevel.SAFE || safetyLevel == SafetyLevel.LIKELY_SAFE;
     }
 
+    /**
+     * 스캔할 때 읽어둔 FileInfo로 정리 후보 생성 (파일 시스템을 다시 조회하지 않음)
+     */
+    public static CleanupCandidate create(FileInfo file, CleanupCategory category,
+                                          SafetyLevel safetyLevel, String reason) {
+        return CleanupCandidate.builder()
+                .filePath(file.getFilePath())
+                .fileName(file.getFileName())
+                .fileSize(file.getFileSize())
+                .lastModified(file.getModifiedDate())
+                .lastAccessed(file.getAccessedDate())
+                .category(category)
+                .safetyLevel(safetyLevel)
+                .reason(reason)
+                .isDirectory(false)
+                .isSelected(safetyLevel == SafetyLevel.SAFE) // 안전한 파일은 기본 선택
+                .isProcessed(false)
+                .confidenceScore(calculateConfidenceScore(category, safetyLevel))
+                .build();
+    }
+
     /**
      * 정리 후보 생성 팩토리 메서드
      */
@@ -172,6 +193,27 @@ public class CleanupCandidate {
                 .build();
     }
 
+    /**
+     * 폴더 단위 정리 후보 생성 (디렉토리 집계 트리의 사용량으로, 디스크를 다시 읽지 않음)
+     */
+    public static CleanupCandidate create(DirectoryUsage usage, CleanupCategory category,
+                                          SafetyLevel safetyLevel, String reason) {
+        return CleanupCandidate.builder()
+                .filePath(usage.getPath())
+                .fileName(new java.io.File(usage.getPath()).getName())
+                .fileSize(usage.getTotalSize())
+                .lastModified(usage.getNewestModified())
+                .category(category)
+                .safetyLevel(safetyLevel)
+                .reason(reason)
+                .isDirectory(true)
+                .childCount(usage.getFileCount())
+                .isSelected(safetyLevel == SafetyLevel.SAFE)
+                .isProcessed(false)
+                .confidenceScore(calculateConfidenceScore(category, safetyLevel))
+                .build();
+    }
+
     /**
      * 신뢰도 점수 계산
      */
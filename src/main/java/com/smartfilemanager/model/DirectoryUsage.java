@@ -0,0 +1,31 @@
+package com.smartfilemanager.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폴더 하나의 누적 사용량 (하위 폴더 포함)
+ * 디렉토리 집계 트리에서 조회한 시점의 값입니다
+ */
+@Data
+@AllArgsConstructor
+public class DirectoryUsage {
+
+    private String path;                     // 폴더 경로
+    private long totalSize;                  // 하위 전체 파일 크기 합
+    private long fileCount;                  // 하위 전체 파일 수
+    private LocalDateTime newestModified;    // 가장 최근에 수정된 파일의 수정 시간
+    private LocalDateTime oldestModified;    // 가장 오래전에 수정된 파일의 수정 시간
+
+    /**
+     * 크기를 사람이 읽기 쉬운 형태로 포맷
+     */
+    public String getFormattedSize() {
+        if (totalSize < 1024) return totalSize + " B";
+        if (totalSize < 1024 * 1024) return String.format("%.1f KB", totalSize / 1024.0);
+        if (totalSize < 1024 * 1024 * 1024) return String.format("%.1f MB", totalSize / (1024.0 * 1024));
+        return String.format("%.1f GB", totalSize / (1024.0 * 1024 * 1024));
+    }
+}
@@ -0,0 +1,96 @@
+package com.smartfilemanager.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 정확한 중복 탐지의 단계별 통계
+ * 크기 → 부분 해시(앞/뒤 64KB) → 전체 해시 → 바이트 비교(선택) 순서로
+ * 각 단계에서 후보에서 제외된 파일 수와 실제로 읽은 바이트 수를 기록합니다
+ */
+@Data
+@NoArgsConstructor
+public class DuplicateDetectionStats {
+
+    private int totalFiles;                  // 입력 파일 수
+    private int emptyFilesSkipped;           // 0바이트라서 제외된 파일 수
+
+    // 1단계: 크기
+    private int sizeEliminated;              // 같은 크기의 파일이 없어 제외된 파일 수
+
+    // 2단계: 부분 해시
+    private int partialHashed;               // 부분 해시를 계산한 파일 수
+    private int partialEliminated;           // 부분 해시가 달라 제외된 파일 수
+
+    // 3단계: 전체 해시
+    private int fullHashed;                  // 전체 해시를 계산한 파일 수
+    private int fullHashSkipped;             // 부분 해시가 파일 전체를 덮어 전체 해시를 생략한 파일 수
+    private int fullEliminated;              // 전체 해시가 달라 제외된 파일 수
+
+    // 확인용 해시 (선택)
+    private String hashAlgorithm;            // 부분/전체 해시 알고리즘
+    private String confirmationAlgorithm;    // 확인용 해시 알고리즘 (null이면 사용 안 함)
+    private int confirmationHashed;          // 확인용 해시를 계산한 파일 수
+    private int confirmationEliminated;      // 확인용 해시가 달라 제외된 파일 수
+
+    // 4단계: 바이트 비교 (선택)
+    private boolean byteCompareEnabled;      // 바이트 비교 모드 사용 여부
+    private int byteCompared;                // 바이트 비교한 파일 수
+    private int byteEliminated;              // 바이트 비교에서 내용이 달라 제외된 파일 수
+
+    // 비슷한 이미지 (지각 해시)
+    private int perceptualHashed;            // 지각 해시를 계산한(또는 캐시에서 읽은) 이미지 수
+    private int visualDuplicates;            // 비슷한 이미지 그룹에 포함된 이미지 수
+
+    // 비슷한 문서 (MinHash)
+    private int minHashSigned;               // MinHash 서명을 만든(또는 캐시에서 읽은) 문서 수
+    private int nearDuplicates;              // 비슷한 문서 그룹에 포함된 문서 수
+
+    // 일부 중복 (청크 비교, 선택)
+    private int chunkedFiles;                // 청크로 나눈 큰 파일 수
+    private int partialDuplicates;           // 일부 중복 그룹에 포함된 파일 수
+
+    private int cacheHits;                   // 저장된 해시를 재사용한 횟수 (부분 + 전체 + 지각 + MinHash)
+    private int hashFailures;                // 읽기 실패로 제외된 파일 수
+    private int confirmedDuplicates;         // 최종적으로 중복 그룹에 포함된 파일 수
+    private long bytesRead;                  // 해시/비교를 위해 읽은 총 바이트 수
+    private long elapsedMillis;              // 소요 시간
+
+    /**
+     * 단계별 제외 현황 요약
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("입력 %d개 (0바이트 %d개 제외)%n", totalFiles, emptyFilesSkipped));
+        summary.append(String.format("  • 크기 비교: %d개 제외%n", sizeEliminated));
+        summary.append(String.format("  • 부분 해시: %d개 계산, %d개 제외%n", partialHashed, partialEliminated));
+        summary.append(String.format("  • 전체 해시 (%s): %d개 계산 (%d개 생략), %d개 제외%n",
+                hashAlgorithm, fullHashed, fullHashSkipped, fullEliminated));
+        if (confirmationAlgorithm != null) {
+            summary.append(String.format("  • 확인 해시 (%s): %d개 계산, %d개 제외%n",
+                    confirmationAlgorithm, confirmationHashed, confirmationEliminated));
+        }
+        if (byteCompareEnabled) {
+            summary.append(String.format("  • 바이트 비교: %d개 비교, %d개 제외%n", byteCompared, byteEliminated));
+        }
+        if (cacheHits > 0) {
+            summary.append(String.format("  • 해시 캐시 재사용: %d회%n", cacheHits));
+        }
+        if (hashFailures > 0) {
+            summary.append(String.format("  • 읽기 실패: %d개%n", hashFailures));
+        }
+        summary.append(String.format("  • 확정된 중복: %d개, 읽은 용량 %s, %dms",
+                confirmedDuplicates, formatFileSize(bytesRead), elapsedMillis));
+        return summary.toString();
+    }
+
+    /**
+     * 파일 크기 포맷팅 유틸리티
+     */
+    private String formatFileSize(long bytes) {
+        if (bytes < 1024) return bytes + " B";
+        if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+        if (bytes < 1024 * 1024 * 1024) return String.format("%.1f MB", bytes / (1024.0 * 1024));
+        return String.format("%.1f GB", bytes / (1024.0 * 1024 * 1024));
+    }
+}
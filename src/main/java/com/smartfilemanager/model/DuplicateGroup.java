@@ -32,7 +32,7 @@ public class DuplicateGroup {
 
     // 통계 정보
     private long totalSize;                    // 그룹 총 크기
-    private long duplicateSize;               // 중복으로 낭비되는 크기
+    private long duplicateSize;               // 중복으로 낭비되는 크기 (일부 중복은 청크 기준 절약 가능 크기)
     private int fileCount;                    // 파일 개수
 
     // 메타데이터
@@ -99,6 +99,12 @@ public class DuplicateGroup {
 
         if (type == DuplicateType.EXACT) {
             summary.append("🔄 정확한 중복: ");
+        } else if (type == DuplicateType.VISUAL) {
+            summary.append("🖼️ 비슷한 이미지: ");
+        } else if (type == DuplicateType.NEAR_DUPLICATE) {
+            summary.append("📝 비슷한 문서: ");
+        } else if (type == DuplicateType.PARTIAL) {
+            summary.append("🧩 일부 중복: ");
         } else {
             summary.append("🔍 유사한 파일: ");
         }
@@ -106,7 +112,7 @@ public class DuplicateGroup {
         summary.append(fileCount).append("개 파일, ");
         summary.append("절약 가능: ").append(getFormattedSavings());
 
-        if (type == DuplicateType.SIMILAR) {
+        if (type != DuplicateType.EXACT) {
             summary.append(" (유사도: ").append(String.format("%.0f%%", similarityScore * 100)).append(")");
         }
 
@@ -172,4 +178,31 @@ public class DuplicateGroup {
         group.setSimilarityScore(similarityScore);
         return group;
     }
-}
\ No newline at end of file
+
+    /**
+     * 비슷한 이미지 그룹 생성 (지각 해시 기반)
+     */
+    public static DuplicateGroup createVisual(List<FileInfo> files, double similarityScore) {
+        DuplicateGroup group = create(files, DuplicateType.VISUAL);
+        group.setSimilarityScore(similarityScore);
+        return group;
+    }
+
+    /**
+     * 비슷한 문서 그룹 생성 (MinHash 기반)
+     */
+    public static DuplicateGroup createNearDuplicate(List<FileInfo> files, double similarityScore) {
+        DuplicateGroup group = create(files, DuplicateType.NEAR_DUPLICATE);
+        group.setSimilarityScore(similarityScore);
+        return group;
+    }
+
+    /**
+     * 일부 중복 그룹 생성 (청크 기반, duplicateSize는 호출하는 쪽에서 실제 공유 크기로 설정)
+     */
+    public static DuplicateGroup createPartial(List<FileInfo> files, double sharedRatio) {
+        DuplicateGroup group = create(files, DuplicateType.PARTIAL);
+        group.setSimilarityScore(sharedRatio);
+        return group;
+    }
+}
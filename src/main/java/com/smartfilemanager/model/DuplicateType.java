@@ -12,5 +12,20 @@ public enum DuplicateType {
     /**
      * 유사한 파일 - 파일명이나 크기가 비슷하지만 내용은 다를 수 있음
      */
-    SIMILAR
+    SIMILAR,
+
+    /**
+     * 비슷한 이미지 - 다시 인코딩하거나 크기를 바꾼 사진처럼 바이트는 다르지만 보이는 내용이 거의 같음 (지각 해시)
+     */
+    VISUAL,
+
+    /**
+     * 비슷한 문서 - 조금씩 고친 보고서나 설정 파일처럼 본문 대부분이 같음 (MinHash 추정 자카드 유사도)
+     */
+    NEAR_DUPLICATE,
+
+    /**
+     * 일부 중복 - VM 이미지, 로그 묶음, 편집한 영상처럼 큰 파일의 상당 부분이 같은 청크로 이루어짐
+     */
+    PARTIAL
 }
\ No newline at end of file
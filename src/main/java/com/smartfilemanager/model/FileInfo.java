@@ -30,6 +30,7 @@ public class FileInfo {
     private String mimeType;           // MIME 타입
     private LocalDateTime createdDate; // 생성 날짜
     private LocalDateTime modifiedDate;// 수정 날짜
+    private LocalDateTime accessedDate;// 마지막 접근 날짜 (파일 시스템이 기록하지 않으면 null)
 
     // 분석 결과
     private String detectedCategory;    // "Documents", "Images", "Videos", "Audio", "Archives" 등
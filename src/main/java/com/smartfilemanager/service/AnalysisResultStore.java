@@ -0,0 +1,112 @@
+package com.smartfilemanager.service;
+
+import com.smartfilemanager.model.DuplicateGroup;
+import com.smartfilemanager.model.FileInfo;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 분석 결과 공유 저장소 (메모리)
+ * 중복 탐지 결과를 분석한 파일 목록의 스냅샷(경로별 크기 + 수정 시간)과 탐지 설정과 함께 보관합니다.
+ * "중복 파일 찾기"와 "불필요한 파일 정리"가 같은 인스턴스를 공유해서, 파일 목록이 그대로이면
+ * 정리 분석이 중복 탐지를 다시 돌리지 않습니다. 결과가 바뀔 때마다 버전이 올라갑니다.
+ */
+public class AnalysisResultStore {
+
+    private static volatile AnalysisResultStore shared;
+
+    private long version = 0;
+    private DuplicateSnapshot duplicates;
+
+    /**
+     * 공유 인스턴스
+     */
+    public static AnalysisResultStore getShared() {
+        if (shared == null) {
+            synchronized (AnalysisResultStore.class) {
+                if (shared == null) {
+                    shared = new AnalysisResultStore();
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * 같은 파일 목록(경로, 크기, 수정 시간)과 같은 설정으로 저장된 중복 그룹, 없으면 null
+     */
+    public synchronized List<DuplicateGroup> getDuplicateGroups(List<FileInfo> files, String settingsKey) {
+        if (duplicates == null || !duplicates.settingsKey.equals(settingsKey) ||
+                duplicates.fileStates.size() != files.size()) {
+            return null;
+        }
+
+        for (FileInfo file : files) {
+            FileState state = duplicates.fileStates.get(file.getFilePath());
+            if (state == null || !state.matches(file)) {
+                return null;
+            }
+        }
+        return duplicates.groups;
+    }
+
+    /**
+     * 저장된 중복 결과의 버전, 없으면 0
+     */
+    public synchronized long getDuplicateVersion() {
+        return duplicates != null ? duplicates.version : 0;
+    }
+
+    /**
+     * 새 중복 탐지 결과 저장 (이전 결과는 버림)
+     *
+     * @return 새 버전 번호
+     */
+    public synchronized long putDuplicateGroups(List<FileInfo> files, String settingsKey, List<DuplicateGroup> groups) {
+        Map<String, FileState> fileStates = new HashMap<>(files.size() * 2);
+        for (FileInfo file : files) {
+            fileStates.put(file.getFilePath(), new FileState(file));
+        }
+
+        version++;
+        duplicates = new DuplicateSnapshot(version, settingsKey, fileStates, Collections.unmodifiableList(groups));
+        return version;
+    }
+
+    private static final class DuplicateSnapshot {
+        final long version;
+        final String settingsKey;
+        final Map<String, FileState> fileStates;
+        final List<DuplicateGroup> groups;
+
+        DuplicateSnapshot(long version, String settingsKey, Map<String, FileState> fileStates,
+                          List<DuplicateGroup> groups) {
+            this.version = version;
+            this.settingsKey = settingsKey;
+            this.fileStates = fileStates;
+            this.groups = groups;
+        }
+    }
+
+    /**
+     * 분석 당시 파일 상태 (스캔 때 읽은 크기 + 수정 시간)
+     */
+    private static final class FileState {
+        final long size;
+        final LocalDateTime modified;
+
+        FileState(FileInfo file) {
+            this.size = file.getFileSize();
+            this.modified = file.getModifiedDate();
+        }
+
+        boolean matches(FileInfo file) {
+            return size == file.getFileSize() && Objects.equals(modified, file.getModifiedDate());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.smartfilemanager.service;
 
+import com.smartfilemanager.constants.FileConstants;
 import com.smartfilemanager.model.*;
 
 import java.io.File;
@@ -9,7 +10,9 @@ import java.nio.file.attribute.BasicFileAttributes;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -40,6 +43,10 @@ public class CleanupDetectorService {
             "application data\\temp", ".cache", ".tmp"
     );
 
+    private static final Pattern DATE_IN_NAME = Pattern.compile("\\d{4}-\\d{2}-\\d{2}");
+
+    private static final int SCAN_CHUNK_SIZE = 4096;   // 병렬 검사 단위 (파일 수)
+
     private final DuplicateDetectorService duplicateDetectorService;
 
     public CleanupDetectorService() {
@@ -48,6 +55,8 @@ public class CleanupDetectorService {
 
     /**
      * 파일 목록에서 모든 정리 후보들을 찾습니다
+     * 중복 탐지를 제외한 검사는 파일 목록을 한 번만 훑으며, 파일마다 소문자 경로/이름 등을 한 번만 만들고
+     * 모든 검사를 그 값으로 판정합니다 (목록을 나눠 병렬 처리)
      */
     public List<CleanupCandidate> findCleanupCandidates(List<FileInfo> files) {
         List<CleanupCandidate> candidates = new ArrayList<>();
@@ -55,29 +64,29 @@ public class CleanupDetectorService {
         System.out.println("[INFO] 불필요한 파일 탐지 시작: " + files.size() + "개 파일 분석");
 
         try {
-            // 1. 임시 파일 탐지
-            candidates.addAll(findTempFiles(files));
+            // 1. 파일별 검사 (임시/빈 파일/캐시/로그/설치 파일/백업/대용량) - 한 번에
+            FusedScanResult scan = scanFiles(files);
 
-            // 2. 빈 파일 탐지
-            candidates.addAll(findEmptyFiles(files));
+            candidates.addAll(scan.byDetector.get(Detector.TEMP));
+            candidates.addAll(scan.byDetector.get(Detector.EMPTY));
+            candidates.addAll(findEmptyDirectories(scan.parentDirectories));
 
-            // 3. 중복 파일 탐지 (기존 서비스 활용)
+            // 2. 중복 파일 탐지 (기존 서비스 활용)
             candidates.addAll(findDuplicateFiles(files));
 
-            // 4. 캐시 파일 탐지
-            candidates.addAll(findCacheFiles(files));
-
-            // 5. 로그 파일 탐지
-            candidates.addAll(findLogFiles(files));
-
-            // 6. 오래된 설치 파일 탐지
-            candidates.addAll(findOldInstallers(files));
+            candidates.addAll(scan.byDetector.get(Detector.CACHE));
+            candidates.addAll(scan.byDetector.get(Detector.LOG));
+            candidates.addAll(scan.byDetector.get(Detector.INSTALLER));
+            candidates.addAll(scan.byDetector.get(Detector.BACKUP));
+            candidates.addAll(scan.byDetector.get(Detector.LARGE_UNUSED));
 
-            // 7. 백업 파일 탐지
-            candidates.addAll(findBackupFiles(files));
+            // 폴더 후보의 크기에는 안의 파일이 모두 포함되므로 그 안의 후보는 빼서 같은 용량을 두 번 세지 않음
+            List<CleanupCandidate> unusedFolders = findLargeUnusedFolders();
+            candidates = excludeCoveredByFolders(candidates, unusedFolders);
+            candidates.addAll(unusedFolders);
 
-            // 8. 대용량 미사용 파일 탐지
-            candidates.addAll(findLargeUnusedFiles(files));
+            scan.byDetector.forEach((detector, found) ->
+                    System.out.println("[" + detector.name() + "] " + detector.label + " " + found.size() + "개 발견"));
 
         } catch (Exception e) {
             System.err.println("[ERROR] 파일 탐지 중 오류: " + e.getMessage());
@@ -93,93 +102,201 @@ public class CleanupDetectorService {
     }
 
     /**
-     * 임시 파일 탐지
+     * 파일 단위 검사 종류 (결과를 합치는 순서)
      */
-    private List<CleanupCandidate> findTempFiles(List<FileInfo> files) {
-        List<CleanupCandidate> tempFiles = new ArrayList<>();
-
-        for (FileInfo file : files) {
-            String fileName = file.getFileName().toLowerCase();
-            String extension = file.getFileExtension().toLowerCase();
-            String filePath = file.getFilePath().toLowerCase();
-
-            // 확장자 기반 탐지
-            if (TEMP_EXTENSIONS.contains(extension)) {
-                tempFiles.add(CleanupCandidate.create(
-                        file.getFilePath(),
-                        CleanupCategory.TEMP_FILES,
-                        SafetyLevel.SAFE,
-                        "임시 파일 확장자: ." + extension
-                ));
-                continue;
-            }
+    private enum Detector {
+        TEMP("임시 파일"),
+        EMPTY("빈 파일"),
+        CACHE("캐시 파일"),
+        LOG("로그 파일"),
+        INSTALLER("오래된 설치 파일"),
+        BACKUP("백업 파일"),
+        LARGE_UNUSED("대용량 미사용 파일");
+
+        private final String label;
+
+        Detector(String label) {
+            this.label = label;
+        }
+    }
 
-            // 파일명 기반 탐지
-            if (TEMP_FILENAMES.contains(fileName)) {
-                tempFiles.add(CleanupCandidate.create(
-                        file.getFilePath(),
-                        CleanupCategory.TEMP_FILES,
-                        SafetyLevel.SAFE,
-                        "시스템 임시 파일: " + fileName
-                ));
-                continue;
-            }
+    /**
+     * 파일 하나에 대해 한 번만 계산하는 정규화된 값들
+     */
+    private static final class FileFeatures {
+        final FileInfo file;
+        final String name;        // 소문자 파일명
+        final String extension;   // 소문자 확장자
+        final String path;        // 소문자 전체 경로
+
+        FileFeatures(FileInfo file) {
+            this.file = file;
+            this.name = file.getFileName().toLowerCase();
+            this.extension = file.getFileExtension() != null ? file.getFileExtension().toLowerCase() : "";
+            this.path = file.getFilePath().toLowerCase();
+        }
+    }
 
-            // 경로 기반 탐지
-            if (isInTempDirectory(filePath)) {
-                tempFiles.add(CleanupCandidate.create(
-                        file.getFilePath(),
-                        CleanupCategory.TEMP_FILES,
-                        SafetyLevel.SAFE,
-                        "임시 폴더 내 파일"
-                ));
-                continue;
+    /**
+     * 한 번의 순회 결과 (검사별 후보 + 빈 폴더 검사용 부모 폴더들)
+     */
+    private static final class FusedScanResult {
+        final Map<Detector, List<CleanupCandidate>> byDetector = new EnumMap<>(Detector.class);
+        final Set<String> parentDirectories = new LinkedHashSet<>();
+        final LargeUnusedFileTracker largeUnused;   // 대용량 미사용 파일은 상위 K개만 유지
+
+        FusedScanResult(LocalDateTime unusedCutoff) {
+            for (Detector detector : Detector.values()) {
+                byDetector.put(detector, new ArrayList<>());
             }
+            largeUnused = new LargeUnusedFileTracker(FileConstants.LargeUnusedFiles.TOP_K,
+                    FileConstants.LargeUnusedFiles.MIN_SIZE, unusedCutoff);
+        }
 
-            // 패턴 기반 탐지
-            if (fileName.startsWith("~$") || fileName.endsWith("~") ||
-                    fileName.contains(".tmp.") || fileName.contains("temp")) {
-                tempFiles.add(CleanupCandidate.create(
-                        file.getFilePath(),
-                        CleanupCategory.TEMP_FILES,
-                        SafetyLevel.LIKELY_SAFE,
-                        "임시 파일 패턴"
-                ));
-            }
+        void addAll(FusedScanResult other) {
+            other.byDetector.forEach((detector, found) -> byDetector.get(detector).addAll(found));
+            parentDirectories.addAll(other.parentDirectories);
+            largeUnused.addAll(other.largeUnused);
         }
+    }
 
-        System.out.println("[TEMP] 임시 파일 " + tempFiles.size() + "개 발견");
-        return tempFiles;
+    /**
+     * 파일 목록을 SCAN_CHUNK_SIZE씩 나눠 병렬로 검사하고, 원래 순서대로 합침
+     */
+    private FusedScanResult scanFiles(List<FileInfo> files) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime installerCutoff = now.minusDays(30);
+        LocalDateTime unusedCutoff = now.minusDays(FileConstants.LargeUnusedFiles.UNUSED_DAYS);
+
+        // 폴더 스캔 중에 이미 모은 결과가 이 목록 그대로라면 다시 검사하지 않음
+        LargeUnusedFileTracker streamed = findStreamedLargeUnused(files);
+        boolean trackLargeUnused = streamed == null;
+
+        int chunkCount = (files.size() + SCAN_CHUNK_SIZE - 1) / SCAN_CHUNK_SIZE;
+        List<FusedScanResult> chunkResults = IntStream.range(0, chunkCount)
+                .parallel()
+                .mapToObj(chunk -> {
+                    FusedScanResult result = new FusedScanResult(unusedCutoff);
+                    int end = Math.min(files.size(), (chunk + 1) * SCAN_CHUNK_SIZE);
+                    for (int i = chunk * SCAN_CHUNK_SIZE; i < end; i++) {
+                        scanFile(new FileFeatures(files.get(i)), installerCutoff, trackLargeUnused, result);
+                    }
+                    return result;
+                })
+                .collect(Collectors.toList());
+
+        FusedScanResult merged = new FusedScanResult(unusedCutoff);
+        chunkResults.forEach(merged::addAll);
+
+        // 상위 K개만 후보로 만듦 (큰 순서)
+        LargeUnusedFileTracker tracker = streamed != null ? streamed : merged.largeUnused;
+        List<CleanupCandidate> largeUnused = merged.byDetector.get(Detector.LARGE_UNUSED);
+        for (FileInfo file : tracker.getTopFiles()) {
+            largeUnused.add(createLargeUnusedCandidate(file));
+        }
+        if (tracker.getStaleFileCount() > largeUnused.size()) {
+            System.out.println("[LARGE_UNUSED] 미사용 대용량 파일 " + tracker.getStaleFileCount() +
+                    "개 중 큰 순서로 " + largeUnused.size() + "개만 후보로 표시");
+        }
+        return merged;
     }
 
     /**
-     * 빈 파일 및 폴더 탐지
+     * 마지막 폴더 스캔 중에 모은 대용량 미사용 파일 결과 (이 목록과 맞지 않으면 null)
+     * 스캔 뒤에 파일이 정리/이동되어 목록이 달라졌으면 다시 검사해야 상위 K개가 정확합니다.
      */
-    private List<CleanupCandidate> findEmptyFiles(List<FileInfo> files) {
-        List<CleanupCandidate> emptyFiles = new ArrayList<>();
+    private LargeUnusedFileTracker findStreamedLargeUnused(List<FileInfo> files) {
+        LargeUnusedFileTracker streamed = LargeUnusedFileTracker.getScanResult();
+        if (streamed == null || streamed.getOfferedCount() != files.size()) {
+            return null;
+        }
 
+        Set<String> paths = new HashSet<>();
         for (FileInfo file : files) {
-            // 0바이트 파일
-            if (file.getFileSize() == 0) {
-                emptyFiles.add(CleanupCandidate.create(
-                        file.getFilePath(),
-                        CleanupCategory.EMPTY_FILES,
-                        SafetyLevel.SAFE,
-                        "0바이트 빈 파일"
-                ));
+            paths.add(file.getFilePath());
+        }
+        for (FileInfo file : streamed.getTopFiles()) {
+            if (!paths.contains(file.getFilePath())) {
+                return null;
             }
         }
+        System.out.println("[LARGE_UNUSED] 폴더 스캔 중에 모은 결과 사용 (" + streamed.getOfferedCount() + "개 파일)");
+        return streamed;
+    }
+
+    /**
+     * 파일 하나에 모든 검사 적용 (검사마다 최대 1개의 후보)
+     */
+    private void scanFile(FileFeatures f, LocalDateTime installerCutoff, boolean trackLargeUnused,
+                          FusedScanResult result) {
+        FileInfo file = f.file;
+
+        String parent = new File(file.getFilePath()).getParent();
+        if (parent != null) {
+            result.parentDirectories.add(parent);
+        }
 
-        // 빈 폴더 탐지 (추가 검사)
-        Set<String> parentDirs = files.stream()
-                .map(f -> new File(f.getFilePath()).getParent())
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
+        addIfFound(result, Detector.TEMP, detectTempFile(f));
+        if (file.getFileSize() == 0) {
+            addIfFound(result, Detector.EMPTY,
+                    CleanupCandidate.create(file, CleanupCategory.EMPTY_FILES, SafetyLevel.SAFE, "0바이트 빈 파일"));
+        }
+        addIfFound(result, Detector.CACHE, detectCacheFile(f));
+        addIfFound(result, Detector.LOG, detectLogFile(f));
+        addIfFound(result, Detector.INSTALLER, detectOldInstaller(f, installerCutoff));
+        addIfFound(result, Detector.BACKUP, detectBackupFile(f));
+        if (trackLargeUnused) {
+            result.largeUnused.offer(file);
+        }
+    }
+
+    private void addIfFound(FusedScanResult result, Detector detector, CleanupCandidate candidate) {
+        if (candidate != null) {
+            result.byDetector.get(detector).add(candidate);
+        }
+    }
+
+    /**
+     * 임시 파일 탐지
+     */
+    private CleanupCandidate detectTempFile(FileFeatures f) {
+        // 확장자 기반 탐지
+        if (TEMP_EXTENSIONS.contains(f.extension)) {
+            return CleanupCandidate.create(f.file, CleanupCategory.TEMP_FILES, SafetyLevel.SAFE,
+                    "임시 파일 확장자: ." + f.extension);
+        }
+
+        // 파일명 기반 탐지
+        if (TEMP_FILENAMES.contains(f.name)) {
+            return CleanupCandidate.create(f.file, CleanupCategory.TEMP_FILES, SafetyLevel.SAFE,
+                    "시스템 임시 파일: " + f.name);
+        }
+
+        // 경로 기반 탐지
+        if (isInTempDirectory(f.path)) {
+            return CleanupCandidate.create(f.file, CleanupCategory.TEMP_FILES, SafetyLevel.SAFE,
+                    "임시 폴더 내 파일");
+        }
+
+        // 패턴 기반 탐지
+        if (f.name.startsWith("~$") || f.name.endsWith("~") ||
+                f.name.contains(".tmp.") || f.name.contains("temp")) {
+            return CleanupCandidate.create(f.file, CleanupCategory.TEMP_FILES, SafetyLevel.LIKELY_SAFE,
+                    "임시 파일 패턴");
+        }
+        return null;
+    }
+
+    /**
+     * 빈 폴더 탐지 (스캔한 파일들의 부모 폴더 중)
+     */
+    private List<CleanupCandidate> findEmptyDirectories(Set<String> parentDirs) {
+        List<CleanupCandidate> emptyDirs = new ArrayList<>();
 
         for (String dirPath : parentDirs) {
             File dir = new File(dirPath);
             if (dir.isDirectory() && isEmptyDirectory(dir)) {
-                emptyFiles.add(CleanupCandidate.create(
+                emptyDirs.add(CleanupCandidate.create(
                         dirPath,
                         CleanupCategory.EMPTY_FILES,
                         SafetyLevel.LIKELY_SAFE,
@@ -188,32 +305,49 @@ public class CleanupDetectorService {
             }
         }
 
-        System.out.println("[EMPTY] 빈 파일/폴더 " + emptyFiles.size() + "개 발견");
-        return emptyFiles;
+        System.out.println("[EMPTY] 빈 폴더 " + emptyDirs.size() + "개 발견");
+        return emptyDirs;
     }
 
     /**
-     * 중복 파일 탐지 (기존 서비스 활용)
+     * 중복 파일 탐지 (기존 서비스 활용, 저장된 중복 분석 결과 재사용)
      */
     private List<CleanupCandidate> findDuplicateFiles(List<FileInfo> files) {
         List<CleanupCandidate> duplicates = new ArrayList<>();
 
         try {
-            List<DuplicateGroup> duplicateGroups = duplicateDetectorService.findDuplicates(files);
+            // "중복 파일 찾기"를 같은 목록으로 이미 실행했다면 그 결과를 그대로 사용
+            List<DuplicateGroup> duplicateGroups = duplicateDetectorService.findDuplicatesReusingResults(files);
 
             for (DuplicateGroup group : duplicateGroups) {
+                // 일부 중복은 파일마다 고유한 내용이 있어 삭제 후보로 올리지 않음
+                if (group.getType() == DuplicateType.PARTIAL) {
+                    continue;
+                }
                 if (group.getRecommendedDelete() != null) {
                     for (FileInfo fileToDelete : group.getRecommendedDelete()) {
                         SafetyLevel safety = group.getType() == DuplicateType.EXACT ?
                                 SafetyLevel.LIKELY_SAFE : SafetyLevel.CAUTION;
 
+                        String reason;
+                        if (group.getType() == DuplicateType.EXACT) {
+                            reason = "정확한 중복 파일";
+                        } else if (group.getType() == DuplicateType.VISUAL) {
+                            reason = "비슷한 이미지 (" +
+                                    String.format("%.0f%%", group.getSimilarityScore() * 100) + " 유사)";
+                        } else if (group.getType() == DuplicateType.NEAR_DUPLICATE) {
+                            reason = "비슷한 문서 (" +
+                                    String.format("%.0f%%", group.getSimilarityScore() * 100) + " 유사)";
+                        } else {
+                            reason = "유사한 파일 (" +
+                                    String.format("%.0f%%", group.getSimilarityScore() * 100) + " 유사)";
+                        }
+
                         duplicates.add(CleanupCandidate.create(
-                                fileToDelete.getFilePath(),
+                                fileToDelete,
                                 CleanupCategory.DUPLICATE_FILES,
                                 safety,
-                                group.getType() == DuplicateType.EXACT ?
-                                        "정확한 중복 파일" : "유사한 파일 (" +
-                                        String.format("%.0f%%", group.getSimilarityScore() * 100) + " 유사)"
+                                reason
                         ));
                     }
                 }
@@ -230,186 +364,161 @@ public class CleanupDetectorService {
     /**
      * 캐시 파일 탐지
      */
-    private List<CleanupCandidate> findCacheFiles(List<FileInfo> files) {
-        List<CleanupCandidate> cacheFiles = new ArrayList<>();
-
-        for (FileInfo file : files) {
-            String filePath = file.getFilePath().toLowerCase();
-            String fileName = file.getFileName().toLowerCase();
-
-            // 캐시 디렉토리 내 파일
-            if (isInCacheDirectory(filePath)) {
-                cacheFiles.add(CleanupCandidate.create(
-                        file.getFilePath(),
-                        CleanupCategory.CACHE_FILES,
-                        SafetyLevel.SAFE,
-                        "캐시 디렉토리 내 파일"
-                ));
-                continue;
-            }
-
-            // 브라우저 캐시 패턴
-            if (filePath.contains("appdata\\local\\google\\chrome\\user data\\default\\cache") ||
-                    filePath.contains("appdata\\local\\mozilla\\firefox\\profiles") ||
-                    filePath.contains("appdata\\local\\microsoft\\edge\\user data\\default\\cache")) {
-                cacheFiles.add(CleanupCandidate.create(
-                        file.getFilePath(),
-                        CleanupCategory.CACHE_FILES,
-                        SafetyLevel.SAFE,
-                        "브라우저 캐시 파일"
-                ));
-                continue;
-            }
+    private CleanupCandidate detectCacheFile(FileFeatures f) {
+        // 캐시 디렉토리 내 파일
+        if (isInCacheDirectory(f.path)) {
+            return CleanupCandidate.create(f.file, CleanupCategory.CACHE_FILES, SafetyLevel.SAFE,
+                    "캐시 디렉토리 내 파일");
+        }
 
-            // 캐시 파일 패턴
-            if (fileName.contains("cache") || fileName.contains("cached")) {
-                cacheFiles.add(CleanupCandidate.create(
-                        file.getFilePath(),
-                        CleanupCategory.CACHE_FILES,
-                        SafetyLevel.LIKELY_SAFE,
-                        "캐시 파일 패턴"
-                ));
-            }
+        // 브라우저 캐시 패턴
+        if (f.path.contains("appdata\\local\\google\\chrome\\user data\\default\\cache") ||
+                f.path.contains("appdata\\local\\mozilla\\firefox\\profiles") ||
+                f.path.contains("appdata\\local\\microsoft\\edge\\user data\\default\\cache")) {
+            return CleanupCandidate.create(f.file, CleanupCategory.CACHE_FILES, SafetyLevel.SAFE,
+                    "브라우저 캐시 파일");
         }
 
-        System.out.println("[CACHE] 캐시 파일 " + cacheFiles.size() + "개 발견");
-        return cacheFiles;
+        // 캐시 파일 패턴
+        if (f.name.contains("cache") || f.name.contains("cached")) {
+            return CleanupCandidate.create(f.file, CleanupCategory.CACHE_FILES, SafetyLevel.LIKELY_SAFE,
+                    "캐시 파일 패턴");
+        }
+        return null;
     }
 
     /**
      * 로그 파일 탐지
      */
-    private List<CleanupCandidate> findLogFiles(List<FileInfo> files) {
-        List<CleanupCandidate> logFiles = new ArrayList<>();
-
-        for (FileInfo file : files) {
-            String fileName = file.getFileName().toLowerCase();
-            String extension = file.getFileExtension().toLowerCase();
-
-            // 로그 파일 확장자
-            if (LOG_EXTENSIONS.contains(extension)) {
-                // 파일 내용으로 로그 파일인지 확인
-                if (isLogFile(file)) {
-                    SafetyLevel safety = file.getFileSize() > 50 * 1024 * 1024 ? // 50MB 이상
-                            SafetyLevel.LIKELY_SAFE : SafetyLevel.CAUTION;
-
-                    logFiles.add(CleanupCandidate.create(
-                            file.getFilePath(),
-                            CleanupCategory.LOG_FILES,
-                            safety,
-                            "로그 파일 (" + file.getFormattedFileSize() + ")"
-                    ));
-                }
-                continue;
-            }
-
-            // 로그 파일 패턴
-            if (fileName.contains("log") && !fileName.contains("dialog") && !fileName.contains("catalog")) {
-                logFiles.add(CleanupCandidate.create(
-                        file.getFilePath(),
-                        CleanupCategory.LOG_FILES,
-                        SafetyLevel.CAUTION,
-                        "로그 파일 패턴"
-                ));
+    private CleanupCandidate detectLogFile(FileFeatures f) {
+        // 로그 파일 확장자
+        if (LOG_EXTENSIONS.contains(f.extension)) {
+            // 파일 내용으로 로그 파일인지 확인
+            if (isLogFile(f.name)) {
+                SafetyLevel safety = f.file.getFileSize() > 50 * 1024 * 1024 ? // 50MB 이상
+                        SafetyLevel.LIKELY_SAFE : SafetyLevel.CAUTION;
+
+                return CleanupCandidate.create(f.file, CleanupCategory.LOG_FILES, safety,
+                        "로그 파일 (" + f.file.getFormattedFileSize() + ")");
             }
+            return null;
         }
 
-        System.out.println("[LOG] 로그 파일 " + logFiles.size() + "개 발견");
-        return logFiles;
+        // 로그 파일 패턴
+        if (f.name.contains("log") && !f.name.contains("dialog") && !f.name.contains("catalog")) {
+            return CleanupCandidate.create(f.file, CleanupCategory.LOG_FILES, SafetyLevel.CAUTION,
+                    "로그 파일 패턴");
+        }
+        return null;
     }
 
     /**
-     * 오래된 설치 파일 탐지
+     * 오래된 설치 파일 탐지 (30일 이상 된 설치 파일)
      */
-    private List<CleanupCandidate> findOldInstallers(List<FileInfo> files) {
-        List<CleanupCandidate> installers = new ArrayList<>();
-
-        for (FileInfo file : files) {
-            String extension = file.getFileExtension().toLowerCase();
-            String fileName = file.getFileName().toLowerCase();
-
-            // 설치 파일 확장자
-            if (INSTALLER_EXTENSIONS.contains(extension)) {
-                // 30일 이상 된 설치 파일
-                if (file.getModifiedDate() != null &&
-                        file.getModifiedDate().isBefore(LocalDateTime.now().minusDays(30))) {
-
-                    SafetyLevel safety = isLikelyInstaller(fileName) ?
-                            SafetyLevel.CAUTION : SafetyLevel.USER_DECISION;
-
-                    installers.add(CleanupCandidate.create(
-                            file.getFilePath(),
-                            CleanupCategory.OLD_INSTALLERS,
-                            safety,
-                            "30일 이상 된 설치 파일"
-                    ));
-                }
-            }
+    private CleanupCandidate detectOldInstaller(FileFeatures f, LocalDateTime cutoff) {
+        if (!INSTALLER_EXTENSIONS.contains(f.extension) ||
+                f.file.getModifiedDate() == null || !f.file.getModifiedDate().isBefore(cutoff)) {
+            return null;
         }
 
-        System.out.println("[INSTALLER] 오래된 설치 파일 " + installers.size() + "개 발견");
-        return installers;
+        SafetyLevel safety = isLikelyInstaller(f.name) ?
+                SafetyLevel.CAUTION : SafetyLevel.USER_DECISION;
+        return CleanupCandidate.create(f.file, CleanupCategory.OLD_INSTALLERS, safety,
+                "30일 이상 된 설치 파일");
     }
 
     /**
      * 백업 파일 탐지
      */
-    private List<CleanupCandidate> findBackupFiles(List<FileInfo> files) {
-        List<CleanupCandidate> backupFiles = new ArrayList<>();
+    private CleanupCandidate detectBackupFile(FileFeatures f) {
+        if (f.extension.equals("bak") || f.name.endsWith("~") ||
+                f.name.contains("backup") || f.name.contains("백업") ||
+                f.name.startsWith("copy of") || f.name.contains(" - 복사본")) {
+            return CleanupCandidate.create(f.file, CleanupCategory.BACKUP_FILES, SafetyLevel.CAUTION,
+                    "백업 파일 패턴");
+        }
+        return null;
+    }
 
-        for (FileInfo file : files) {
-            String fileName = file.getFileName().toLowerCase();
-            String extension = file.getFileExtension().toLowerCase();
-
-            // 백업 파일 패턴
-            if (extension.equals("bak") || fileName.endsWith("~") ||
-                    fileName.contains("backup") || fileName.contains("백업") ||
-                    fileName.startsWith("copy of") || fileName.contains(" - 복사본")) {
-
-                backupFiles.add(CleanupCandidate.create(
-                        file.getFilePath(),
-                        CleanupCategory.BACKUP_FILES,
-                        SafetyLevel.CAUTION,
-                        "백업 파일 패턴"
-                ));
-            }
+    /**
+     * 대용량 미사용 파일 후보 (100MB 이상이고 90일 이상 미사용, 접근 시간이 없으면 수정 시간 기준)
+     */
+    private CleanupCandidate createLargeUnusedCandidate(FileInfo file) {
+        String unused = file.getAccessedDate() != null ? "미접근" : "미수정";
+        return CleanupCandidate.create(file, CleanupCategory.LARGE_UNUSED, SafetyLevel.USER_DECISION,
+                FileConstants.LargeUnusedFiles.UNUSED_DAYS + "일 이상 " + unused +
+                        " 대용량 파일 (" + file.getFormattedFileSize() + ")");
+    }
+
+    /**
+     * 대용량 미사용 폴더 탐지 (1GB 이상이고 안의 파일이 모두 90일 이상 미수정)
+     * 스캔 때 만든 디렉토리 집계 트리만 조회하므로 폴더를 다시 훑지 않습니다
+     */
+    private List<CleanupCandidate> findLargeUnusedFolders() {
+        List<CleanupCandidate> folders = new ArrayList<>();
+
+        List<DirectoryUsage> unused = DirectorySizeIndex.getShared().findUnusedDirectories(
+                FileConstants.DirectorySpace.UNUSED_FOLDER_MIN_SIZE,
+                LocalDateTime.now().minusDays(FileConstants.DirectorySpace.UNUSED_DAYS));
+        for (DirectoryUsage usage : unused) {
+            folders.add(CleanupCandidate.create(usage, CleanupCategory.LARGE_UNUSED, SafetyLevel.USER_DECISION,
+                    FileConstants.DirectorySpace.UNUSED_DAYS + "일 이상 수정되지 않은 대용량 폴더 (" +
+                            usage.getFileCount() + "개 파일, " + usage.getFormattedSize() + ")"));
         }
 
-        System.out.println("[BACKUP] 백업 파일 " + backupFiles.size() + "개 발견");
-        return backupFiles;
+        System.out.println("[LARGE_UNUSED] 대용량 미사용 폴더 " + folders.size() + "개 발견");
+        return folders;
     }
 
     /**
-     * 대용량 미사용 파일 탐지
+     * 폴더 후보 안에 있는 후보 제외 (폴더를 정리하면 함께 정리됨)
      */
-    private List<CleanupCandidate> findLargeUnusedFiles(List<FileInfo> files) {
-        List<CleanupCandidate> largeFiles = new ArrayList<>();
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(90); // 90일 기준
+    private List<CleanupCandidate> excludeCoveredByFolders(List<CleanupCandidate> candidates,
+                                                           List<CleanupCandidate> folders) {
+        if (folders.isEmpty()) {
+            return candidates;
+        }
 
-        for (FileInfo file : files) {
-            // 100MB 이상이고 90일 이상 미접근
-            if (file.getFileSize() >= 100 * 1024 * 1024 && // 100MB
-                    file.getModifiedDate() != null &&
-                    file.getModifiedDate().isBefore(cutoffDate)) {
-
-                largeFiles.add(CleanupCandidate.create(
-                        file.getFilePath(),
-                        CleanupCategory.LARGE_UNUSED,
-                        SafetyLevel.USER_DECISION,
-                        "90일 이상 미접근 대용량 파일 (" + file.getFormattedFileSize() + ")"
-                ));
+        Set<Path> folderPaths = new HashSet<>();
+        for (CleanupCandidate folder : folders) {
+            folderPaths.add(Paths.get(folder.getFilePath()));
+        }
+
+        List<CleanupCandidate> remaining = new ArrayList<>(candidates.size());
+        int excluded = 0;
+        for (CleanupCandidate candidate : candidates) {
+            if (isUnderAny(Paths.get(candidate.getFilePath()), folderPaths)) {
+                excluded++;
+            } else {
+                remaining.add(candidate);
             }
         }
 
-        System.out.println("[LARGE] 대용량 미사용 파일 " + largeFiles.size() + "개 발견");
-        return largeFiles;
+        if (excluded > 0) {
+            System.out.println("[LARGE_UNUSED] 대용량 미사용 폴더에 포함된 후보 " + excluded + "개는 폴더로 대신 표시");
+        }
+        return remaining;
+    }
+
+    private boolean isUnderAny(Path path, Set<Path> folders) {
+        for (Path parent = path.getParent(); parent != null; parent = parent.getParent()) {
+            if (folders.contains(parent)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     // 헬퍼 메서드들
 
     private boolean isInTempDirectory(String filePath) {
-        return CACHE_DIRECTORIES.stream()
-                .anyMatch(tempDir -> filePath.contains(tempDir.toLowerCase()));
+        // CACHE_DIRECTORIES는 모두 소문자
+        for (String tempDir : CACHE_DIRECTORIES) {
+            if (filePath.contains(tempDir)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private boolean isInCacheDirectory(String filePath) {
@@ -422,11 +531,10 @@ public class CleanupDetectorService {
         return contents != null && contents.length == 0;
     }
 
-    private boolean isLogFile(FileInfo file) {
+    private boolean isLogFile(String fileName) {
         // 간단한 휴리스틱: 파일명에 날짜나 로그 관련 키워드가 있는지 확인
-        String fileName = file.getFileName().toLowerCase();
-        return fileName.contains("log") || fileName.matches(".*\\d{4}-\\d{2}-\\d{2}.*") ||
-                fileName.contains("error") || fileName.contains("debug") || fileName.contains("trace");
+        return fileName.contains("log") || fileName.contains("error") || fileName.contains("debug") ||
+                fileName.contains("trace") || DATE_IN_NAME.matcher(fileName).find();
     }
 
     private boolean isLikelyInstaller(String fileName) {
@@ -0,0 +1,179 @@
+package com.smartfilemanager.service;
+
+import com.smartfilemanager.constants.FileConstants.HashingConcurrency;
+import com.smartfilemanager.util.DatabaseHelper;
+import com.smartfilemanager.util.DatabaseHelper.ContentHashEntry;
+
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 파일 내용 해시 캐시 (메모리 + SQLite)
+ * 크기 + 수정 시간 + fileKey가 계산 당시와 같으면 저장된 해시를 그대로 사용합니다.
+ * 중복 탐지, 정리 분석, 폴더 감시가 같은 인스턴스를 공유하도록 프로세스 전체에서 하나만 만듭니다.
+ * 메모리에는 최근에 쓴 파일 CACHED_FILES_MAX개만 두고, 밀려난 파일은 다음에 필요할 때 SQLite에서 다시 읽습니다.
+ */
+public class ContentHashCache {
+
+    private static volatile ContentHashCache shared;
+
+    private final DatabaseHelper databaseHelper;
+    private final boolean enabled;
+
+    // 경로 → (해시 종류 → 항목), 최근에 쓴 순서 (키가 있으면 데이터베이스에서 이미 불러온 경로, 저장된 해시가 없으면 빈 맵)
+    private final Map<String, Map<String, ContentHashEntry>> entries = Collections.synchronizedMap(
+            new LinkedHashMap<String, Map<String, ContentHashEntry>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Map<String, ContentHashEntry>> eldest) {
+                    return size() > HashingConcurrency.CACHED_FILES_MAX;
+                }
+            });
+    private final List<ContentHashEntry> pendingWrites = new ArrayList<>();
+    private final Set<String> pendingDeletes = new HashSet<>();
+
+    /**
+     * 공유 인스턴스
+     */
+    public static ContentHashCache getShared() {
+        if (shared == null) {
+            synchronized (ContentHashCache.class) {
+                if (shared == null) {
+                    shared = new ContentHashCache(new DatabaseHelper());
+                }
+            }
+        }
+        return shared;
+    }
+
+    public ContentHashCache(DatabaseHelper databaseHelper) {
+        this.databaseHelper = databaseHelper;
+        this.enabled = databaseHelper.isConnectionValid();
+
+        if (!enabled) {
+            System.err.println("[경고] 데이터베이스를 사용할 수 없어 해시 캐시는 메모리에만 유지됩니다");
+        }
+    }
+
+    /**
+     * 아직 불러오지 않은 파일들의 저장된 해시를 한 번에 메모리로 불러옴
+     */
+    public void preload(Collection<String> filePaths) {
+        List<String> missing = new ArrayList<>();
+        for (String filePath : filePaths) {
+            if (entries.putIfAbsent(filePath, new ConcurrentHashMap<>()) == null) {
+                missing.add(filePath);
+            }
+        }
+        if (!enabled || missing.isEmpty()) {
+            return;
+        }
+
+        for (ContentHashEntry entry : databaseHelper.loadContentHashes(missing)) {
+            entriesOf(entry.getFilePath()).putIfAbsent(entry.getHashType(), entry);
+        }
+    }
+
+    /**
+     * 파일 속성이 계산 당시와 같으면 저장된 해시, 아니면 null
+     */
+    public String get(Path file, String hashType, BasicFileAttributes attrs) {
+        String filePath = file.toString();
+        Map<String, ContentHashEntry> fileEntries = entries.get(filePath);
+        if (fileEntries == null) {
+            preload(Collections.singletonList(filePath));
+            fileEntries = entriesOf(filePath);
+        }
+
+        ContentHashEntry entry = fileEntries.get(hashType);
+        if (entry == null) {
+            return null;
+        }
+        if (!isUnchanged(entry, attrs)) {
+            fileEntries.remove(hashType, entry);
+            return null;
+        }
+        return entry.getHashValue();
+    }
+
+    /**
+     * 새로 계산한 해시 기록 (flush() 때 저장)
+     *
+     * @param attrs 해시 계산 직전에 읽은 파일 속성
+     */
+    public void put(Path file, String hashType, BasicFileAttributes attrs, String hashValue) {
+        ContentHashEntry entry = new ContentHashEntry();
+        entry.setFilePath(file.toString());
+        entry.setHashType(hashType);
+        entry.setFileKey(fileKeyOf(attrs));
+        entry.setFileSize(attrs.size());
+        entry.setModifiedTime(attrs.lastModifiedTime().toMillis());
+        entry.setHashValue(hashValue);
+        entry.setComputedAt(System.currentTimeMillis());
+
+        entriesOf(entry.getFilePath()).put(hashType, entry);
+        synchronized (pendingWrites) {
+            pendingWrites.add(entry);
+        }
+    }
+
+    /**
+     * 파일의 모든 해시를 무효화 (삭제되거나 바뀐 파일)
+     */
+    public void invalidate(Path file) {
+        String filePath = file.toString();
+        entries.put(filePath, new ConcurrentHashMap<>());
+        synchronized (pendingWrites) {
+            pendingWrites.removeIf(entry -> entry.getFilePath().equals(filePath));
+            pendingDeletes.add(filePath);
+        }
+    }
+
+    /**
+     * 쌓인 변경 사항을 데이터베이스에 저장
+     */
+    public void flush() {
+        List<ContentHashEntry> toWrite;
+        List<String> toDelete;
+        synchronized (pendingWrites) {
+            toWrite = new ArrayList<>(pendingWrites);
+            toDelete = new ArrayList<>(pendingDeletes);
+            pendingWrites.clear();
+            pendingDeletes.clear();
+        }
+
+        if (!enabled) {
+            return;
+        }
+        databaseHelper.deleteContentHashes(toDelete);
+        databaseHelper.saveContentHashes(toWrite);
+    }
+
+    private boolean isUnchanged(ContentHashEntry entry, BasicFileAttributes attrs) {
+        if (entry.getFileSize() != attrs.size() ||
+                entry.getModifiedTime() != attrs.lastModifiedTime().toMillis()) {
+            return false;
+        }
+
+        // 같은 경로에 다른 파일이 들어온 경우 (fileKey를 지원하지 않는 파일 시스템은 null)
+        String fileKey = fileKeyOf(attrs);
+        return fileKey == null || entry.getFileKey() == null || fileKey.equals(entry.getFileKey());
+    }
+
+    private Map<String, ContentHashEntry> entriesOf(String filePath) {
+        return entries.computeIfAbsent(filePath, k -> new ConcurrentHashMap<>());
+    }
+
+    private String fileKeyOf(BasicFileAttributes attrs) {
+        Object fileKey = attrs.fileKey();
+        return fileKey != null ? fileKey.toString() : null;
+    }
+}
@@ -0,0 +1,314 @@
+package com.smartfilemanager.service;
+
+import com.smartfilemanager.model.DirectoryUsage;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 디렉토리 집계 트리 (메모리)
+ * 스캔하면서 폴더마다 하위 전체의 파일 크기 합, 파일 수, 가장 최근/오래된 수정 시간을 모아 둡니다.
+ * 파일 하나가 추가/변경/삭제되면 그 파일의 상위 폴더들만 갱신하므로, 감시 서비스가 바로 반영할 수 있고
+ * "용량이 큰 폴더"나 "오래 안 쓴 큰 폴더" 조회는 디스크를 다시 훑지 않고 트리만 봅니다.
+ *
+ * 수정 시간의 최대/최소는 지워진 파일이 그 값을 가지고 있던 폴더만 표시해 두었다가 조회할 때 다시 계산합니다.
+ */
+public class DirectorySizeIndex {
+
+    private static volatile DirectorySizeIndex shared;
+
+    private Node root;
+    private final Map<Path, Node> directories = new HashMap<>();
+
+    /**
+     * 공유 인스턴스 (스캔 서비스와 감시 서비스가 같은 트리를 갱신)
+     */
+    public static DirectorySizeIndex getShared() {
+        if (shared == null) {
+            synchronized (DirectorySizeIndex.class) {
+                if (shared == null) {
+                    shared = new DirectorySizeIndex();
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * 새 스캔 루트로 트리를 비움
+     */
+    public synchronized void reset(Path scanRoot) {
+        directories.clear();
+        Path rootPath = scanRoot.toAbsolutePath().normalize();
+        root = new Node(null, rootPath);
+        directories.put(rootPath, root);
+    }
+
+    /**
+     * 현재 스캔 루트, 아직 스캔하지 않았으면 null
+     */
+    public synchronized Path getRoot() {
+        return root != null ? root.path : null;
+    }
+
+    /**
+     * 파일 추가 또는 변경 (스캔 루트 밖의 파일은 무시)
+     */
+    public synchronized void put(Path file, long size, long modifiedMillis) {
+        Path filePath = file.toAbsolutePath().normalize();
+        Path parentPath = filePath.getParent();
+        if (root == null || parentPath == null || !parentPath.startsWith(root.path)) {
+            return;
+        }
+
+        Node directory = directoryNode(parentPath);
+        FileStat previous = directory.files().put(filePath.getFileName().toString(), new FileStat(size, modifiedMillis));
+
+        long sizeDelta = size;
+        int countDelta = 1;
+        if (previous != null) {
+            sizeDelta -= previous.size;
+            countDelta = 0;
+            invalidateTimes(directory, previous.modified, previous.modified);
+        }
+
+        for (Node node = directory; node != null; node = node.parent) {
+            node.totalSize += sizeDelta;
+            node.fileCount += countDelta;
+            if (!node.timesDirty) {
+                node.newest = Math.max(node.newest, modifiedMillis);
+                node.oldest = Math.min(node.oldest, modifiedMillis);
+            }
+        }
+    }
+
+    /**
+     * 파일 또는 폴더(하위 전체) 제거
+     */
+    public synchronized void remove(Path path) {
+        if (root == null) {
+            return;
+        }
+        Path targetPath = path.toAbsolutePath().normalize();
+
+        Node subtree = directories.get(targetPath);
+        if (subtree != null && subtree != root) {
+            refreshTimes(subtree);
+            subtree.parent.children.remove(targetPath.getFileName().toString());
+            invalidateTimes(subtree.parent, subtree.newest, subtree.oldest);
+            subtract(subtree.parent, subtree.totalSize, subtree.fileCount);
+            forgetDirectories(subtree);
+            return;
+        }
+
+        Node directory = targetPath.getParent() != null ? directories.get(targetPath.getParent()) : null;
+        if (directory == null || directory.files == null) {
+            return;
+        }
+        FileStat removed = directory.files.remove(targetPath.getFileName().toString());
+        if (removed != null) {
+            invalidateTimes(directory, removed.modified, removed.modified);
+            subtract(directory, removed.size, 1);
+        }
+    }
+
+    /**
+     * 폴더 하나의 누적 사용량, 트리에 없으면 null
+     */
+    public synchronized DirectoryUsage getUsage(Path directory) {
+        Node node = directories.get(directory.toAbsolutePath().normalize());
+        return node != null ? toUsage(node) : null;
+    }
+
+    /**
+     * 하위 전체 크기가 가장 큰 폴더 n개 (스캔 루트 제외, 큰 순서)
+     */
+    public synchronized List<DirectoryUsage> topHeavyDirectories(int n) {
+        if (n <= 0) {
+            return new ArrayList<>();
+        }
+
+        // 크기 n의 최소 힙: 가장 작은 것을 밀어내며 큰 것만 남김
+        PriorityQueue<Node> heap = new PriorityQueue<>(n + 1, Comparator.comparingLong(node -> node.totalSize));
+        for (Node node : directories.values()) {
+            if (node == root || node.fileCount == 0) {
+                continue;
+            }
+            if (heap.size() < n) {
+                heap.add(node);
+            } else if (node.totalSize > heap.peek().totalSize) {
+                heap.poll();
+                heap.add(node);
+            }
+        }
+
+        List<DirectoryUsage> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            result.add(toUsage(heap.poll()));
+        }
+        result.sort(Comparator.comparingLong(DirectoryUsage::getTotalSize).reversed());
+        return result;
+    }
+
+    /**
+     * 하위 전체 크기가 minSize 이상이고 모든 파일이 cutoff 이전에 수정된 폴더들
+     * 조건을 만족하는 폴더의 하위 폴더는 따로 내지 않습니다 (가장 바깥 폴더만)
+     */
+    public synchronized List<DirectoryUsage> findUnusedDirectories(long minSize, LocalDateTime cutoff) {
+        List<DirectoryUsage> result = new ArrayList<>();
+        if (root == null || root.children == null) {
+            return result;
+        }
+
+        long cutoffMillis = cutoff.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        List<Node> stack = new ArrayList<>(root.children.values());
+        while (!stack.isEmpty()) {
+            Node node = stack.remove(stack.size() - 1);
+            // 하위 폴더는 상위보다 클 수 없으므로 여기서 가지치기
+            if (node.totalSize < minSize) {
+                continue;
+            }
+
+            refreshTimes(node);
+            if (node.newest < cutoffMillis) {
+                result.add(toUsage(node));
+            } else if (node.children != null) {
+                stack.addAll(node.children.values());
+            }
+        }
+
+        result.sort(Comparator.comparingLong(DirectoryUsage::getTotalSize).reversed());
+        return result;
+    }
+
+    private Node directoryNode(Path directoryPath) {
+        Node node = directories.get(directoryPath);
+        if (node != null) {
+            return node;
+        }
+
+        Node parent = directoryNode(directoryPath.getParent());
+        node = new Node(parent, directoryPath);
+        parent.children().put(directoryPath.getFileName().toString(), node);
+        directories.put(directoryPath, node);
+        return node;
+    }
+
+    private void subtract(Node from, long size, long count) {
+        for (Node node = from; node != null; node = node.parent) {
+            node.totalSize -= size;
+            node.fileCount -= count;
+        }
+    }
+
+    /**
+     * 빠진 값이 최대/최소였던 상위 폴더들에 다시 계산하라고 표시
+     */
+    private void invalidateTimes(Node from, long removedNewest, long removedOldest) {
+        for (Node node = from; node != null; node = node.parent) {
+            if (node.newest == removedNewest || node.oldest == removedOldest) {
+                node.timesDirty = true;
+            }
+        }
+    }
+
+    private void refreshTimes(Node node) {
+        if (!node.timesDirty) {
+            return;
+        }
+
+        long newest = Long.MIN_VALUE;
+        long oldest = Long.MAX_VALUE;
+        if (node.files != null) {
+            for (FileStat stat : node.files.values()) {
+                newest = Math.max(newest, stat.modified);
+                oldest = Math.min(oldest, stat.modified);
+            }
+        }
+        if (node.children != null) {
+            for (Node child : node.children.values()) {
+                refreshTimes(child);
+                newest = Math.max(newest, child.newest);
+                oldest = Math.min(oldest, child.oldest);
+            }
+        }
+
+        node.newest = newest;
+        node.oldest = oldest;
+        node.timesDirty = false;
+    }
+
+    private void forgetDirectories(Node node) {
+        directories.remove(node.path);
+        if (node.children != null) {
+            for (Node child : node.children.values()) {
+                forgetDirectories(child);
+            }
+        }
+    }
+
+    private DirectoryUsage toUsage(Node node) {
+        refreshTimes(node);
+        return new DirectoryUsage(
+                node.path.toString(),
+                node.totalSize,
+                node.fileCount,
+                node.fileCount > 0 ? toDateTime(node.newest) : null,
+                node.fileCount > 0 ? toDateTime(node.oldest) : null
+        );
+    }
+
+    private static LocalDateTime toDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+
+    private static final class Node {
+        final Node parent;
+        final Path path;
+        Map<String, Node> children;     // 이름 → 하위 폴더 (필요할 때 생성)
+        Map<String, FileStat> files;    // 이름 → 이 폴더에 바로 들어있는 파일
+
+        long totalSize;
+        long fileCount;
+        long newest = Long.MIN_VALUE;
+        long oldest = Long.MAX_VALUE;
+        boolean timesDirty;
+
+        Node(Node parent, Path path) {
+            this.parent = parent;
+            this.path = path;
+        }
+
+        Map<String, Node> children() {
+            if (children == null) {
+                children = new HashMap<>(4);
+            }
+            return children;
+        }
+
+        Map<String, FileStat> files() {
+            if (files == null) {
+                files = new HashMap<>(8);
+            }
+            return files;
+        }
+    }
+
+    private static final class FileStat {
+        final long size;
+        final long modified;
+
+        FileStat(long size, long modified) {
+            this.size = size;
+            this.modified = modified;
+        }
+    }
+}
@@ -1,25 +1,75 @@
 package com.smartfilemanager.service;
 
+import com.smartfilemanager.constants.FileConstants.ContentChunking;
+import com.smartfilemanager.constants.FileConstants.HashingConcurrency;
+import com.smartfilemanager.constants.FileConstants.NearDuplicateText;
+import com.smartfilemanager.constants.FileConstants.PerceptualHashing;
+import com.smartfilemanager.model.AppConfig;
+import com.smartfilemanager.model.DuplicateDetectionStats;
 import com.smartfilemanager.model.FileInfo;
 import com.smartfilemanager.model.DuplicateGroup;
 import com.smartfilemanager.model.DuplicateType;
+import com.smartfilemanager.util.ContentAnalyzer;
+import com.smartfilemanager.util.ContentDefinedChunker;
+import com.smartfilemanager.util.ContentHasher;
+import com.smartfilemanager.util.DisjointSet;
+import com.smartfilemanager.util.HammingBkTree;
+import com.smartfilemanager.util.MinHashLsh;
+import com.smartfilemanager.util.MinHashSignature;
+import com.smartfilemanager.util.PerceptualHash;
+import com.smartfilemanager.util.SimilarNameIndex;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.security.MessageDigest;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
  * 중복 파일 탐지 서비스
- * 해시 기반 정확한 중복과 파일명 기반 유사 파일을 찾습니다
+ * 해시 기반 정확한 중복, 지각 해시 기반 비슷한 이미지, MinHash 기반 비슷한 문서,
+ * (선택) 청크 기반 일부 중복, 파일명 기반 유사 파일을 찾습니다
  */
 public class DuplicateDetectorService {
 
-    private static final int BUFFER_SIZE = 8192;
+    private static final int PARTIAL_HASH_SIZE = 64 * 1024;   // 부분 해시에 사용할 앞/뒤 크기
+    private static final String PARTIAL_HASH_PREFIX = "partial-";  // 해시 캐시 종류 이름 (예: partial-XXH64)
+    private static final String FULL_HASH_PREFIX = "full-";
     private static final double SIMILARITY_THRESHOLD = 0.7; // 70% 이상 유사하면 중복으로 판단
+    private static final Pattern NON_NAME_CHARACTERS = Pattern.compile("[^a-zA-Z0-9가-힣]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final FileHashExecutor hashExecutor = new FileHashExecutor();
+    private final ContentHashCache hashCache = ContentHashCache.getShared();
+    private final ContentAnalyzer contentAnalyzer = new ContentAnalyzer();
+    private final AnalysisResultStore resultStore = AnalysisResultStore.getShared();
+    private boolean verifyByteByByte;
+    private boolean chunkLevelAnalysis;     // 큰 파일의 청크 단위 비교 (일부 중복)
+    private String hashAlgorithm;           // 부분/전체 해시 알고리즘
+    private String confirmationAlgorithm;   // 확인용 해시 알고리즘 (null이면 사용 안 함)
+    private DuplicateDetectionStats lastStats = new DuplicateDetectionStats();
+
+    public DuplicateDetectorService() {
+        this(new ConfigService().getCurrentConfig());
+    }
+
+    public DuplicateDetectorService(AppConfig config) {
+        this.verifyByteByByte = config.isVerifyDuplicatesByteByByte();
+        this.chunkLevelAnalysis = config.isChunkLevelDuplicateAnalysis();
+        setHashAlgorithm(config.getDuplicateHashAlgorithm());
+        setConfirmationAlgorithm(config.getDuplicateConfirmationHash());
+        FileHashExecutor.setStorageKindOverride(config.getHashStorageKind());
+    }
 
     /**
      * 파일 목록에서 중복 파일 그룹들을 찾습니다
@@ -29,27 +79,78 @@ public class DuplicateDetectorService {
 
         System.out.println("[INFO] 중복 파일 탐지 시작: " + files.size() + "개 파일 분석");
 
+        long startTime = System.currentTimeMillis();
+        lastStats = new DuplicateDetectionStats();
+        lastStats.setTotalFiles(files.size());
+        lastStats.setByteCompareEnabled(verifyByteByByte);
+        lastStats.setHashAlgorithm(hashAlgorithm);
+        lastStats.setConfirmationAlgorithm(confirmationAlgorithm);
+
         // 1단계: 파일 크기별로 1차 필터링
         Map<Long, List<FileInfo>> sizeGroups = groupBySize(files);
+        lastStats.setEmptyFilesSkipped(files.size() - sizeGroups.values().stream().mapToInt(List::size).sum());
         System.out.println("[INFO] 크기별 그룹화 완료: " + sizeGroups.size() + "개 그룹");
 
-        // 2단계: 같은 크기 파일들에 대해 해시 비교로 정확한 중복 찾기
+        // 2단계: 같은 크기 파일들을 부분 해시 → 전체 해시 순으로 좁혀서 정확한 중복 찾기
         List<DuplicateGroup> exactDuplicates = findExactDuplicates(sizeGroups);
         duplicateGroups.addAll(exactDuplicates);
+        lastStats.setElapsedMillis(System.currentTimeMillis() - startTime);
+        System.out.println("[INFO] 정확한 중복 탐지 단계별 결과: " + lastStats.getSummary());
 
-        // 3단계: 파일명 유사도 기반으로 유사 파일 찾기
-        List<DuplicateGroup> similarFiles = findSimilarFiles(files, exactDuplicates);
+        // 3단계: 지각 해시로 다시 인코딩하거나 크기를 바꾼 이미지 찾기
+        List<DuplicateGroup> visualDuplicates = findVisualDuplicates(files, exactDuplicates);
+        duplicateGroups.addAll(visualDuplicates);
+
+        // 4단계: MinHash로 조금씩 고친 문서 찾기 (앞 단계에서 묶인 파일 제외)
+        List<DuplicateGroup> nearDuplicates = findNearDuplicateDocuments(files, duplicateGroups);
+        duplicateGroups.addAll(nearDuplicates);
+
+        // 5단계 (선택): 큰 파일을 청크 단위로 비교해 일부만 같은 파일 찾기
+        if (chunkLevelAnalysis) {
+            List<DuplicateGroup> partialDuplicates = findPartialDuplicates(files, duplicateGroups);
+            duplicateGroups.addAll(partialDuplicates);
+        }
+
+        // 6단계: 파일명 유사도 기반으로 유사 파일 찾기 (앞 단계에서 묶인 파일 제외)
+        List<DuplicateGroup> similarFiles = findSimilarFiles(files, duplicateGroups);
         duplicateGroups.addAll(similarFiles);
 
-        // 4단계: 각 그룹에 대해 추천 시스템 적용
+        // 7단계: 각 그룹에 대해 추천 시스템 적용
         duplicateGroups.forEach(this::generateRecommendations);
 
         // 결과 요약 출력
         printDuplicateAnalysisSummary(duplicateGroups);
 
+        // 정리 분석 등 다른 서비스가 다시 계산하지 않도록 저장
+        long version = resultStore.putDuplicateGroups(files, settingsKey(), new ArrayList<>(duplicateGroups));
+        System.out.println("[INFO] 중복 분석 결과 저장 (버전 " + version + ")");
+
         return duplicateGroups;
     }
 
+    /**
+     * 같은 파일 목록(경로, 크기, 수정 시간)과 같은 설정으로 저장된 결과가 있으면 그대로 사용하고,
+     * 없으면 다시 탐지합니다. 다시 탐지할 때도 바뀌지 않은 파일은 해시 캐시 덕분에 다시 읽지 않습니다.
+     */
+    public List<DuplicateGroup> findDuplicatesReusingResults(List<FileInfo> files) {
+        List<DuplicateGroup> stored = resultStore.getDuplicateGroups(files, settingsKey());
+        if (stored != null) {
+            System.out.println("[INFO] 저장된 중복 분석 결과 재사용 (버전 " + resultStore.getDuplicateVersion() +
+                    ", " + stored.size() + "개 그룹)");
+            return new ArrayList<>(stored);
+        }
+
+        System.out.println("[INFO] 파일 목록이나 설정이 바뀌어 중복 탐지를 다시 실행합니다");
+        return findDuplicates(files);
+    }
+
+    /**
+     * 결과에 영향을 주는 설정 (설정이 다르면 저장된 결과를 쓰지 않음)
+     */
+    private String settingsKey() {
+        return hashAlgorithm + "|" + confirmationAlgorithm + "|" + verifyByteByByte + "|" + chunkLevelAnalysis;
+    }
+
     /**
      * 파일 크기별로 그룹화
      */
@@ -60,193 +161,653 @@ public class DuplicateDetectorService {
     }
 
     /**
-     * 해시값을 이용한 정확한 중복 파일 찾기
+     * 단계별로 후보를 줄여가며 정확한 중복 파일 찾기
+     * 크기 → 앞/뒤 64KB 부분 해시 → 전체 해시 → (선택) 바이트 비교
+     * 각 해시 단계는 후보 전체를 한 번에 저장장치별 병렬 해시 계산기로 넘깁니다
      */
     private List<DuplicateGroup> findExactDuplicates(Map<Long, List<FileInfo>> sizeGroups) {
         List<DuplicateGroup> exactGroups = new ArrayList<>();
 
-        for (Map.Entry<Long, List<FileInfo>> entry : sizeGroups.entrySet()) {
-            List<FileInfo> sameSize = entry.getValue();
+        // 1단계: 같은 크기의 파일이 2개 이상인 그룹만 다음 단계로
+        List<List<FileInfo>> sizeCandidates = new ArrayList<>();
+        for (List<FileInfo> sameSize : sizeGroups.values()) {
+            if (sameSize.size() < 2) {
+                lastStats.setSizeEliminated(lastStats.getSizeEliminated() + sameSize.size());
+            } else {
+                sizeCandidates.add(sameSize);
+            }
+        }
 
-            // 같은 크기의 파일이 2개 이상인 경우만 해시 계산
-            if (sameSize.size() > 1) {
-                Map<String, List<FileInfo>> hashGroups = groupByHash(sameSize);
+        // 2단계: 앞/뒤 64KB 부분 해시
+        List<Map.Entry<String, List<FileInfo>>> hashMatches = new ArrayList<>();
+        List<List<FileInfo>> partialCandidates = new ArrayList<>();
+        for (Map.Entry<String, List<FileInfo>> partialEntry : hashStage(sizeCandidates,
+                PARTIAL_HASH_PREFIX + hashAlgorithm, file -> calculatePartialHash(file, hashAlgorithm))) {
+            List<FileInfo> candidates = partialEntry.getValue();
+            if (candidates.size() < 2) {
+                lastStats.setPartialEliminated(lastStats.getPartialEliminated() + 1);
+            } else if (candidates.get(0).getFileSize() <= 2L * PARTIAL_HASH_SIZE) {
+                // 부분 해시가 파일 전체를 덮으므로 전체 해시 생략
+                lastStats.setFullHashSkipped(lastStats.getFullHashSkipped() + candidates.size());
+                hashMatches.add(partialEntry);
+            } else {
+                partialCandidates.add(candidates);
+            }
+        }
+        lastStats.setPartialHashed(lastStats.getPartialHashed() + countFiles(sizeCandidates));
+
+        // 3단계: 부분 해시가 겹친 파일만 전체 해시
+        for (Map.Entry<String, List<FileInfo>> hashEntry : hashStage(partialCandidates,
+                FULL_HASH_PREFIX + hashAlgorithm, file -> calculateFileHash(file, hashAlgorithm))) {
+            if (hashEntry.getValue().size() < 2) {
+                lastStats.setFullEliminated(lastStats.getFullEliminated() + 1);
+            } else {
+                hashMatches.add(hashEntry);
+            }
+        }
+        lastStats.setFullHashed(lastStats.getFullHashed() + countFiles(partialCandidates));
+
+        // 3-1단계 (선택): 빠른 해시가 같은 파일을 MD5/SHA-256으로 한 번 더 확인
+        if (confirmationAlgorithm != null && !confirmationAlgorithm.equals(hashAlgorithm)) {
+            List<List<FileInfo>> toConfirm = hashMatches.stream().map(Map.Entry::getValue).collect(Collectors.toList());
+            hashMatches = new ArrayList<>();
+
+            for (Map.Entry<String, List<FileInfo>> confirmEntry : hashStage(toConfirm,
+                    FULL_HASH_PREFIX + confirmationAlgorithm, file -> calculateFileHash(file, confirmationAlgorithm))) {
+                if (confirmEntry.getValue().size() < 2) {
+                    lastStats.setConfirmationEliminated(lastStats.getConfirmationEliminated() + 1);
+                } else {
+                    hashMatches.add(confirmEntry);
+                }
+            }
+            lastStats.setConfirmationHashed(countFiles(toConfirm));
+        }
+
+        for (Map.Entry<String, List<FileInfo>> hashEntry : hashMatches) {
+            addExactGroups(exactGroups, hashEntry.getValue(), hashEntry.getKey());
+        }
+
+        return exactGroups;
+    }
 
-                // 같은 해시값을 가진 파일들이 2개 이상이면 중복
-                for (Map.Entry<String, List<FileInfo>> hashEntry : hashGroups.entrySet()) {
-                    List<FileInfo> duplicates = hashEntry.getValue();
+    /**
+     * 해시가 같은 파일 묶음을 (선택적으로 바이트 비교 후) 중복 그룹으로 추가
+     */
+    private void addExactGroups(List<DuplicateGroup> exactGroups, List<FileInfo> hashMatches, String hash) {
+        // 4단계 (선택): 바이트 단위 비교로 확정
+        List<List<FileInfo>> confirmedGroups = verifyByteByByte
+                ? splitByContent(hashMatches)
+                : Collections.singletonList(hashMatches);
+
+        for (List<FileInfo> duplicates : confirmedGroups) {
+            if (duplicates.size() < 2) {
+                lastStats.setByteEliminated(lastStats.getByteEliminated() + duplicates.size());
+                continue;
+            }
 
-                    if (duplicates.size() > 1) {
-                        DuplicateGroup group = DuplicateGroup.createExact(duplicates, hashEntry.getKey());
-                        group.setDescription("파일 내용이 완전히 동일한 중복 파일");
-                        exactGroups.add(group);
+            DuplicateGroup group = DuplicateGroup.createExact(duplicates, hash);
+            group.setDescription("파일 내용이 완전히 동일한 중복 파일");
+            exactGroups.add(group);
+            lastStats.setConfirmedDuplicates(lastStats.getConfirmedDuplicates() + duplicates.size());
 
-                        System.out.println("[EXACT] " + duplicates.size() + "개 중복 파일 발견: " +
-                                duplicates.get(0).getFileName());
-                    }
+            System.out.println("[EXACT] " + duplicates.size() + "개 중복 파일 발견: " +
+                    duplicates.get(0).getFileName());
+        }
+    }
+
+    /**
+     * 후보 묶음 전체의 해시를 병렬로 계산한 뒤, 각 묶음 안에서 해시값별로 다시 나눔
+     * (읽기 실패한 파일은 제외)
+     *
+     * @return (해시값, 파일 목록) 쌍 - 다른 묶음의 같은 해시는 따로 유지
+     */
+    private List<Map.Entry<String, List<FileInfo>>> hashStage(List<List<FileInfo>> candidateGroups, String hashType,
+                                                             FileHashExecutor.HashFunction hashFunction) {
+        List<FileInfo> files = new ArrayList<>();
+        candidateGroups.forEach(files::addAll);
+
+        Map<String, String> hashes = cachedHashes(files, hashType, hashFunction);
+        lastStats.setBytesRead(lastStats.getBytesRead() + hashExecutor.getLastBytesRead());
+        lastStats.setHashFailures(lastStats.getHashFailures() + files.size() - hashes.size());
+
+        List<Map.Entry<String, List<FileInfo>>> result = new ArrayList<>();
+        for (List<FileInfo> candidates : candidateGroups) {
+            Map<String, List<FileInfo>> hashGroups = new LinkedHashMap<>();
+            for (FileInfo file : candidates) {
+                String hash = hashes.get(file.getFilePath());
+                if (hash != null) {
+                    hashGroups.computeIfAbsent(hash, k -> new ArrayList<>()).add(file);
                 }
             }
+            result.addAll(hashGroups.entrySet());
         }
+        return result;
+    }
 
-        return exactGroups;
+    /**
+     * 파일들의 해시를 병렬로 계산 (크기/수정 시간/fileKey가 그대로인 파일은 저장된 해시 사용)
+     *
+     * @return 파일 경로 → 해시값 (실패한 파일은 포함되지 않음)
+     */
+    private Map<String, String> cachedHashes(List<FileInfo> files, String hashType,
+                                             FileHashExecutor.HashFunction hashFunction) {
+        hashCache.preload(files.stream().map(FileInfo::getFilePath).collect(Collectors.toList()));
+        AtomicInteger cacheHits = new AtomicInteger();
+
+        Map<String, String> hashes = hashExecutor.hashAll(files, file -> {
+            Path path = Paths.get(file.getFilePath());
+            BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+
+            String cached = hashCache.get(path, hashType, attrs);
+            if (cached != null) {
+                cacheHits.incrementAndGet();
+                return cached;
+            }
+
+            String hash = hashFunction.hash(file);
+            hashCache.put(path, hashType, attrs, hash);
+            return hash;
+        });
+        hashCache.flush();
+
+        lastStats.setCacheHits(lastStats.getCacheHits() + cacheHits.get());
+        return hashes;
+    }
+
+    private int countFiles(List<List<FileInfo>> groups) {
+        return groups.stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * 앞 64KB + 뒤 64KB의 해시 계산
+     * 128KB 이하 파일은 파일 전체를 읽으므로 전체 해시와 같은 값이 됩니다
+     */
+    private String calculatePartialHash(FileInfo file, String algorithm) throws IOException, NoSuchAlgorithmException {
+        ContentHasher hasher = ContentHasher.create(algorithm);
+
+        try (FileChannel channel = FileChannel.open(Paths.get(file.getFilePath()), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long prefixEnd = Math.min(size, PARTIAL_HASH_SIZE);
+            long suffixStart = Math.max(prefixEnd, size - PARTIAL_HASH_SIZE);
+
+            FileHashExecutor.digest(channel, 0, prefixEnd, hasher);
+            FileHashExecutor.digest(channel, suffixStart, size, hasher);
+        }
+
+        return hasher.digestHex();
+    }
+
+    /**
+     * 파일 전체의 해시값 계산
+     */
+    private String calculateFileHash(FileInfo file, String algorithm) throws IOException, NoSuchAlgorithmException {
+        ContentHasher hasher = ContentHasher.create(algorithm);
+
+        try (FileChannel channel = FileChannel.open(Paths.get(file.getFilePath()), StandardOpenOption.READ)) {
+            FileHashExecutor.digest(channel, 0, channel.size(), hasher);
+        }
+
+        return hasher.digestHex();
     }
 
     /**
-     * 파일들을 해시값별로 그룹화
+     * 해시가 같은 파일들을 바이트 단위로 비교해 실제 내용이 같은 묶음으로 나눔
      */
-    private Map<String, List<FileInfo>> groupByHash(List<FileInfo> files) {
-        Map<String, List<FileInfo>> hashGroups = new HashMap<>();
+    private List<List<FileInfo>> splitByContent(List<FileInfo> files) {
+        List<List<FileInfo>> groups = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocate(HashingConcurrency.READ_BUFFER_SIZE);
 
         for (FileInfo file : files) {
-            try {
-                String hash = calculateFileHash(file.getFilePath());
-                hashGroups.computeIfAbsent(hash, k -> new ArrayList<>()).add(file);
-            } catch (Exception e) {
-                System.err.println("[ERROR] 해시 계산 실패: " + file.getFileName() + " - " + e.getMessage());
+            lastStats.setByteCompared(lastStats.getByteCompared() + 1);
+            List<FileInfo> matchingGroup = null;
+
+            for (List<FileInfo> group : groups) {
+                try {
+                    if (hasSameContent(group.get(0), file, buffer)) {
+                        matchingGroup = group;
+                        break;
+                    }
+                } catch (IOException e) {
+                    System.err.println("[ERROR] 바이트 비교 실패: " + file.getFileName() + " - " + e.getMessage());
+                }
+            }
+
+            if (matchingGroup != null) {
+                matchingGroup.add(file);
+            } else {
+                groups.add(new ArrayList<>(Collections.singletonList(file)));
             }
         }
 
-        return hashGroups;
+        return groups;
     }
 
     /**
-     * 파일의 MD5 해시값 계산
+     * 두 파일의 내용이 바이트 단위로 같은지 확인
      */
-    private String calculateFileHash(String filePath) throws IOException, NoSuchAlgorithmException {
-        MessageDigest md5 = MessageDigest.getInstance("MD5");
+    private boolean hasSameContent(FileInfo first, FileInfo second, ByteBuffer buffer) throws IOException {
+        int half = buffer.capacity() / 2;
+        ByteBuffer left = buffer.duplicate();
+        ByteBuffer right = buffer.duplicate();
+
+        try (FileChannel channel1 = FileChannel.open(Paths.get(first.getFilePath()), StandardOpenOption.READ);
+             FileChannel channel2 = FileChannel.open(Paths.get(second.getFilePath()), StandardOpenOption.READ)) {
+
+            if (channel1.size() != channel2.size()) {
+                return false;
+            }
 
-        try (FileInputStream fis = new FileInputStream(filePath)) {
-            byte[] buffer = new byte[BUFFER_SIZE];
-            int bytesRead;
+            long position = 0;
+            long size = channel1.size();
+            while (position < size) {
+                int length = (int) Math.min(half, size - position);
+                left.clear().position(0).limit(length);
+                right.clear().position(half).limit(half + length);
 
-            while ((bytesRead = fis.read(buffer)) != -1) {
-                md5.update(buffer, 0, bytesRead);
+                int read1 = readFully(channel1, left, position);
+                int read2 = readFully(channel2, right, position);
+                lastStats.setBytesRead(lastStats.getBytesRead() + read1 + read2);
+
+                if (read1 != length || read2 != length ||
+                        !Arrays.equals(buffer.array(), 0, length, buffer.array(), half, half + length)) {
+                    return false;
+                }
+                position += length;
             }
         }
 
-        byte[] hash = md5.digest();
-        StringBuilder sb = new StringBuilder();
-        for (byte b : hash) {
-            sb.append(String.format("%02x", b));
+        return true;
+    }
+
+    private int readFully(FileChannel channel, ByteBuffer target, long position) throws IOException {
+        int total = 0;
+        while (target.hasRemaining()) {
+            int read = channel.read(target, position + total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
         }
+        return total;
+    }
 
-        return sb.toString();
+    /**
+     * 마지막 findDuplicates 호출의 단계별 통계
+     */
+    public DuplicateDetectionStats getLastDetectionStats() {
+        return lastStats;
     }
 
     /**
-     * 파일명 유사도 기반 유사 파일 찾기
+     * 해시가 같은 파일을 바이트 단위로 한 번 더 비교할지 설정
      */
-    private List<DuplicateGroup> findSimilarFiles(List<FileInfo> files, List<DuplicateGroup> exactDuplicates) {
-        List<DuplicateGroup> similarGroups = new ArrayList<>();
+    public void setVerifyByteByByte(boolean verifyByteByByte) {
+        this.verifyByteByByte = verifyByteByByte;
+    }
 
-        // 이미 정확한 중복으로 분류된 파일들은 제외
-        Set<String> exactDuplicateFiles = exactDuplicates.stream()
-                .flatMap(group -> group.getFiles().stream())
-                .map(FileInfo::getFilePath)
-                .collect(Collectors.toSet());
+    public boolean isVerifyByteByByte() {
+        return verifyByteByByte;
+    }
+
+    /**
+     * 큰 파일을 청크 단위로 비교해 일부만 같은 파일도 찾을지 설정 (파일 전체를 읽음)
+     */
+    public void setChunkLevelAnalysis(boolean chunkLevelAnalysis) {
+        this.chunkLevelAnalysis = chunkLevelAnalysis;
+    }
+
+    public boolean isChunkLevelAnalysis() {
+        return chunkLevelAnalysis;
+    }
 
-        List<FileInfo> remainingFiles = files.stream()
+    /**
+     * 부분/전체 해시 알고리즘 설정 ("XXH64", "MD5", "SHA-256", 빈 값이면 기본값)
+     */
+    public void setHashAlgorithm(String algorithm) {
+        this.hashAlgorithm = ContentHasher.normalize(algorithm);
+    }
+
+    public String getHashAlgorithm() {
+        return hashAlgorithm;
+    }
+
+    /**
+     * 확인용 해시 알고리즘 설정 (빈 값이면 확인 단계 생략)
+     */
+    public void setConfirmationAlgorithm(String algorithm) {
+        this.confirmationAlgorithm = algorithm == null || algorithm.trim().isEmpty()
+                ? null : ContentHasher.normalize(algorithm);
+    }
+
+    public String getConfirmationAlgorithm() {
+        return confirmationAlgorithm;
+    }
+
+    /**
+     * 해시 계산 진행률 콜백 설정 (여러 스레드에서 호출될 수 있음)
+     */
+    public void setHashProgressCallback(FileHashExecutor.ProgressCallback progressCallback) {
+        hashExecutor.setProgressCallback(progressCallback);
+    }
+
+    /**
+     * 지각 해시(dHash) 기반 비슷한 이미지 찾기
+     * 해시는 해시 캐시(SQLite)에 저장하고, BK-트리로 해밍 거리가 MAX_DISTANCE 이하인 이미지만 찾아 서로소 집합으로 묶습니다
+     */
+    private List<DuplicateGroup> findVisualDuplicates(List<FileInfo> files, List<DuplicateGroup> exactDuplicates) {
+        List<DuplicateGroup> visualGroups = new ArrayList<>();
+        Set<String> exactDuplicateFiles = pathsOf(exactDuplicates);
+
+        List<FileInfo> images = files.stream()
+                .filter(file -> file.getFileSize() > 0)
+                .filter(file -> PerceptualHash.isSupported(file.getFileExtension()))
                 .filter(file -> !exactDuplicateFiles.contains(file.getFilePath()))
                 .collect(Collectors.toList());
+        if (images.size() < 2) {
+            return visualGroups;
+        }
 
-        // 파일명 유사도 비교
-        for (int i = 0; i < remainingFiles.size(); i++) {
-            for (int j = i + 1; j < remainingFiles.size(); j++) {
-                FileInfo file1 = remainingFiles.get(i);
-                FileInfo file2 = remainingFiles.get(j);
+        Map<String, String> hashes = cachedHashes(images, PerceptualHashing.HASH_TYPE,
+                file -> PerceptualHash.toHex(PerceptualHash.dHash(Paths.get(file.getFilePath()))));
+        lastStats.setPerceptualHashed(hashes.size());
+
+        List<FileInfo> hashedImages = new ArrayList<>(hashes.size());
+        long[] imageHashes = new long[hashes.size()];
+        for (FileInfo image : images) {
+            String hash = hashes.get(image.getFilePath());
+            if (hash != null) {
+                imageHashes[hashedImages.size()] = PerceptualHash.fromHex(hash);
+                hashedImages.add(image);
+            }
+        }
 
-                double similarity = calculateNameSimilarity(file1.getFileName(), file2.getFileName());
+        // 앞서 넣은 이미지 중 가까운 것만 찾고 자신을 추가 (각 쌍을 한 번씩만 확인)
+        HammingBkTree tree = new HammingBkTree();
+        DisjointSet clusters = new DisjointSet(hashedImages.size());
+        for (int i = 0; i < hashedImages.size(); i++) {
+            int current = i;
+            tree.search(imageHashes[i], PerceptualHashing.MAX_DISTANCE,
+                    (other, distance) -> clusters.union(other, current, 1.0 - distance / 64.0));
+            tree.add(imageHashes[i], i);
+        }
 
-                // 유사도가 임계값 이상이고, 확장자가 같은 경우
-                if (similarity >= SIMILARITY_THRESHOLD &&
-                        file1.getFileExtension().equals(file2.getFileExtension())) {
+        for (List<Integer> members : clusters.clusters().values()) {
+            List<FileInfo> groupFiles = new ArrayList<>(members.size());
+            for (int index : members) {
+                groupFiles.add(hashedImages.get(index));
+            }
 
-                    // 이미 다른 그룹에 포함되지 않은 경우만
-                    if (!isAlreadyInSimilarGroup(file1, file2, similarGroups)) {
-                        DuplicateGroup group = DuplicateGroup.createSimilar(Arrays.asList(file1, file2), similarity);
-                        group.setDescription(String.format("파일명이 %.0f%% 유사한 파일", similarity * 100));
-                        similarGroups.add(group);
+            double similarity = clusters.averageScore(members.get(0));
+            DuplicateGroup group = DuplicateGroup.createVisual(groupFiles, similarity);
+            group.setDescription(String.format("보이는 내용이 %.0f%% 같은 이미지", similarity * 100));
+            visualGroups.add(group);
+            lastStats.setVisualDuplicates(lastStats.getVisualDuplicates() + groupFiles.size());
 
-                        System.out.println("[SIMILAR] 유사 파일 발견: " + file1.getFileName() +
-                                " ↔ " + file2.getFileName() + " (유사도: " +
-                                String.format("%.0f%%", similarity * 100) + ")");
-                    }
-                }
-            }
+            System.out.println("[VISUAL] 비슷한 이미지 그룹: " + group.getFileNames() +
+                    " (유사도: " + String.format("%.0f%%", similarity * 100) + ")");
         }
 
-        return similarGroups;
+        System.out.println("[VISUAL] 이미지 " + images.size() + "개 중 " + hashes.size() + "개 지각 해시, " +
+                visualGroups.size() + "개 그룹");
+        return visualGroups;
     }
 
     /**
-     * 파일명 유사도 계산 (레벤슈타인 거리 기반)
+     * MinHash 기반 내용이 거의 같은 문서 찾기
+     * 파일 전체 본문을 단어 shingle로 나눠 MinHash 서명을 만들고(해시 캐시에 저장), LSH 밴드가 겹치는 문서만 비교합니다
      */
-    private double calculateNameSimilarity(String name1, String name2) {
-        // 확장자 제거 및 정규화
-        String cleanName1 = cleanFileName(name1);
-        String cleanName2 = cleanFileName(name2);
+    private List<DuplicateGroup> findNearDuplicateDocuments(List<FileInfo> files, List<DuplicateGroup> groupedDuplicates) {
+        List<DuplicateGroup> nearGroups = new ArrayList<>();
+        Set<String> groupedFiles = pathsOf(groupedDuplicates);
+
+        List<FileInfo> documents = files.stream()
+                .filter(file -> file.getFileSize() > 0)
+                .filter(file -> file.getFileExtension() != null &&
+                        NearDuplicateText.EXTENSIONS.contains(file.getFileExtension().toLowerCase()))
+                .filter(file -> !groupedFiles.contains(file.getFilePath()))
+                .collect(Collectors.toList());
+        if (documents.size() < 2) {
+            return nearGroups;
+        }
+
+        // 너무 짧은 문서는 빈 문자열로 저장해 다음에도 다시 읽지 않음
+        Map<String, String> hashes = cachedHashes(documents, NearDuplicateText.HASH_TYPE, file -> {
+            int[] signature = contentAnalyzer.computeMinHash(file.getFilePath());
+            return signature != null ? MinHashSignature.toHex(signature) : "";
+        });
+
+        List<FileInfo> signedDocuments = new ArrayList<>();
+        List<int[]> signatures = new ArrayList<>();
+        for (FileInfo document : documents) {
+            int[] signature = MinHashSignature.fromHex(hashes.get(document.getFilePath()));
+            if (signature != null) {
+                signedDocuments.add(document);
+                signatures.add(signature);
+            }
+        }
+        lastStats.setMinHashSigned(signatures.size());
 
-        // 레벤슈타인 거리 계산
-        int distance = levenshteinDistance(cleanName1, cleanName2);
-        int maxLength = Math.max(cleanName1.length(), cleanName2.length());
+        DisjointSet clusters = new DisjointSet(signatures.size());
+        MinHashLsh lsh = new MinHashLsh(NearDuplicateText.BANDS, NearDuplicateText.SIMILARITY_THRESHOLD);
+        lsh.findPairs(signatures, (a, b) -> clusters.find(a) == clusters.find(b), clusters::union);
 
-        // 유사도 = 1 - (거리 / 최대길이)
-        return maxLength == 0 ? 0.0 : 1.0 - (double) distance / maxLength;
+        for (List<Integer> members : clusters.clusters().values()) {
+            List<FileInfo> groupFiles = new ArrayList<>(members.size());
+            for (int index : members) {
+                groupFiles.add(signedDocuments.get(index));
+            }
+
+            double similarity = clusters.averageScore(members.get(0));
+            DuplicateGroup group = DuplicateGroup.createNearDuplicate(groupFiles, similarity);
+            group.setDescription(String.format("내용이 약 %.0f%% 같은 문서", similarity * 100));
+            nearGroups.add(group);
+            lastStats.setNearDuplicates(lastStats.getNearDuplicates() + groupFiles.size());
+
+            System.out.println("[NEAR] 비슷한 문서 그룹: " + group.getFileNames() +
+                    " (추정 유사도: " + String.format("%.0f%%", similarity * 100) + ")");
+        }
+
+        System.out.println("[NEAR] 문서 " + documents.size() + "개 중 " + signatures.size() + "개 서명, 후보 " +
+                lsh.getCandidatePairs() + "쌍 비교, " + nearGroups.size() + "개 그룹");
+        return nearGroups;
     }
 
     /**
-     * 파일명 정리 (확장자 제거, 특수문자 정리, 소문자 변환)
+     * 내용 기반 청크 분할로 일부만 같은 큰 파일 찾기
+     * 파일마다 청크 해시 목록을 만들고 청크 해시 색인으로 청크를 공유하는 파일 쌍만 집계합니다.
+     * 공유 비율이 임계값 이상인 쌍을 서로소 집합으로 묶고, 그룹의 duplicateSize는
+     * 청크 단위로 한 번씩만 저장했을 때 줄어드는 용량(전체 크기 - 고유 청크 크기)으로 설정합니다
      */
-    private String cleanFileName(String fileName) {
-        // 확장자 제거
-        int lastDot = fileName.lastIndexOf('.');
-        String nameWithoutExt = (lastDot > 0) ? fileName.substring(0, lastDot) : fileName;
+    private List<DuplicateGroup> findPartialDuplicates(List<FileInfo> files, List<DuplicateGroup> groupedDuplicates) {
+        List<DuplicateGroup> partialGroups = new ArrayList<>();
+        Set<String> groupedFiles = pathsOf(groupedDuplicates);
 
-        // 특수문자를 공백으로 변환하고 소문자로 변환
-        return nameWithoutExt.toLowerCase()
-                .replaceAll("[^a-zA-Z0-9가-힣]", " ")
-                .replaceAll("\\s+", " ")
-                .trim();
+        List<FileInfo> largeFiles = files.stream()
+                .filter(file -> file.getFileSize() >= ContentChunking.MIN_FILE_SIZE)
+                .filter(file -> !groupedFiles.contains(file.getFilePath()))
+                .collect(Collectors.toList());
+        if (largeFiles.size() < 2) {
+            return partialGroups;
+        }
+
+        // 1. 청크 분할 (저장장치별 병렬)
+        Map<String, ContentDefinedChunker> chunkers = new ConcurrentHashMap<>();
+        hashExecutor.hashAll(largeFiles, file -> {
+            ContentDefinedChunker chunker = new ContentDefinedChunker();
+            try (FileChannel channel = FileChannel.open(Paths.get(file.getFilePath()), StandardOpenOption.READ)) {
+                FileHashExecutor.read(channel, 0, channel.size(), chunker::update);
+            }
+            chunker.finish();
+            chunkers.put(file.getFilePath(), chunker);
+            return String.valueOf(chunker.getChunkCount());
+        });
+        lastStats.setBytesRead(lastStats.getBytesRead() + hashExecutor.getLastBytesRead());
+
+        List<FileInfo> chunkedFiles = new ArrayList<>();
+        List<Map<Long, Integer>> fileChunks = new ArrayList<>();   // 파일별 고유 청크 해시 → 길이
+        for (FileInfo file : largeFiles) {
+            ContentDefinedChunker chunker = chunkers.get(file.getFilePath());
+            if (chunker == null) {
+                continue;
+            }
+            Map<Long, Integer> uniqueChunks = new HashMap<>(chunker.getChunkCount() * 2);
+            for (int c = 0; c < chunker.getChunkCount(); c++) {
+                uniqueChunks.putIfAbsent(chunker.getChunkHash(c), chunker.getChunkLength(c));
+            }
+            chunkedFiles.add(file);
+            fileChunks.add(uniqueChunks);
+        }
+        lastStats.setChunkedFiles(chunkedFiles.size());
+
+        // 2. 청크 해시 색인 (청크 → 그 청크가 있는 파일들)
+        Map<Long, List<Integer>> chunkIndex = new HashMap<>();
+        for (int i = 0; i < fileChunks.size(); i++) {
+            for (Long chunk : fileChunks.get(i).keySet()) {
+                chunkIndex.computeIfAbsent(chunk, k -> new ArrayList<>(2)).add(i);
+            }
+        }
+
+        // 3. 청크를 공유하는 파일 쌍마다 공유 바이트 합산
+        Map<Long, Long> sharedBytes = new HashMap<>();
+        for (Map.Entry<Long, List<Integer>> entry : chunkIndex.entrySet()) {
+            List<Integer> owners = entry.getValue();
+            if (owners.size() < 2 || owners.size() > ContentChunking.MAX_FILES_PER_CHUNK) {
+                continue;
+            }
+            int length = fileChunks.get(owners.get(0)).get(entry.getKey());
+            for (int a = 0; a < owners.size(); a++) {
+                for (int b = a + 1; b < owners.size(); b++) {
+                    long pair = (long) owners.get(a) * fileChunks.size() + owners.get(b);
+                    sharedBytes.merge(pair, (long) length, Long::sum);
+                }
+            }
+        }
+
+        // 4. 큰 쪽 파일 기준 공유 비율이 임계값 이상인 쌍을 묶음
+        DisjointSet clusters = new DisjointSet(chunkedFiles.size());
+        for (Map.Entry<Long, Long> entry : sharedBytes.entrySet()) {
+            int first = (int) (entry.getKey() / fileChunks.size());
+            int second = (int) (entry.getKey() % fileChunks.size());
+            long larger = Math.max(chunkedFiles.get(first).getFileSize(), chunkedFiles.get(second).getFileSize());
+            double ratio = (double) entry.getValue() / larger;
+            if (ratio >= ContentChunking.SHARED_RATIO_THRESHOLD) {
+                clusters.union(first, second, Math.min(1.0, ratio));
+            }
+        }
+
+        for (List<Integer> members : clusters.clusters().values()) {
+            List<FileInfo> groupFiles = new ArrayList<>(members.size());
+            Set<Long> seenChunks = new HashSet<>();
+            long uniqueBytes = 0;
+            for (int index : members) {
+                groupFiles.add(chunkedFiles.get(index));
+                for (Map.Entry<Long, Integer> chunk : fileChunks.get(index).entrySet()) {
+                    if (seenChunks.add(chunk.getKey())) {
+                        uniqueBytes += chunk.getValue();
+                    }
+                }
+            }
+
+            double sharedRatio = clusters.averageScore(members.get(0));
+            DuplicateGroup group = DuplicateGroup.createPartial(groupFiles, sharedRatio);
+            group.setDuplicateSize(Math.max(0, group.getTotalSize() - uniqueBytes));
+            group.setDescription(String.format("내용의 약 %.0f%%를 공유하는 큰 파일 (청크 기준 %s 절약 가능)",
+                    sharedRatio * 100, group.getFormattedSavings()));
+            partialGroups.add(group);
+            lastStats.setPartialDuplicates(lastStats.getPartialDuplicates() + groupFiles.size());
+
+            System.out.println("[PARTIAL] 일부 중복 그룹: " + group.getFileNames() +
+                    " (공유 " + String.format("%.0f%%", sharedRatio * 100) + ", 절약 가능 " +
+                    group.getFormattedSavings() + ")");
+        }
+
+        System.out.println("[PARTIAL] 큰 파일 " + largeFiles.size() + "개 청크 분할, 청크 " + chunkIndex.size() +
+                "종류, 파일 쌍 " + sharedBytes.size() + "개 비교, " + partialGroups.size() + "개 그룹");
+        return partialGroups;
+    }
+
+    private Set<String> pathsOf(List<DuplicateGroup> groups) {
+        return groups.stream()
+                .flatMap(group -> group.getFiles().stream())
+                .map(FileInfo::getFilePath)
+                .collect(Collectors.toSet());
     }
 
     /**
-     * 레벤슈타인 거리 계산
+     * 파일명 유사도 기반 유사 파일 찾기
+     * 확장자별로 나눈 뒤 트라이그램 색인으로 후보 쌍만 골라 편집거리를 계산합니다 (모든 쌍 비교 없음)
+     * 유사한 쌍은 서로소 집합으로 합쳐 여러 파일짜리 그룹으로 만듭니다
      */
-    private int levenshteinDistance(String s1, String s2) {
-        int[][] dp = new int[s1.length() + 1][s2.length() + 1];
+    private List<DuplicateGroup> findSimilarFiles(List<FileInfo> files, List<DuplicateGroup> groupedDuplicates) {
+        List<DuplicateGroup> similarGroups = new ArrayList<>();
 
-        // 초기화
-        for (int i = 0; i <= s1.length(); i++) {
-            dp[i][0] = i;
-        }
-        for (int j = 0; j <= s2.length(); j++) {
-            dp[0][j] = j;
+        // 이미 앞 단계(정확한 중복, 비슷한 이미지/문서, 일부 중복)에서 분류된 파일들은 제외
+        Set<String> groupedFiles = pathsOf(groupedDuplicates);
+
+        // 확장자가 같은 파일끼리만 비교 (파일명은 한 번만 정리)
+        Map<String, List<FileInfo>> filesByExtension = new LinkedHashMap<>();
+        for (FileInfo file : files) {
+            if (!groupedFiles.contains(file.getFilePath())) {
+                filesByExtension.computeIfAbsent(Objects.toString(file.getFileExtension(), ""), k -> new ArrayList<>())
+                        .add(file);
+            }
         }
 
-        // 동적 프로그래밍
-        for (int i = 1; i <= s1.length(); i++) {
-            for (int j = 1; j <= s2.length(); j++) {
-                int cost = (s1.charAt(i - 1) == s2.charAt(j - 1)) ? 0 : 1;
+        SimilarNameIndex nameIndex = new SimilarNameIndex(SIMILARITY_THRESHOLD);
+        long candidatePairs = 0;
+        long matchedPairs = 0;
+
+        for (List<FileInfo> block : filesByExtension.values()) {
+            if (block.size() < 2) {
+                continue;
+            }
+
+            List<String> cleanNames = new ArrayList<>(block.size());
+            for (FileInfo file : block) {
+                cleanNames.add(cleanFileName(file.getFileName()));
+            }
+
+            // 유사한 쌍을 서로소 집합으로 묶어 전이적으로 연결된 파일들을 한 그룹으로
+            DisjointSet clusters = new DisjointSet(block.size());
+            nameIndex.findPairs(cleanNames, clusters::union);
+            candidatePairs += nameIndex.getCandidatePairs();
+            matchedPairs += nameIndex.getMatchedPairs();
+
+            for (List<Integer> members : clusters.clusters().values()) {
+                List<FileInfo> groupFiles = new ArrayList<>(members.size());
+                for (int index : members) {
+                    groupFiles.add(block.get(index));
+                }
+
+                // 대표 유사도: 묶인 쌍들의 평균 유사도
+                double similarity = clusters.averageScore(members.get(0));
+                DuplicateGroup group = DuplicateGroup.createSimilar(groupFiles, similarity);
+                group.setDescription(groupFiles.size() == 2
+                        ? String.format("파일명이 %.0f%% 유사한 파일", similarity * 100)
+                        : String.format("파일명이 평균 %.0f%% 유사한 파일 %d개", similarity * 100, groupFiles.size()));
+                similarGroups.add(group);
 
-                dp[i][j] = Math.min(
-                        dp[i - 1][j] + 1,      // 삭제
-                        Math.min(
-                                dp[i][j - 1] + 1,  // 삽입
-                                dp[i - 1][j - 1] + cost // 교체
-                        )
-                );
+                System.out.println("[SIMILAR] 유사 파일 그룹: " + group.getFileNames() +
+                        " (유사도: " + String.format("%.0f%%", similarity * 100) + ")");
             }
         }
 
-        return dp[s1.length()][s2.length()];
+        System.out.println("[SIMILAR] 파일명 비교: 후보 " + candidatePairs + "쌍 확인, " +
+                matchedPairs + "쌍 유사, " + similarGroups.size() + "개 그룹");
+        return similarGroups;
     }
 
     /**
-     * 이미 유사 그룹에 포함되어 있는지 확인
+     * 파일명 정리 (확장자 제거, 특수문자 정리, 소문자 변환)
      */
-    private boolean isAlreadyInSimilarGroup(FileInfo file1, FileInfo file2, List<DuplicateGroup> groups) {
-        return groups.stream()
-                .anyMatch(group -> group.getFiles().contains(file1) && group.getFiles().contains(file2));
+    private String cleanFileName(String fileName) {
+        // 확장자 제거
+        int lastDot = fileName.lastIndexOf('.');
+        String nameWithoutExt = (lastDot > 0) ? fileName.substring(0, lastDot) : fileName;
+
+        // 특수문자를 공백으로 변환하고 소문자로 변환
+        String cleaned = NON_NAME_CHARACTERS.matcher(nameWithoutExt.toLowerCase()).replaceAll(" ");
+        return WHITESPACE.matcher(cleaned).replaceAll(" ").trim();
     }
 
     /**
@@ -398,10 +959,18 @@ public class DuplicateDetectorService {
         System.out.println("\n=== 🔄 중복 파일 분석 결과 ===");
 
         long exactGroups = groups.stream().filter(g -> g.getType() == DuplicateType.EXACT).count();
+        long visualGroups = groups.stream().filter(g -> g.getType() == DuplicateType.VISUAL).count();
+        long nearGroups = groups.stream().filter(g -> g.getType() == DuplicateType.NEAR_DUPLICATE).count();
+        long partialGroups = groups.stream().filter(g -> g.getType() == DuplicateType.PARTIAL).count();
         long similarGroups = groups.stream().filter(g -> g.getType() == DuplicateType.SIMILAR).count();
 
         System.out.println("📊 발견된 중복 그룹: " + groups.size() + "개");
         System.out.println("  • 정확한 중복: " + exactGroups + "개 그룹");
+        System.out.println("  • 비슷한 이미지: " + visualGroups + "개 그룹");
+        System.out.println("  • 비슷한 문서: " + nearGroups + "개 그룹");
+        if (partialGroups > 0) {
+            System.out.println("  • 일부 중복: " + partialGroups + "개 그룹");
+        }
         System.out.println("  • 유사한 파일: " + similarGroups + "개 그룹");
 
         long totalFiles = groups.stream().mapToLong(g -> g.getFiles().size()).sum();
@@ -4,14 +4,23 @@ import com.smartfilemanager.model.AppConfig;
 import com.smartfilemanager.model.FileInfo;
 import com.smartfilemanager.model.ProcessingStatus;
 import com.smartfilemanager.util.AIAnalyzer;
+import com.smartfilemanager.util.ContentAnalyzer;
+import com.smartfilemanager.util.FileProbe;
+import com.smartfilemanager.util.FileSyscallCounter;
 import com.smartfilemanager.util.FileTypeDetector;
+import com.smartfilemanager.util.MetadataExtractor;
 
 import java.io.File;
 import java.io.IOException;
+import java.net.URLConnection;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.DosFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
@@ -24,8 +33,15 @@ import java.util.regex.Pattern;
  */
 public class FileAnalysisService {
 
+    // 분석 방식 버전: 분석 결과(채우는 필드, 분류 규칙)가 바뀌면 올려서 카탈로그의 이전 결과를 버림
+    private static final int ANALYSIS_VERSION = 2;
+
+    // 텍스트가 아닌 파일에서 읽는 앞부분 크기 (헤더 + 내용 판별 1KB)
+    private static final int HEADER_PROBE_SIZE = 1024;
+
     private final ConfigService configService;
     private final AIAnalyzer aiAnalyzer;
+    private final ContentAnalyzer contentAnalyzer = new ContentAnalyzer();
     private AppConfig currentConfig;
 
     // AI 분석 관련 필드
@@ -117,28 +133,59 @@ public class FileAnalysisService {
         }
     }
 
+    /**
+     * 분석 결과에 영향을 주는 설정의 요약 문자열
+     * 값이 바뀌면 스캔 카탈로그에 저장된 이전 분석 결과를 재사용하지 않습니다
+     */
+    public String getAnalysisSignature() {
+        AppConfig config = configService.getCurrentConfig();
+        return "v" + ANALYSIS_VERSION + "|" + config.getOrganizationRootFolder() +
+                "|date=" + config.isOrganizeByDate() +
+                "|rules=" + FileTypeDetector.isCustomRulesEnabled() +
+                "|ai=" + isAIAnalysisAvailable();
+    }
+
     /**
      * 파일을 종합적으로 분석해서 FileInfo 생성 (AI 분석 포함)
+     * 속성을 한 번만 조회한 뒤 analyzeFile(Path, BasicFileAttributes)로 위임합니다
      */
     public FileInfo analyzeFile(String filePath) {
+        Path path = Paths.get(filePath);
         try {
-            Path path = Paths.get(filePath);
-            File file = path.toFile();
-
-            if (!file.exists() || !file.isFile()) {
+            FileSyscallCounter.count(FileSyscallCounter.STAT);
+            BasicFileAttributes attrs = Files.readAttributes(path, ParallelScanEngine.attributesTypeFor(path));
+            if (!attrs.isRegularFile()) {
                 throw new IOException("파일이 존재하지 않습니다: " + filePath);
             }
+            return analyzeFile(path, attrs);
 
-            System.out.println("[분석] 파일 분석 시작: " + file.getName());
+        } catch (IOException e) {
+            return createErrorInfo(filePath, e);
+        }
+    }
+
+    /**
+     * 스캔 단계에서 이미 읽은 속성을 그대로 사용하는 파일 분석
+     * 파일 내용이 필요한 단계(MIME 타입, 형식별 메타데이터, 텍스트 내용)는 probe 하나를 공유하므로
+     * 추가 시스템 호출은 많아야 파일 열기 1회입니다
+     */
+    public FileInfo analyzeFile(Path path, BasicFileAttributes attrs) {
+        String filePath = path.toString();
+        try {
+            System.out.println("[분석] 파일 분석 시작: " + path.getFileName());
 
             // 1. 기본 파일 정보 생성
-            FileInfo fileInfo = createBasicFileInfo(file, path);
+            FileInfo fileInfo = createBasicFileInfo(path, attrs);
 
             // 2. 메타데이터 추출
-            extractMetadata(fileInfo, path);
+            extractMetadata(fileInfo, path, attrs);
 
-            // 3. MIME 타입 감지
-            detectMimeType(fileInfo, path);
+            // 3. MIME 타입, 형식별 메타데이터, 텍스트 내용 (파일은 한 번만 열어 같은 probe 사용)
+            try (FileProbe probe = openProbe(fileInfo, path, attrs)) {
+                detectMimeType(fileInfo, probe);
+                extractFormatMetadata(fileInfo, path, attrs, probe);
+                extractContent(fileInfo, path, probe);
+            }
 
             // 4. 기본 카테고리 분류 (확장자 기반)
             classifyBasicCategory(fileInfo);
@@ -171,21 +218,28 @@ public class FileAnalysisService {
             return fileInfo;
 
         } catch (Exception e) {
-            System.err.println("[ERROR] 파일 분석 실패: " + filePath + " - " + e.getMessage());
-
-            // 에러 FileInfo 생성
-            FileInfo errorInfo = new FileInfo();
-            errorInfo.setFilePath(filePath);
-            errorInfo.setFileName(Paths.get(filePath).getFileName().toString());
-            errorInfo.setStatus(ProcessingStatus.FAILED);
-            errorInfo.setErrorMessage(e.getMessage());
-            errorInfo.setDetectedCategory("Unknown");
-            errorInfo.setConfidenceScore(0.0);
-
-            return errorInfo;
+            return createErrorInfo(filePath, e);
         }
     }
 
+    /**
+     * 분석 실패 시 에러 FileInfo 생성
+     */
+    private FileInfo createErrorInfo(String filePath, Exception e) {
+        System.err.println("[ERROR] 파일 분석 실패: " + filePath + " - " + e.getMessage());
+
+        // 에러 FileInfo 생성
+        FileInfo errorInfo = new FileInfo();
+        errorInfo.setFilePath(filePath);
+        errorInfo.setFileName(Paths.get(filePath).getFileName().toString());
+        errorInfo.setStatus(ProcessingStatus.FAILED);
+        errorInfo.setErrorMessage(e.getMessage());
+        errorInfo.setDetectedCategory("Unknown");
+        errorInfo.setConfidenceScore(0.0);
+
+        return errorInfo;
+    }
+
     /**
      * AI를 사용한 파일 분석 (실제 OpenAI API 연동)
      */
@@ -323,21 +377,17 @@ public class FileAnalysisService {
     }
 
     /**
-     * 기본 파일 정보 생성
+     * 기본 파일 정보 생성 (이미 읽은 속성 사용)
      */
-    private FileInfo createBasicFileInfo(File file, Path path) throws IOException {
+    private FileInfo createBasicFileInfo(Path path, BasicFileAttributes attrs) {
         FileInfo fileInfo = new FileInfo();
+        String fileName = path.getFileName().toString();
 
         fileInfo.setFilePath(path.toString());
-        fileInfo.setFileName(file.getName());
-        fileInfo.setOriginalLocation(file.getParent());
-        fileInfo.setFileSize(file.length());
-        fileInfo.setFileExtension(getFileExtension(file.getName()));
-
-        // 날짜 정보
-        BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
-        fileInfo.setCreatedDate(LocalDateTime.ofInstant(attrs.creationTime().toInstant(), ZoneId.systemDefault()));
-        fileInfo.setModifiedDate(LocalDateTime.ofInstant(attrs.lastModifiedTime().toInstant(), ZoneId.systemDefault()));
+        fileInfo.setFileName(fileName);
+        fileInfo.setOriginalLocation(path.getParent() != null ? path.getParent().toString() : null);
+        fileInfo.setFileSize(attrs.size());
+        fileInfo.setFileExtension(getFileExtension(fileName));
 
         // 키워드 리스트 초기화
         fileInfo.setKeywords(new ArrayList<>());
@@ -347,37 +397,151 @@ public class FileAnalysisService {
 
     /**
      * 메타데이터 추출 (생성일, 수정일, 파일 속성)
+     * 숨김/읽기 전용 여부는 속성 객체에서 판단해 추가 시스템 호출을 하지 않음
      */
-    private void extractMetadata(FileInfo fileInfo, Path path) throws IOException {
-        BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
-
+    private void extractMetadata(FileInfo fileInfo, Path path, BasicFileAttributes attrs) throws IOException {
         LocalDateTime createdTime = LocalDateTime.ofInstant(attrs.creationTime().toInstant(), ZoneId.systemDefault());
         LocalDateTime modifiedTime = LocalDateTime.ofInstant(attrs.lastModifiedTime().toInstant(), ZoneId.systemDefault());
 
         fileInfo.setCreatedDate(createdTime);
         fileInfo.setModifiedDate(modifiedTime);
+        fileInfo.setAccessedDate(accessTimeOf(attrs));
 
         // 숨김 파일 여부 확인
-        if (Files.isHidden(path)) {
+        if (isHidden(path, attrs)) {
             fileInfo.getKeywords().add("hidden");
         }
 
         // 읽기 전용 파일 확인
-        if (!Files.isWritable(path)) {
+        if (isReadOnly(path, attrs)) {
             fileInfo.getKeywords().add("readonly");
         }
     }
 
     /**
-     * MIME 타입 감지
+     * 숨김 파일 여부 (Windows는 DOS 속성, 그 외는 '.'으로 시작하는 이름)
+     */
+    private boolean isHidden(Path path, BasicFileAttributes attrs) throws IOException {
+        if (attrs instanceof DosFileAttributes) {
+            return ((DosFileAttributes) attrs).isHidden();
+        }
+        if (attrs instanceof PosixFileAttributes) {
+            return path.getFileName().toString().startsWith(".");
+        }
+
+        FileSyscallCounter.count(FileSyscallCounter.ACCESS);
+        return Files.isHidden(path);
+    }
+
+    /**
+     * 마지막 접근 시간, 믿을 수 없으면 null
+     * 접근 시간 기록이 꺼진 볼륨(noatime, NTFS 기본 설정 등)은 값이 없거나 0이거나 수정 시간보다 이전에 멈춰 있으므로
+     * 그런 경우는 버리고 호출하는 쪽이 수정 시간을 쓰게 합니다
+     */
+    public static LocalDateTime accessTimeOf(BasicFileAttributes attrs) {
+        FileTime accessTime = attrs.lastAccessTime();
+        if (accessTime == null || accessTime.toMillis() <= 0 ||
+                accessTime.compareTo(attrs.lastModifiedTime()) < 0) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(accessTime.toInstant(), ZoneId.systemDefault());
+    }
+
+    /**
+     * 읽기 전용 여부 (속성에 권한 정보가 있으면 그것을 사용)
+     */
+    private boolean isReadOnly(Path path, BasicFileAttributes attrs) {
+        if (attrs instanceof DosFileAttributes) {
+            return ((DosFileAttributes) attrs).isReadOnly();
+        }
+        if (attrs instanceof PosixFileAttributes) {
+            return !((PosixFileAttributes) attrs).permissions().contains(PosixFilePermission.OWNER_WRITE);
+        }
+
+        FileSyscallCounter.count(FileSyscallCounter.ACCESS);
+        return !Files.isWritable(path);
+    }
+
+    /**
+     * 분석 단계들이 함께 쓸 probe 열기
+     * 확장자로 MIME 타입을 알 수 없거나, 헤더가 필요한 형식이거나, 텍스트 형식일 때만 파일을 엽니다.
+     * 텍스트 형식은 내용 분석을 위해 앞부분 64KB, 그 외에는 헤더 판별에 필요한 1KB만 읽습니다.
+     *
+     * @return 파일을 열 필요가 없거나 열지 못하면 null
      */
-    private void detectMimeType(FileInfo fileInfo, Path path) {
+    private FileProbe openProbe(FileInfo fileInfo, Path path, BasicFileAttributes attrs) {
+        if (attrs.size() == 0) {
+            return null;
+        }
+
+        String extension = fileInfo.getFileExtension().toLowerCase();
+        boolean readsContent = ContentAnalyzer.isTextFormat(extension);
+        boolean mimeKnown = URLConnection.getFileNameMap().getContentTypeFor(fileInfo.getFileName()) != null;
+        if (mimeKnown && !readsContent && !MetadataExtractor.needsHeader(extension)) {
+            return null;
+        }
+
         try {
-            String mimeType = Files.probeContentType(path);
-            fileInfo.setMimeType(mimeType != null ? mimeType : "application/octet-stream");
+            return FileProbe.open(path, readsContent ? FileProbe.DEFAULT_PREFIX_SIZE : HEADER_PROBE_SIZE, 0);
         } catch (IOException e) {
-            // MIME 타입 감지 실패는 치명적이지 않음
-            fileInfo.setMimeType("application/octet-stream");
+            System.err.println("[WARNING] 파일 내용 읽기 실패: " + path + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * MIME 타입 감지
+     * 확장자 표로 먼저 찾고, 모를 때만 probe의 헤더로 판별
+     */
+    private void detectMimeType(FileInfo fileInfo, FileProbe probe) {
+        String mimeType = URLConnection.getFileNameMap().getContentTypeFor(fileInfo.getFileName());
+
+        if (mimeType == null && probe != null) {
+            mimeType = FileTypeDetector.detectMimeType(probe);
+        }
+
+        // MIME 타입 감지 실패는 치명적이지 않음
+        fileInfo.setMimeType(mimeType != null ? mimeType : "application/octet-stream");
+    }
+
+    /**
+     * 형식별 메타데이터 (제목, 작성자, 스크린샷 여부 등) 반영
+     */
+    private void extractFormatMetadata(FileInfo fileInfo, Path path, BasicFileAttributes attrs, FileProbe probe) {
+        MetadataExtractor.MetadataInfo metadata = MetadataExtractor.extractMetadata(path, attrs, probe);
+
+        if (metadata.getTitle() != null) {
+            fileInfo.setExtractedTitle(metadata.getTitle());
+        }
+        if (metadata.getAuthor() != null) {
+            fileInfo.setExtractedAuthor(metadata.getAuthor());
+        }
+        if (Boolean.TRUE.equals(metadata.getProperty("isScreenshot"))) {
+            fileInfo.getKeywords().add("screenshot");
+        }
+
+        String summary = MetadataExtractor.generateSummary(metadata);
+        if (!summary.isEmpty()) {
+            fileInfo.setDescription(summary.trim());
+        }
+    }
+
+    /**
+     * 텍스트 형식이면 probe 앞부분에서 제목 추출
+     * (내용 키워드는 신뢰도 계산에 섞이지 않도록 넣지 않음)
+     */
+    private void extractContent(FileInfo fileInfo, Path path, FileProbe probe) {
+        if (probe == null || !ContentAnalyzer.isTextFormat(fileInfo.getFileExtension().toLowerCase())) {
+            return;
+        }
+
+        String content = contentAnalyzer.extractTextContent(path, probe);
+        if (content == null) {
+            return;
+        }
+
+        if (fileInfo.getExtractedTitle() == null) {
+            fileInfo.setExtractedTitle(contentAnalyzer.extractTitle(content));
         }
     }
 
@@ -0,0 +1,460 @@
+package com.smartfilemanager.service;
+
+import com.smartfilemanager.constants.FileConstants.HashingConcurrency;
+import com.smartfilemanager.model.FileInfo;
+import com.smartfilemanager.util.ContentHasher;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileStore;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 저장장치를 고려한 병렬 해시 계산기
+ * 파일이 있는 FileStore마다 별도의 작업 풀을 두고, 장치 종류에 맞는 동시 작업 수로 읽습니다.
+ * (SSD/NVMe는 여러 스레드, 회전 디스크는 1개, 네트워크 드라이브는 2개)
+ * 장치 종류는 Linux는 /sys, macOS는 diskutil, Windows는 PowerShell(Get-PhysicalDisk)로 판별하며,
+ * 판별이 안 되는 환경에서는 설정(hashStorageKind)으로 직접 지정할 수 있습니다.
+ *
+ * 작업 풀은 모든 인스턴스가 공유하므로 중복 탐지와 정리 분석이 동시에 돌아도
+ * 같은 디스크를 더 많은 스레드로 읽지 않습니다.
+ */
+public class FileHashExecutor {
+
+    /**
+     * 저장장치 종류
+     */
+    public enum StorageKind {
+        SSD, HDD, NETWORK, UNKNOWN
+    }
+
+    /**
+     * 파일 하나의 해시를 계산하는 함수 (digest()로 읽으면 읽은 용량이 집계됨)
+     */
+    @FunctionalInterface
+    public interface HashFunction {
+        String hash(FileInfo file) throws Exception;
+    }
+
+    /**
+     * 진행률 콜백 (여러 스레드에서 호출될 수 있음)
+     */
+    public interface ProgressCallback {
+        void onProgress(int completed, int total, long bytesRead, double bytesPerSecond);
+    }
+
+    private static final Set<String> NETWORK_FILE_SYSTEMS = Set.of(
+            "nfs", "nfs4", "cifs", "smb", "smbfs", "smb2", "smb3", "9p", "afpfs", "webdav", "davfs",
+            "fuse.sshfs", "sshfs", "fuse.rclone", "ncpfs", "afs"
+    );
+    private static final Set<String> MEMORY_FILE_SYSTEMS = Set.of("tmpfs", "ramfs");
+
+    private static final String UNKNOWN_STORE = "unknown";
+
+    private static final long PROBE_TIMEOUT_SECONDS = 5;
+    private static final Pattern WINDOWS_DRIVE = Pattern.compile("\\(([A-Za-z]):\\)$");   // "로컬 디스크 (C:)"
+    private static final Pattern WINDOWS_MEDIA_TYPE = Pattern.compile("\\b(SSD|HDD)\\b");
+
+    // 설정으로 지정한 장치 종류 (null이면 자동 판별)
+    private static volatile StorageKind storageKindOverride;
+
+    // 저장장치별 공유 작업 풀 (키: FileStore.toString(), 예: "/home (/dev/sda2)")
+    private static final Map<String, ThreadPoolExecutor> STORE_POOLS = new ConcurrentHashMap<>();
+    private static final Map<String, StorageKind> STORE_KINDS = new ConcurrentHashMap<>();
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    // 워커 스레드별 읽기 버퍼와 읽은 바이트 수
+    private static final ThreadLocal<ByteBuffer> READ_BUFFER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(HashingConcurrency.READ_BUFFER_SIZE));
+    private static final ThreadLocal<long[]> BYTES_READ = ThreadLocal.withInitial(() -> new long[1]);
+
+    // 디렉토리 → FileStore 캐시 (Files.getFileStore는 마운트 목록을 매번 읽으므로)
+    private final Map<Path, FileStore> storeCache = new ConcurrentHashMap<>();
+
+    private volatile ProgressCallback progressCallback;
+
+    // 마지막 hashAll 호출 통계
+    private volatile long lastBytesRead;
+    private volatile long lastElapsedMillis;
+
+    public void setProgressCallback(ProgressCallback progressCallback) {
+        this.progressCallback = progressCallback;
+    }
+
+    /**
+     * 파일들의 해시를 저장장치별로 병렬 계산
+     *
+     * @return 파일 경로 → 해시값 (실패한 파일은 포함되지 않음)
+     */
+    public Map<String, String> hashAll(List<FileInfo> files, HashFunction hashFunction) {
+        Map<String, String> results = new ConcurrentHashMap<>();
+        if (files.isEmpty()) {
+            lastBytesRead = 0;
+            lastElapsedMillis = 0;
+            return results;
+        }
+
+        long startTime = System.currentTimeMillis();
+        LongAdder bytesRead = new LongAdder();
+        AtomicInteger completed = new AtomicInteger();
+        AtomicLong lastReport = new AtomicLong(startTime);
+        Map<String, Integer> filesPerStore = new LinkedHashMap<>();
+        List<Future<?>> futures = new ArrayList<>(files.size());
+
+        for (FileInfo file : files) {
+            FileStore store = storeOf(Paths.get(file.getFilePath()));
+            String storeKey = store != null ? store.toString() : UNKNOWN_STORE;
+            filesPerStore.merge(storeKey, 1, Integer::sum);
+
+            futures.add(poolFor(storeKey, store).submit(() -> {
+                long[] counter = BYTES_READ.get();
+                counter[0] = 0;
+                try {
+                    String hash = hashFunction.hash(file);
+                    if (hash != null) {
+                        results.put(file.getFilePath(), hash);
+                    }
+                } catch (Exception e) {
+                    System.err.println("[ERROR] 해시 계산 실패: " + file.getFileName() + " - " + e.getMessage());
+                } finally {
+                    bytesRead.add(counter[0]);
+                    reportProgress(completed.incrementAndGet(), files.size(), bytesRead.sum(), startTime, lastReport);
+                }
+            }));
+        }
+
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.err.println("[ERROR] 해시 작업 실패: " + e.getCause());
+        }
+
+        lastBytesRead = bytesRead.sum();
+        lastElapsedMillis = Math.max(1, System.currentTimeMillis() - startTime);
+        System.out.println(String.format("[INFO] 해시 계산: %d개 파일, %.1f MB, %.1f MB/s (%s)",
+                results.size(), lastBytesRead / (1024.0 * 1024), getLastBytesPerSecond() / (1024.0 * 1024),
+                describeStores(filesPerStore)));
+
+        return results;
+    }
+
+    /**
+     * 파일의 [start, end) 구간을 워커 버퍼로 읽어 hasher에 반영
+     */
+    public static void digest(FileChannel channel, long start, long end, ContentHasher hasher) throws IOException {
+        read(channel, start, end, hasher::update);
+    }
+
+    /**
+     * 파일의 [start, end) 구간을 워커 버퍼로 읽어 sink에 차례로 전달 (읽은 용량이 집계됨)
+     * sink는 받은 버퍼를 다 쓰기 전에 반환하면 안 되고, 버퍼를 보관해서도 안 됩니다
+     */
+    public static void read(FileChannel channel, long start, long end, Consumer<ByteBuffer> sink) throws IOException {
+        ByteBuffer buffer = READ_BUFFER.get();
+        long position = start;
+
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), end - position));
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                break;
+            }
+            buffer.flip();
+            sink.accept(buffer);
+            position += read;
+        }
+
+        BYTES_READ.get()[0] += position - start;
+    }
+
+    public long getLastBytesRead() {
+        return lastBytesRead;
+    }
+
+    /**
+     * 마지막 hashAll 호출의 처리 속도 (바이트/초)
+     */
+    public double getLastBytesPerSecond() {
+        return lastElapsedMillis > 0 ? lastBytesRead * 1000.0 / lastElapsedMillis : 0.0;
+    }
+
+    /**
+     * 모든 저장장치의 종류를 직접 지정 ("SSD", "HDD", "NETWORK", 빈 값이면 자동 판별)
+     * 값이 바뀌면 다음 호출부터 새 동시 작업 수로 작업 풀을 만듭니다 (이전 풀은 남은 작업을 마치면 유휴 스레드가 종료됨)
+     */
+    public static synchronized void setStorageKindOverride(String kind) {
+        StorageKind override = null;
+        if (kind != null && !kind.trim().isEmpty()) {
+            try {
+                override = StorageKind.valueOf(kind.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                System.err.println("[WARNING] 알 수 없는 저장장치 종류 설정, 자동 판별 사용: " + kind);
+            }
+        }
+        if (override == StorageKind.UNKNOWN) {
+            override = null;
+        }
+        if (override == storageKindOverride) {
+            return;
+        }
+
+        storageKindOverride = override;
+        STORE_KINDS.clear();
+        STORE_POOLS.clear();
+        System.out.println("[INFO] 해시 저장장치 종류: " + (override != null ? override + " (설정)" : "자동 판별"));
+    }
+
+    /**
+     * 저장장치 종류에 따른 동시 작업 수
+     */
+    public static int concurrencyFor(StorageKind kind) {
+        switch (kind) {
+            case SSD:
+                return Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), HashingConcurrency.SSD_MAX));
+            case HDD:
+                return HashingConcurrency.HDD;
+            case NETWORK:
+                return HashingConcurrency.NETWORK;
+            default:
+                return HashingConcurrency.UNKNOWN;
+        }
+    }
+
+    /**
+     * FileStore의 장치 종류 판별
+     * 네트워크/메모리 파일 시스템은 타입으로, 블록 장치는 운영체제별 방법으로 구분합니다
+     * (Linux: /sys의 rotational 값, macOS: diskutil의 Solid State, Windows: Get-PhysicalDisk의 MediaType)
+     */
+    public static StorageKind classify(FileStore store) {
+        if (store == null) {
+            return StorageKind.UNKNOWN;
+        }
+
+        String type = store.type() != null ? store.type().toLowerCase(Locale.ROOT) : "";
+        if (NETWORK_FILE_SYSTEMS.contains(type)) {
+            return StorageKind.NETWORK;
+        }
+        if (MEMORY_FILE_SYSTEMS.contains(type)) {
+            return StorageKind.SSD;
+        }
+
+        String name = store.name() != null ? store.name() : "";
+        if (name.startsWith("\\\\") || name.startsWith("//")) {
+            return StorageKind.NETWORK; // UNC 경로
+        }
+
+        String os = System.getProperty("os.name", "").toLowerCase(Locale.ROOT);
+        Boolean rotational = null;
+        if (os.contains("win")) {
+            Matcher drive = WINDOWS_DRIVE.matcher(store.toString());
+            if (drive.find()) {
+                rotational = readWindowsRotational(drive.group(1));
+            }
+        } else if (name.startsWith("/dev/")) {
+            rotational = os.contains("mac")
+                    ? readMacRotational(name)
+                    : readRotational(name.substring("/dev/".length()));
+        }
+        if (rotational != null) {
+            return rotational ? StorageKind.HDD : StorageKind.SSD;
+        }
+
+        return StorageKind.UNKNOWN;
+    }
+
+    /**
+     * 설정으로 지정한 종류가 있으면 그 값, 아니면 자동 판별
+     */
+    private static StorageKind kindOf(FileStore store) {
+        StorageKind override = storageKindOverride;
+        return override != null ? override : classify(store);
+    }
+
+    /**
+     * /sys/class/block/<장치>/queue/rotational 읽기 (파티션이면 상위 디스크의 값)
+     */
+    private static Boolean readRotational(String deviceName) {
+        try {
+            Path device = Paths.get("/sys/class/block", Paths.get(deviceName).getFileName().toString());
+            if (!Files.exists(device)) {
+                return null;
+            }
+
+            Path rotational = device.resolve("queue/rotational");
+            if (!Files.exists(rotational)) {
+                rotational = device.toRealPath().getParent().resolve("queue/rotational");
+            }
+            if (!Files.exists(rotational)) {
+                return null;
+            }
+
+            return "1".equals(Files.readString(rotational).trim());
+
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * macOS: diskutil info의 "Solid State: Yes/No" (파티션이면 상위 디스크 기준으로 표시됨)
+     */
+    private static Boolean readMacRotational(String device) {
+        String output = runProbe("diskutil", "info", device);
+        if (output == null) {
+            return null;
+        }
+        for (String line : output.split("\\R")) {
+            String trimmed = line.trim();
+            if (trimmed.startsWith("Solid State:")) {
+                return !trimmed.substring("Solid State:".length()).trim().equalsIgnoreCase("Yes");
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Windows: 드라이브 문자가 있는 물리 디스크의 MediaType (SSD/HDD, 가상 디스크 등은 Unspecified)
+     */
+    private static Boolean readWindowsRotational(String driveLetter) {
+        String output = runProbe("powershell", "-NoProfile", "-NonInteractive", "-Command",
+                "(Get-PhysicalDisk | Where-Object DeviceId -eq (Get-Partition -DriveLetter " + driveLetter +
+                        ").DiskNumber).MediaType");
+        if (output == null) {
+            return null;
+        }
+        Matcher mediaType = WINDOWS_MEDIA_TYPE.matcher(output);
+        return mediaType.find() ? "HDD".equals(mediaType.group(1)) : null;
+    }
+
+    /**
+     * 외부 명령 실행 결과 (실패하거나 시간 안에 끝나지 않으면 null)
+     */
+    private static String runProbe(String... command) {
+        Process process = null;
+        try {
+            process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            process.getOutputStream().close();
+
+            // 출력이 몇 줄뿐이라 파이프가 차지 않으므로 끝나기를 먼저 기다림
+            if (!process.waitFor(PROBE_TIMEOUT_SECONDS, TimeUnit.SECONDS) || process.exitValue() != 0) {
+                return null;
+            }
+            try (InputStream in = process.getInputStream()) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            if (process != null && process.isAlive()) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    /**
+     * 파일이 속한 FileStore (부모 디렉토리 단위로 캐시)
+     */
+    private FileStore storeOf(Path file) {
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory == null) {
+            return null;
+        }
+
+        FileStore cached = storeCache.get(directory);
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            FileStore store = Files.getFileStore(directory);
+            storeCache.put(directory, store);
+            return store;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 저장장치별 작업 풀 (없으면 생성, 유휴 스레드는 자동 종료)
+     */
+    private static ThreadPoolExecutor poolFor(String storeKey, FileStore store) {
+        return STORE_POOLS.computeIfAbsent(storeKey, k -> {
+            StorageKind kind = STORE_KINDS.computeIfAbsent(k, key -> kindOf(store));
+            int threads = concurrencyFor(kind);
+
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "HashWorker-" + kind + "-" + THREAD_COUNTER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            pool.allowCoreThreadTimeOut(true);
+
+            System.out.println("[INFO] 해시 작업 풀 생성: " + k + " (" + kind + ", 스레드 " + threads + "개)");
+            return pool;
+        });
+    }
+
+    private void reportProgress(int completed, int total, long bytesRead, long startTime, AtomicLong lastReport) {
+        ProgressCallback callback = progressCallback;
+        if (callback == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long previous = lastReport.get();
+        boolean finished = completed == total;
+        if (!finished && (now - previous < HashingConcurrency.PROGRESS_INTERVAL || !lastReport.compareAndSet(previous, now))) {
+            return;
+        }
+
+        long elapsed = Math.max(1, now - startTime);
+        callback.onProgress(completed, total, bytesRead, bytesRead * 1000.0 / elapsed);
+    }
+
+    private String describeStores(Map<String, Integer> filesPerStore) {
+        StringBuilder description = new StringBuilder();
+        filesPerStore.forEach((storeKey, count) -> {
+            StorageKind kind = STORE_KINDS.getOrDefault(storeKey, StorageKind.UNKNOWN);
+            if (description.length() > 0) {
+                description.append(", ");
+            }
+            description.append(storeKey).append('=').append(kind)
+                    .append('×').append(concurrencyFor(kind)).append(' ').append(count).append("개");
+        });
+        return description.toString();
+    }
+}
@@ -1,7 +1,10 @@
 package com.smartfilemanager.service;
 
+import com.smartfilemanager.constants.FileConstants.OrganizeConcurrency;
 import com.smartfilemanager.model.FileInfo;
 import com.smartfilemanager.model.ProcessingStatus;
+import com.smartfilemanager.util.CrossDeviceMover;
+import com.smartfilemanager.util.FileFormatUtils;
 import com.smartfilemanager.util.FileOperationSafety;
 import javafx.application.Platform;
 import javafx.concurrent.Task;
@@ -14,7 +17,15 @@ import java.nio.file.*;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 파일 정리 서비스
@@ -35,14 +46,20 @@ public class FileOrganizerService {
     // 콜백 필드
     private ProgressCallback progressCallback;
     
-    // 안전성 검사기
+    // 안전성 검사기 (백업 통계, 검사 캐시, 복사 진행률 리스너가 일괄 작업 단위 상태이므로
+    // 일괄 정리/이어하기는 서비스 인스턴스의 락으로 한 번에 하나씩만 실행)
     private final FileOperationSafety safety;
 
+    // 동시에 이동할 파일 수
+    private final int parallelism;
+
     public FileOrganizerService(ProgressBar progressBar, Label statusLabel, Label progressLabel) {
         this.progressBar = progressBar;
         this.statusLabel = statusLabel;
         this.progressLabel = progressLabel;
         this.safety = new FileOperationSafety();
+
+        this.parallelism = configuredParallelism();
     }
     
     /**
@@ -56,105 +73,411 @@ public class FileOrganizerService {
      * 여러 파일을 백그라운드에서 정리
      */
     public Task<Integer> organizeFilesAsync(List<FileInfo> filesToOrganize, String targetRootPath) {
+        return createOrganizeTask(filesToOrganize.size(), callback -> {
+            System.out.println("[정보] " + filesToOrganize.size() + "개 파일 정리 시작, 대상 폴더: " + targetRootPath);
+            return organizeBatch(filesToOrganize, targetRootPath, callback);
+        });
+    }
+
+    /**
+     * 중단된 정리 세션을 백그라운드에서 이어서 진행
+     */
+    public Task<Integer> resumeSessionAsync(OperationJournal.Session session) {
+        return createOrganizeTask(session.getMoves().size(), callback -> resumeSession(session, callback));
+    }
+
+    /**
+     * 진행률 콜백을 받는 일괄 작업
+     */
+    @FunctionalInterface
+    private interface BatchOperation {
+        int run(ProgressCallback callback) throws Exception;
+    }
+
+    /**
+     * 정리 작업 Task (진행률은 일정 간격으로만 UI에 표시)
+     */
+    private Task<Integer> createOrganizeTask(int totalFiles, BatchOperation operation) {
         return new Task<Integer>() {
             @Override
             protected Integer call() throws Exception {
-                int successCount = 0;
-                int totalFiles = filesToOrganize.size();
-
-                System.out.println("[정보] " + totalFiles + "개 파일 정리 시작, 대상 폴더: " + targetRootPath);
-
                 // UI 업데이트 - 정리 시작
                 Platform.runLater(() -> updateUIForOrganizeStart(totalFiles));
 
-                for (int i = 0; i < filesToOrganize.size(); i++) {
-                    FileInfo fileInfo = filesToOrganize.get(i);
+                // 다른 정리 작업(예: 시작 시 이어하기)이 진행 중이면 끝날 때까지 대기
+                synchronized (FileOrganizerService.this) {
+                    // 다른 저장장치로 옮기는 큰 파일은 파일 안에서의 복사 진행률도 표시
+                    safety.setTransferProgressListener((source, copiedBytes, totalBytes) ->
+                            Platform.runLater(() -> statusLabel.setText(String.format("복사 중: %s %s / %s",
+                                    source.getFileName(), FileFormatUtils.formatFileSize(copiedBytes),
+                                    FileFormatUtils.formatFileSize(totalBytes)))));
 
+                    // 진행률 표시는 일정 간격으로만 (여러 워커가 동시에 보고함)
+                    AtomicLong lastUIUpdate = new AtomicLong();
                     try {
-                        // 상태를 정리 중으로 변경
-                        fileInfo.setStatus(ProcessingStatus.ORGANIZING);
+                        return operation.run((current, total, currentFile) -> {
+                            long now = System.currentTimeMillis();
+                            long last = lastUIUpdate.get();
+                            if (current < total && (now - last < OrganizeConcurrency.UI_UPDATE_INTERVAL ||
+                                    !lastUIUpdate.compareAndSet(last, now))) {
+                                return;
+                            }
+
+                            Platform.runLater(() -> {
+                                double progress = (double) current / total;
+                                progressBar.setProgress(progress);
+                                progressLabel.setText(current + " / " + total + " 파일 처리됨");
+                                statusLabel.setText("정리 중: " + currentFile);
+                            });
+                        });
+                    } finally {
+                        safety.setTransferProgressListener(null);
+                    }
+                }
+            }
 
-                        // 단일 파일 정리
-                        organizeFile(fileInfo, targetRootPath);
+            @Override
+            protected void succeeded() {
+                Platform.runLater(() -> updateUIForOrganizeComplete(getValue(), totalFiles));
+            }
 
-                        // 상태를 정리 완료로 변경
-                        fileInfo.setStatus(ProcessingStatus.ORGANIZED);
-                        fileInfo.setProcessedAt(LocalDateTime.now());
+            @Override
+            protected void failed() {
+                Platform.runLater(() -> updateUIForOrganizeError(getException()));
+            }
+        };
+    }
 
-                        successCount++;
+    /**
+     * 여러 파일을 대상 폴더별로 묶어 병렬로 정리
+     * 먼저 전체 이동 계획을 메모리에서 세우고(대상 폴더 목록은 폴더당 한 번만 읽고 겹치지 않는 이름을 정함),
+     * 계획을 저널에 확정한 뒤, 없는 폴더를 한 번씩 만들고 이름이 정해진 이동을 최대 organizeParallelism개까지
+     * 동시에 실행합니다. callback은 워커 스레드에서 호출됩니다.
+     * 다른 일괄 정리/이어하기와는 동시에 실행되지 않습니다.
+     *
+     * @return 정리에 성공한 파일 수
+     */
+    public synchronized int organizeBatch(List<FileInfo> filesToOrganize, String targetRootPath, ProgressCallback callback)
+            throws InterruptedException {
+        int totalFiles = filesToOrganize.size();
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger successCount = new AtomicInteger();
+
+        // 1. 대상 폴더별로 묶기 (같은 폴더로 가는 파일들이 연달아 처리됨)
+        Map<Path, List<FileInfo>> byDirectory = new LinkedHashMap<>();
+        for (FileInfo fileInfo : filesToOrganize) {
+            Path targetDir = Paths.get(determineTargetPath(fileInfo, targetRootPath));
+            byDirectory.computeIfAbsent(targetDir, k -> new ArrayList<>()).add(fileInfo);
+        }
 
-                        System.out.println("[성공] 정리 완료: " + fileInfo.getFileName() + " -> " + fileInfo.getSuggestedPath());
+        // 2. 이동 계획 (폴더 목록을 읽지 못한 파일은 바로 실패 처리)
+        MovePlanner planner = new MovePlanner();
+        List<MovePlanner.PlannedMove> plan = new ArrayList<>(totalFiles);
+        byDirectory.forEach((targetDir, files) -> {
+            for (FileInfo fileInfo : files) {
+                try {
+                    plan.add(planner.plan(fileInfo, targetDir));
+                } catch (IOException e) {
+                    markFailed(fileInfo, e);
+                    if (callback != null) {
+                        callback.onProgress(completed.incrementAndGet(), totalFiles, fileInfo.getFileName());
+                    }
+                }
+            }
+        });
 
-                    } catch (Exception e) {
-                        // 상태를 실패로 변경
-                        fileInfo.setStatus(ProcessingStatus.FAILED);
-                        fileInfo.setErrorMessage(e.getMessage());
+        // 3. 이동 전에 계획 전체를 저널에 확정 (중단되면 다음 실행 때 이어서 하거나 되돌림)
+        OperationJournal journal = openJournal("organize");
+        long[] journalIds = new long[plan.size()];
+        for (int i = 0; i < plan.size(); i++) {
+            journalIds[i] = journal.planned(plan.get(i).getSource(), plan.get(i).getTarget());
+        }
+        commitJournal(journal);
+
+        // 4. 없는 대상 폴더는 폴더당 한 번만 생성
+        Map<Path, IOException> directoryFailures = planner.createMissingDirectories();
+        directoryFailures.forEach((dir, e) ->
+                System.err.println("[오류] 대상 폴더 생성 실패: " + dir + " - " + e.getMessage()));
+
+        // 5. 병렬 이동
+        ExecutorService pool = newOrganizePool(plan.size());
+        safety.resetBackupReport();
+        safety.beginBatch();
+
+        System.out.println("[정보] 대상 폴더 " + planner.getDirectoryCount() + "개, 이름 변경 " +
+                planner.getRenamedCount() + "개");
+
+        List<Future<?>> futures = new ArrayList<>(plan.size());
+        try {
+            for (int i = 0; i < plan.size(); i++) {
+                MovePlanner.PlannedMove move = plan.get(i);
+                long journalId = journalIds[i];
+                boolean directoryReady = !directoryFailures.containsKey(move.getTarget().getParent());
+                futures.add(pool.submit(() -> {
+                    if (organizeOne(move, directoryReady, journal, journalId)) {
+                        successCount.incrementAndGet();
+                    }
+                    if (callback != null) {
+                        callback.onProgress(completed.incrementAndGet(), totalFiles, move.getFileInfo().getFileName());
+                    }
+                }));
+            }
+
+            awaitAll(futures);
+        } finally {
+            // 취소된 경우 아직 시작하지 않은 이동은 버림 (저널에 계획으로 남아 다음 실행 때 처리)
+            pool.shutdownNow();
+            if (futures.size() == plan.size() && allDone(futures)) {
+                closeJournal(journal);
+            } else {
+                suspendJournal(journal);
+            }
+            System.out.println("[BACKUP] " + safety.getBackupReport());
+        }
+
+        return successCount.get();
+    }
+
+    /**
+     * 계획된 이동 하나를 실행하고 상태 기록
+     *
+     * @return 성공 여부
+     */
+    private boolean organizeOne(MovePlanner.PlannedMove move, boolean directoryReady,
+                                OperationJournal journal, long journalId) {
+        FileInfo fileInfo = move.getFileInfo();
+        try {
+            // 상태를 정리 중으로 변경
+            fileInfo.setStatus(ProcessingStatus.ORGANIZING);
+
+            if (!directoryReady) {
+                throw new IOException("대상 폴더를 만들 수 없습니다: " + move.getTarget().getParent());
+            }
+
+            // 단일 파일 정리
+            journal.started(journalId);
+            executeMove(move);
+            journal.completed(journalId);
+
+            // 상태를 정리 완료로 변경
+            fileInfo.setStatus(ProcessingStatus.ORGANIZED);
+            fileInfo.setProcessedAt(LocalDateTime.now());
+
+            System.out.println("[성공] 정리 완료: " + fileInfo.getFileName() + " -> " + fileInfo.getSuggestedPath());
+            return true;
 
-                        System.err.println("[오류] 정리 실패: " + fileInfo.getFileName() + " - " + e.getMessage());
+        } catch (Exception e) {
+            journal.failed(journalId);
+            CrossDeviceMover.discardPartial(move.getSource(), move.getTarget());
+            markFailed(fileInfo, e);
+            return false;
+        }
+    }
+
+    private void markFailed(FileInfo fileInfo, Exception e) {
+        // 상태를 실패로 변경
+        fileInfo.setStatus(ProcessingStatus.FAILED);
+        fileInfo.setErrorMessage(e.getMessage());
+
+        System.err.println("[오류] 정리 실패: " + fileInfo.getFileName() + " - " + e.getMessage());
+    }
+
+    /**
+     * 중단된 정리 세션 이어서 진행
+     * 완료 기록이 없는 이동은 실제 파일 상태로 판단합니다: 원본이 없고 대상이 있으면 이미 옮겨진 것,
+     * 원본이 있고 대상 자리가 비어 있으면 지금 옮기고, 그 외(대상 자리에 다른 파일 등)는 실패로 기록합니다.
+     * 다른 일괄 정리/이어하기와는 동시에 실행되지 않습니다.
+     *
+     * @return 완료된 이동 수 (이미 옮겨져 있던 것 포함)
+     */
+    public synchronized int resumeSession(OperationJournal.Session session, ProgressCallback callback)
+            throws IOException, InterruptedException {
+        List<OperationJournal.Move> moves = session.getMoves();
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger successCount = new AtomicInteger();
+
+        System.out.println("[정보] 중단된 정리 이어서 진행: " + session.getFile().getFileName());
+
+        OperationJournal journal = OperationJournal.reopen(session);
+        ExecutorService pool = newOrganizePool(moves.size());
+        List<Future<?>> futures = new ArrayList<>(moves.size());
+        try {
+            for (OperationJournal.Move move : moves) {
+                futures.add(pool.submit(() -> {
+                    if (resumeMove(move, journal)) {
+                        successCount.incrementAndGet();
+                    }
+                    if (callback != null) {
+                        callback.onProgress(completed.incrementAndGet(), moves.size(),
+                                move.getSource().getFileName().toString());
                     }
+                }));
+            }
 
-                    // 진행률 업데이트
-                    final int currentProgress = i + 1;
-                    final int currentSuccessCount = successCount;
+            awaitAll(futures);
+        } finally {
+            pool.shutdownNow();
+            if (allDone(futures)) {
+                closeJournal(journal);
+            } else {
+                suspendJournal(journal);
+            }
+        }
 
-                    Platform.runLater(() -> {
-                        double progress = (double) currentProgress / totalFiles;
-                        progressBar.setProgress(progress);
-                        progressLabel.setText(currentProgress + " / " + totalFiles + " 파일 처리됨");
-                        statusLabel.setText("정리 중: " + fileInfo.getFileName());
-                    });
+        return successCount.get();
+    }
 
-                    // 진행률 표시를 위한 작은 지연
-                    Thread.sleep(100);
-                }
+    private boolean resumeMove(OperationJournal.Move move, OperationJournal journal) {
+        OperationJournal.MoveState state = move.getState();
+        if (state == OperationJournal.MoveState.COMPLETED) {
+            return true;
+        }
+        if (state != OperationJournal.MoveState.PLANNED && state != OperationJournal.MoveState.STARTED) {
+            return false;   // 실패했거나 되돌린 이동
+        }
 
-                return successCount;
+        Path source = move.getSource();
+        Path target = move.getTarget();
+        boolean sourceExists = Files.exists(source);
+        boolean targetExists = Files.exists(target);
+
+        if (!sourceExists && targetExists) {
+            journal.completed(move.getId());
+            return true;
+        }
+        if (!sourceExists || targetExists) {
+            System.err.println("[오류] 이어서 이동할 수 없음: " + source + " -> " + target);
+            journal.failed(move.getId());
+            CrossDeviceMover.discardPartial(source, target);
+            return false;
+        }
+
+        try {
+            Files.createDirectories(target.getParent());
+            journal.started(move.getId());
+            if (safety.safeFileMove(source, target, true)) {
+                journal.completed(move.getId());
+                System.out.println("[이동] " + source + " -> " + target);
+                return true;
             }
+        } catch (IOException e) {
+            System.err.println("[오류] 대상 폴더 생성 실패: " + target.getParent() + " - " + e.getMessage());
+        }
+        journal.failed(move.getId());
+        CrossDeviceMover.discardPartial(source, target);
+        return false;
+    }
 
-            @Override
-            protected void succeeded() {
-                Platform.runLater(() -> updateUIForOrganizeComplete(getValue(), filesToOrganize.size()));
+    /**
+     * 설정에 따른 동시 이동 수 (0이면 CPU 코어 수, 최대 AUTO_MAX)
+     */
+    public static int configuredParallelism() {
+        int configured = new ConfigService().getCurrentConfig().getOrganizeParallelism();
+        return configured > 0 ? configured
+                : Math.min(Runtime.getRuntime().availableProcessors(), OrganizeConcurrency.AUTO_MAX);
+    }
+
+    private ExecutorService newOrganizePool(int taskCount) {
+        int threads = Math.max(1, Math.min(parallelism, taskCount));
+        AtomicInteger threadCounter = new AtomicInteger();
+        System.out.println("[정보] 동시 이동 " + threads + "개");
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "FileOrganizer-" + threadCounter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private static void awaitAll(List<Future<?>> futures) throws InterruptedException {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                System.err.println("[오류] 정리 작업 실패: " + e.getCause().getMessage());
             }
+        }
+    }
 
-            @Override
-            protected void failed() {
-                Platform.runLater(() -> updateUIForOrganizeError(getException()));
+    private static boolean allDone(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            if (!future.isDone() || future.isCancelled()) {
+                return false;
             }
-        };
+        }
+        return true;
     }
 
     /**
-     * 단일 파일 정리
+     * 새 저널 세션 (열지 못하면 저널 없이 진행)
      */
-    public void organizeFile(FileInfo fileInfo, String targetRootPath) throws IOException {
-        Path sourceFilePath = Paths.get(fileInfo.getFilePath());
-        
-        // 0. 안전성 검사 - 파일 이동이 안전한지 확인
-        if (!safety.isSafeToOperate(sourceFilePath)) {
-            throw new IOException("파일 이동이 안전하지 않습니다: " + fileInfo.getFileName() + 
-                                " (보호된 시스템 파일 또는 잠금된 파일)");
+    private static OperationJournal openJournal(String operation) {
+        try {
+            return OperationJournal.create(operation);
+        } catch (IOException e) {
+            System.err.println("[JOURNAL] 저널을 열 수 없어 저널 없이 진행합니다: " + e.getMessage());
+            return OperationJournal.disabled();
         }
+    }
 
-        // 1. 대상 폴더 경로 결정
-        String categoryPath = determineTargetPath(fileInfo, targetRootPath);
+    private static void commitJournal(OperationJournal journal) {
+        try {
+            journal.commit();
+        } catch (IOException e) {
+            System.err.println("[JOURNAL] 저널 기록 실패: " + e.getMessage());
+        }
+    }
+
+    private static void suspendJournal(OperationJournal journal) {
+        try {
+            journal.suspend();
+        } catch (IOException e) {
+            System.err.println("[JOURNAL] 저널 기록 실패: " + e.getMessage());
+        }
+    }
+
+    private static void closeJournal(OperationJournal journal) {
+        try {
+            journal.close();
+        } catch (IOException e) {
+            System.err.println("[JOURNAL] 저널 닫기 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 단일 파일 정리
+     */
+    public void organizeFile(FileInfo fileInfo, String targetRootPath) throws IOException {
+        // 1. 대상 폴더 경로 결정과 파일명 충돌 해결
+        MovePlanner planner = new MovePlanner();
+        MovePlanner.PlannedMove move = planner.plan(fileInfo, Paths.get(determineTargetPath(fileInfo, targetRootPath)));
 
         // 2. 대상 디렉토리가 없으면 생성
-        Path targetDir = Paths.get(categoryPath);
-        Files.createDirectories(targetDir);
+        Map<Path, IOException> directoryFailures = planner.createMissingDirectories();
+        if (!directoryFailures.isEmpty()) {
+            throw directoryFailures.values().iterator().next();
+        }
 
-        // 3. 파일명 충돌 해결
-        String finalFileName = resolveFileNameConflict(targetDir, fileInfo.getFileName());
-        Path targetFilePath = targetDir.resolve(finalFileName);
+        executeMove(move);
+    }
 
-        // 4. 안전한 파일 이동 (백업 및 롤백 지원)
-        boolean moveResult = safety.safeFileMove(sourceFilePath, targetFilePath);
+    /**
+     * 계획된 이동 실행 (대상 폴더는 이미 있고 이름도 정해져 있음)
+     */
+    private void executeMove(MovePlanner.PlannedMove move) throws IOException {
+        FileInfo fileInfo = move.getFileInfo();
+        Path sourceFilePath = move.getSource();
+        Path targetFilePath = move.getTarget();
+        
+        // 안전한 파일 이동 (안전성 검사와 잠금, 백업 및 롤백 포함)
+        boolean moveResult = safety.safeFileMove(sourceFilePath, targetFilePath, true);
         if (!moveResult) {
-            throw new IOException("안전한 파일 이동 실패: " + fileInfo.getFileName());
+            throw new IOException("안전한 파일 이동 실패: " + fileInfo.getFileName() + 
+                                " (보호된 시스템 파일, 잠금된 파일 또는 이동 오류)");
         }
 
-        // 5. 파일 정보 업데이트
+        // 파일 정보 업데이트
         fileInfo.setFilePath(targetFilePath.toString());
-        fileInfo.setSuggestedPath(categoryPath);
+        fileInfo.setSuggestedPath(targetFilePath.getParent().toString());
 
         System.out.println("[이동] " + sourceFilePath + " -> " + targetFilePath);
     }
@@ -203,51 +526,6 @@ public class FileOrganizerService {
         return "Images".equals(category) || "Videos".equals(category);
     }
 
-    /**
-     * 파일명 충돌을 숫자 추가로 해결
-     */
-    private String resolveFileNameConflict(Path targetDir, String originalFileName) {
-        Path targetPath = targetDir.resolve(originalFileName);
-
-        if (!Files.exists(targetPath)) {
-            return originalFileName;
-        }
-
-        // 파일명과 확장자 분리
-        String baseName = getBaseName(originalFileName);
-        String extension = getFileExtension(originalFileName);
-
-        int counter = 1;
-        while (Files.exists(targetPath)) {
-            String newFileName;
-            if (extension.isEmpty()) {
-                newFileName = baseName + " (" + counter + ")";
-            } else {
-                newFileName = baseName + " (" + counter + ")." + extension;
-            }
-            targetPath = targetDir.resolve(newFileName);
-            counter++;
-        }
-
-        return targetPath.getFileName().toString();
-    }
-
-    /**
-     * 확장자를 제외한 파일명 반환
-     */
-    private String getBaseName(String fileName) {
-        int lastDot = fileName.lastIndexOf('.');
-        return (lastDot == -1) ? fileName : fileName.substring(0, lastDot);
-    }
-
-    /**
-     * 파일 확장자 반환
-     */
-    private String getFileExtension(String fileName) {
-        int lastDot = fileName.lastIndexOf('.');
-        return (lastDot == -1) ? "" : fileName.substring(lastDot + 1);
-    }
-
     /**
      * 정리 시작 시 UI 업데이트
      */
@@ -299,45 +577,22 @@ public class FileOrganizerService {
     
     /**
      * 동기식 파일 정리 메서드 (FileOperationController에서 사용)
+     * 진행률 콜백은 워커 스레드에서 호출됩니다
      */
     public List<FileInfo> organizeFiles(javafx.collections.ObservableList<FileInfo> fileList) throws Exception {
         List<FileInfo> filesToOrganize = new ArrayList<>(fileList);
-        List<FileInfo> organizedFiles = new ArrayList<>();
         
         System.out.println("[정보] 동기식 파일 정리 시작: " + filesToOrganize.size() + "개 파일");
         
         // 기본 정리 폴더 설정
         String targetRootPath = System.getProperty("user.home") + "/OrganizedFiles";
         
-        for (int i = 0; i < filesToOrganize.size(); i++) {
-            FileInfo fileInfo = filesToOrganize.get(i);
-            
-            try {
-                // 상태를 정리 중으로 변경
-                fileInfo.setStatus(ProcessingStatus.ORGANIZING);
-                
-                // 단일 파일 정리
-                organizeFile(fileInfo, targetRootPath);
-                
-                // 상태를 정리 완료로 변경
-                fileInfo.setStatus(ProcessingStatus.ORGANIZED);
-                fileInfo.setProcessedAt(LocalDateTime.now());
-                
+        organizeBatch(filesToOrganize, targetRootPath, progressCallback);
+        
+        List<FileInfo> organizedFiles = new ArrayList<>();
+        for (FileInfo fileInfo : filesToOrganize) {
+            if (fileInfo.getStatus() == ProcessingStatus.ORGANIZED) {
                 organizedFiles.add(fileInfo);
-                
-                // 진행률 콜백 호출
-                if (progressCallback != null) {
-                    progressCallback.onProgress(i + 1, filesToOrganize.size(), fileInfo.getFileName());
-                }
-                
-                System.out.println("[성공] 정리 완료: " + fileInfo.getFileName() + " -> " + fileInfo.getSuggestedPath());
-                
-            } catch (Exception e) {
-                // 상태를 실패로 변경
-                fileInfo.setStatus(ProcessingStatus.FAILED);
-                fileInfo.setErrorMessage(e.getMessage());
-                
-                System.err.println("[오류] 정리 실패: " + fileInfo.getFileName() + " - " + e.getMessage());
             }
         }
         
@@ -1,8 +1,11 @@
 package com.smartfilemanager.service;
 
+import com.smartfilemanager.constants.FileConstants;
 import com.smartfilemanager.model.FileInfo;
 import com.smartfilemanager.model.ProcessingStatus;
 import com.smartfilemanager.util.FileOperationSafety;
+import com.smartfilemanager.util.FileSyscallCounter;
+import com.smartfilemanager.util.PathSegmentMatcher;
 import javafx.application.Platform;
 import javafx.concurrent.Task;
 import javafx.scene.control.ProgressBar;
@@ -11,11 +14,15 @@ import javafx.collections.ObservableList;
 
 import java.io.File;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 /**
  * 파일 스캔 담당 서비스 클래스 (강화된 분석 기능 포함)
@@ -29,17 +36,25 @@ public class FileScanService {
         "$recycle.bin", "system volume information", 
         "windows.old", "perflogs", "documents and settings"
     );
+    private static final PathSegmentMatcher CRITICAL_DIRECTORY_MATCHER = new PathSegmentMatcher(CRITICAL_SYSTEM_DIRECTORIES);
 
     // 경고와 함께 스캔은 허용하지만 신중하게 처리할 디렉토리들
     private static final Set<String> SENSITIVE_DIRECTORIES = Set.of(
         "program files", "program files (x86)", "programdata"
     );
+    private static final PathSegmentMatcher SENSITIVE_DIRECTORY_MATCHER = new PathSegmentMatcher(SENSITIVE_DIRECTORIES);
 
     // 절대 스캔하면 안 되는 시스템 루트 경로들
     private static final Set<String> CRITICAL_SYSTEM_ROOTS = Set.of(
         "c:\\windows", "c:\\system32"
     );
 
+    // 스캔 중 UI 갱신 최소 간격 (밀리초)
+    private static final long UI_UPDATE_INTERVAL_MS = 100;
+
+    // 스캔이 진행 중인지 (FileScanService 인스턴스가 여럿이어도 공유 색인은 하나이므로 프로세스 전체 기준)
+    private static final AtomicBoolean SCAN_RUNNING = new AtomicBoolean();
+
     // 콜백 인터페이스
     @FunctionalInterface
     public interface ProgressCallback {
@@ -52,6 +67,10 @@ public class FileScanService {
     private ObservableList<FileInfo> fileList;
     private FileAnalysisService analysisService;
     private FileOperationSafety safetyChecker;
+    private final int scanParallelism;
+    private volatile ParallelScanEngine scanEngine;     // 진행 중인 스캔의 엔진 (없으면 null)
+    private ScanCatalogService scanCatalog;
+    private final DirectorySizeIndex directoryIndex = DirectorySizeIndex.getShared();
     
     // 콜백 필드
     private ProgressCallback progressCallback;
@@ -63,6 +82,8 @@ public class FileScanService {
         this.fileList = fileList;
         this.analysisService = new FileAnalysisService();
         this.safetyChecker = new FileOperationSafety();
+        this.scanParallelism = new ConfigService().getCurrentConfig().getScanParallelism();
+        this.scanCatalog = new ScanCatalogService();
     }
     
     /**
@@ -76,22 +97,23 @@ public class FileScanService {
      * 디렉토리가 스캔하기에 안전한지 확인
      */
     private boolean isDirectorySafeToScan(File directory) {
-        String dirPath = directory.getAbsolutePath().toLowerCase();
+        Path absolutePath = directory.toPath().toAbsolutePath();
+        String dirPath = absolutePath.toString().toLowerCase();
         
-        // 절대 건드리면 안 되는 핵심 시스템 디렉토리 확인
-        if (CRITICAL_SYSTEM_DIRECTORIES.stream().anyMatch(dirPath::contains)) {
+        // 절대 건드리면 안 되는 핵심 시스템 디렉토리 확인 (폴더 이름이 정확히 같을 때만)
+        if (CRITICAL_DIRECTORY_MATCHER.matches(absolutePath)) {
             System.err.println("[SAFETY] 핵심 시스템 디렉토리로 스캔이 거부됨: " + directory.getAbsolutePath());
             return false;
         }
         
         // 절대 스캔하면 안 되는 시스템 루트 경로 확인
-        if (CRITICAL_SYSTEM_ROOTS.stream().anyMatch(dirPath::startsWith)) {
+        if (CRITICAL_SYSTEM_ROOTS.stream().anyMatch(root -> dirPath.equals(root) || dirPath.startsWith(root + "\\"))) {
             System.err.println("[SAFETY] 시스템 루트 디렉토리로 스캔이 거부됨: " + directory.getAbsolutePath());
             return false;
         }
         
         // 민감한 디렉토리는 경고와 함께 허용
-        if (SENSITIVE_DIRECTORIES.stream().anyMatch(dirPath::contains)) {
+        if (SENSITIVE_DIRECTORY_MATCHER.matches(absolutePath)) {
             System.out.println("[WARNING] 민감한 디렉토리를 스캔합니다. 시스템 파일들은 자동으로 보호됩니다: " + directory.getAbsolutePath());
             // 스캔은 허용하되 파일 단위에서 더 엄격하게 검사
         }
@@ -99,6 +121,17 @@ public class FileScanService {
         return true;
     }
 
+    /**
+     * 하위 디렉토리 진입 여부 확인 (핵심 시스템 폴더는 서브트리 전체를 건너뜀)
+     */
+    private boolean isSubdirectorySafeToScan(Path directory) {
+        Path name = directory.getFileName();
+        if (name == null) {
+            return true;
+        }
+        return !CRITICAL_DIRECTORY_MATCHER.matches(name);
+    }
+
     /**
      * 폴더 스캔을 백그라운드에서 시작합니다.
      */
@@ -116,72 +149,22 @@ public class FileScanService {
         // UI 상태 업데이트 (스캔 시작)
         updateUIForScanStart();
 
+        // 이전 결과 비우기 - 새 결과는 배치 단위로 바로 테이블에 추가됨
+        fileList.clear();
+
         // 백그라운드 Task 생성
-        Task<List<FileInfo>> scanTask = new Task<List<FileInfo>>() {
+        Task<Integer> scanTask = new Task<Integer>() {
             @Override
-            protected List<FileInfo> call() throws Exception {
-                List<FileInfo> fileInfoList = new ArrayList<>();
-
-                // 디렉토리 내 모든 파일 스캔
-                File[] files = directory.listFiles();
-                if (files == null) {
-                    return fileInfoList; // 빈 리스트 반환
-                }
-
-                int totalFiles = files.length;
-                int processedFiles = 0;
-
-                System.out.println("[정보] " + totalFiles + "개 항목 스캔 시작");
-
-                for (File file : files) {
-                    if (file.isFile()) { // 파일만 처리 (디렉토리 제외)
-                        try {
-                            // 스캔용 안전성 검사 (더 관대한 기준)
-                            Path filePath = Paths.get(file.getAbsolutePath());
-                            if (!safetyChecker.isSafeToScan(filePath)) {
-                                System.out.println("[SAFETY] 보호된 파일 스캔에서 제외: " + file.getName());
-                                processedFiles++;
-                                continue; // 안전하지 않은 파일은 건너뛰기
-                            }
-
-                            // 강화된 파일 분석 사용
-                            FileInfo fileInfo = analysisService.analyzeFile(file.getAbsolutePath());
-                            fileInfoList.add(fileInfo);
-
-                            // 진행률 업데이트
-                            processedFiles++;
-                            final int currentProgress = processedFiles;
-
-                            // 콜백 호출
-                            if (progressCallback != null) {
-                                progressCallback.onProgress(currentProgress, totalFiles, file.getName());
-                            }
-                            
-                            // UI 업데이트 (JavaFX Application Thread에서 실행)
-                            Platform.runLater(() -> {
-                                double progress = (double) currentProgress / totalFiles;
-                                progressBar.setProgress(progress);
-                                progressLabel.setText(currentProgress + " / " + totalFiles + " 파일 처리됨");
-                                statusLabel.setText("분석 중: " + file.getName());
-                            });
-
-                            // 시뮬레이션을 위한 약간의 지연 (실제로는 제거해도 됨)
-                            Thread.sleep(50);
-
-                        } catch (Exception e) {
-                            System.err.println("[오류] 파일 처리 실패: " + file.getName() + " - " + e.getMessage());
-                        }
-                    }
-                }
-
-                return fileInfoList;
+            protected Integer call() throws Exception {
+                return scanFilesStreaming(directory.toPath(),
+                        batch -> Platform.runLater(() -> fileList.addAll(batch)));
             }
 
             @Override
             protected void succeeded() {
-                // 스캔 성공 시 UI 업데이트
-                List<FileInfo> result = getValue();
-                Platform.runLater(() -> updateUIForScanComplete(result));
+                // 스캔 성공 시 UI 업데이트 (마지막 배치 반영 이후 실행되도록 큐에 추가)
+                int scannedCount = getValue();
+                Platform.runLater(() -> updateUIForScanComplete(scannedCount));
             }
 
             @Override
@@ -214,23 +197,20 @@ public class FileScanService {
     /**
      * 스캔 완료 시 UI 업데이트
      */
-    private void updateUIForScanComplete(List<FileInfo> fileInfoList) {
-        statusLabel.setText("스캔 완료: " + fileInfoList.size() + "개 파일 발견");
+    private void updateUIForScanComplete(int scannedCount) {
+        statusLabel.setText("스캔 완료: " + scannedCount + "개 파일 발견");
         statusLabel.setStyle("-fx-text-fill: #28a745; -fx-font-weight: bold;"); // 초록색으로 변경
 
         progressBar.setProgress(1.0);
         progressLabel.setText("스캔이 성공적으로 완료되었습니다");
 
         // 파일 상태는 실제 처리 과정에서 업데이트됨
+        // 파일 목록은 스캔 중 배치 단위로 이미 테이블에 추가됨
 
-        // 파일 목록을 UI 테이블에 추가
-        fileList.clear();
-        fileList.addAll(fileInfoList);
-
-        System.out.println("[성공] " + fileInfoList.size() + "개 파일 스캔됨");
+        System.out.println("[성공] " + scannedCount + "개 파일 스캔됨");
 
         // 분석 결과 요약 출력
-        printAnalysisSummary(fileInfoList);
+        printAnalysisSummary(fileList);
     }
 
     /**
@@ -313,53 +293,111 @@ public class FileScanService {
             throw new SecurityException("보안상 스캔할 수 없는 디렉토리입니다: " + directory);
         }
         
-        List<FileInfo> scannedFiles = new ArrayList<>();
-        int skippedFiles = 0;
-        
-        try (java.util.stream.Stream<java.nio.file.Path> paths = java.nio.file.Files.walk(directory)) {
-            List<java.nio.file.Path> filePaths = paths
-                .filter(java.nio.file.Files::isRegularFile)
-                .collect(java.util.stream.Collectors.toList());
-            
-            int totalFiles = filePaths.size();
-            int current = 0;
-            
-            for (java.nio.file.Path filePath : filePaths) {
-                current++;
-                
-                try {
-                    // 스캔용 안전성 검사 (더 관대한 기준)
-                    if (!safetyChecker.isSafeToScan(filePath)) {
-                        System.out.println("[SAFETY] 보호된 파일 스캔에서 제외: " + filePath.getFileName());
-                        skippedFiles++;
-                        
-                        // 진행률 콜백 호출 (건너뛴 파일도 포함)
-                        if (progressCallback != null) {
-                            progressCallback.onProgress(current, totalFiles, filePath.getFileName().toString() + " (건너뜀)");
-                        }
-                        continue;
-                    }
+        List<FileInfo> scannedFiles = Collections.synchronizedList(new ArrayList<>());
+        scanFilesStreaming(directory, scannedFiles::addAll);
+        return scannedFiles;
+    }
 
-                    // FileInfo 객체 생성
-                    FileInfo fileInfo = analysisService.analyzeFile(filePath.toString());
-                    scannedFiles.add(fileInfo);
-                    
-                    // 진행률 콜백 호출
+    /**
+     * 스트리밍 파일 스캔 - 결과를 한 번에 모으지 않고 배치 단위로 전달합니다
+     * 배치는 ScanBatching.BATCH_SIZE개마다 또는 FLUSH_INTERVAL 밀리초마다 전달되며,
+     * batchConsumer는 스캔 워커 또는 타이머 스레드에서 호출됩니다.
+     *
+     * @return 분석된 파일 수
+     */
+    public int scanFilesStreaming(Path directory, Consumer<List<FileInfo>> batchConsumer) throws Exception {
+        // 스캔 카탈로그, 폴더 크기 색인, 대용량 미사용 파일 추적은 스캔 하나를 기준으로 초기화되므로 동시에 하나만 실행
+        if (!SCAN_RUNNING.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 다른 폴더를 스캔하고 있습니다. 스캔이 끝난 뒤 다시 시도해주세요");
+        }
+
+        // 취소 여부와 통계가 스캔마다 따로 유지되도록 엔진은 스캔마다 새로 만듦
+        ParallelScanEngine engine = new ParallelScanEngine(scanParallelism);
+        scanEngine = engine;
+        try {
+            return runScan(directory, batchConsumer, engine);
+        } finally {
+            scanEngine = null;
+            SCAN_RUNNING.set(false);
+        }
+    }
+
+    private int runScan(Path directory, Consumer<List<FileInfo>> batchConsumer, ParallelScanEngine engine) throws Exception {
+        AtomicInteger skippedFiles = new AtomicInteger();
+        AtomicInteger current = new AtomicInteger();
+        AtomicLong lastUIUpdate = new AtomicLong();
+        Path root = directory.toAbsolutePath();
+        boolean completed = false;
+
+        // 이전 스캔 결과 불러오기 (변경되지 않은 파일은 재분석하지 않음)
+        scanCatalog.beginScan(root, analysisService.getAnalysisSignature());
+        directoryIndex.reset(root);
+        LargeUnusedFileTracker largeUnused = LargeUnusedFileTracker.startScan();
+        safetyChecker.beginBatch();
+        FileSyscallCounter.reset();
+
+        try (ScanResultBatcher batcher = new ScanResultBatcher(
+                FileConstants.ScanBatching.BATCH_SIZE,
+                FileConstants.ScanBatching.FLUSH_INTERVAL,
+                batchConsumer)) {
+
+            engine.scan(root, this::isSubdirectorySafeToScan, (filePath, attrs) -> {
+                int currentCount = current.incrementAndGet();
+                int totalFiles = Math.max(engine.getDiscoveredFiles(), currentCount);
+                String fileName = filePath.getFileName().toString();
+
+                // 스캔용 안전성 검사 (더 관대한 기준)
+                if (!safetyChecker.isSafeToScan(filePath, attrs)) {
+                    System.out.println("[SAFETY] 보호된 파일 스캔에서 제외: " + fileName);
+                    skippedFiles.incrementAndGet();
+
+                    // 진행률 콜백 호출 (건너뛴 파일도 포함)
                     if (progressCallback != null) {
-                        progressCallback.onProgress(current, totalFiles, filePath.getFileName().toString());
+                        progressCallback.onProgress(currentCount, totalFiles, fileName + " (건너뜀)");
                     }
-                    
-                } catch (Exception e) {
-                    System.err.println("[경고] 파일 분석 실패: " + filePath + " - " + e.getMessage());
+                    return;
                 }
-            }
-            
-            System.out.println("[성공] " + scannedFiles.size() + "개 파일 스캔 완료 (" + skippedFiles + "개 보호된 파일 제외)");
-            return scannedFiles;
-            
+
+                // 카탈로그에 그대로 남아있는 파일은 저장된 결과 재사용, 아니면 강화된 파일 분석
+                FileInfo fileInfo = scanCatalog.lookup(filePath, attrs);
+                if (fileInfo == null) {
+                    fileInfo = analysisService.analyzeFile(filePath, attrs);
+                    scanCatalog.record(fileInfo, attrs);
+                }
+                batcher.add(fileInfo);
+                directoryIndex.put(filePath, attrs.size(), attrs.lastModifiedTime().toMillis());
+                largeUnused.offer(fileInfo);
+
+                // 진행률 콜백 호출 (전체 개수는 탐색이 진행되면서 늘어남)
+                if (progressCallback != null) {
+                    progressCallback.onProgress(currentCount, totalFiles, fileName);
+                }
+
+                // UI 업데이트는 일정 간격으로만 (JavaFX Application Thread 과부하 방지)
+                long now = System.currentTimeMillis();
+                long last = lastUIUpdate.get();
+                if (progressBar != null && now - last >= UI_UPDATE_INTERVAL_MS && lastUIUpdate.compareAndSet(last, now)) {
+                    Platform.runLater(() -> {
+                        double progress = (double) currentCount / totalFiles;
+                        progressBar.setProgress(progress);
+                        progressLabel.setText(currentCount + " / " + totalFiles + " 파일 처리됨");
+                        statusLabel.setText("분석 중: " + fileName);
+                    });
+                }
+            });
+
+            batcher.close();
+            completed = true;
+            largeUnused.markComplete();
+            System.out.println("[성공] " + batcher.getPublishedCount() + "개 파일 스캔 완료 (" + skippedFiles.get() + "개 보호된 파일 제외)");
+            FileSyscallCounter.printSummary(current.get());
+            return batcher.getPublishedCount();
+
         } catch (Exception e) {
             System.err.println("[오류] 파일 스캔 실패: " + e.getMessage());
             throw e;
+        } finally {
+            scanCatalog.finishScan(completed);
         }
     }
     
@@ -367,6 +405,13 @@ public class FileScanService {
      * 서비스 종료
      */
     public void shutdown() {
+        ParallelScanEngine engine = scanEngine;
+        if (engine != null) {
+            engine.cancel();
+        }
+        if (scanCatalog != null) {
+            scanCatalog.shutdown();
+        }
         if (analysisService != null) {
             // FileAnalysisService 종료 로직이 있다면 호출
         }
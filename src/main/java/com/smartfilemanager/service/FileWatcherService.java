@@ -8,6 +8,7 @@ import javafx.collections.ObservableList;
 
 import java.io.IOException;
 import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.LocalDateTime;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -183,8 +184,8 @@ public class FileWatcherService {
         Path eventPath = (Path) event.context();
         Path fullPath = watchedDirectory.resolve(eventPath);
 
-        // 파일인지 확인 (디렉토리 제외)
-        if (!Files.isRegularFile(fullPath)) {
+        // 파일인지 확인 (디렉토리 제외, 삭제된 경로는 더 이상 확인할 수 없으므로 그대로 처리)
+        if (kind != StandardWatchEventKinds.ENTRY_DELETE && !Files.isRegularFile(fullPath)) {
             return;
         }
 
@@ -218,6 +219,7 @@ public class FileWatcherService {
                 // 파일 분석
                 FileInfo fileInfo = analysisService.analyzeFile(filePath.toString());
                 fileInfo.setStatus(ProcessingStatus.ANALYZED);
+                updateDirectoryIndex(filePath);
 
                 // UI 스레드에서 파일 리스트 업데이트
                 Platform.runLater(() -> {
@@ -250,6 +252,10 @@ public class FileWatcherService {
      * 파일 수정 처리
      */
     private void handleModifiedFile(Path filePath) {
+        // 저장된 내용 해시는 더 이상 유효하지 않음
+        ContentHashCache.getShared().invalidate(filePath);
+        updateDirectoryIndex(filePath);
+
         // 수정된 파일은 재분석하지 않음 (성능상 이유)
         // 필요시 설정에서 활성화 가능
         if (currentConfig.isEnableContentAnalysis()) {
@@ -262,6 +268,8 @@ public class FileWatcherService {
      */
     private void handleDeletedFile(Path filePath) {
         updateStatus("파일 삭제됨: " + filePath.getFileName());
+        ContentHashCache.getShared().invalidate(filePath);
+        DirectorySizeIndex.getShared().remove(filePath);
 
         // UI에서 해당 파일 제거
         Platform.runLater(() -> {
@@ -271,6 +279,18 @@ public class FileWatcherService {
         });
     }
 
+    /**
+     * 디렉토리 집계 트리에 파일의 현재 크기/수정 시간 반영 (읽을 수 없으면 제거)
+     */
+    private void updateDirectoryIndex(Path filePath) {
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(filePath, BasicFileAttributes.class);
+            DirectorySizeIndex.getShared().put(filePath, attrs.size(), attrs.lastModifiedTime().toMillis());
+        } catch (IOException e) {
+            DirectorySizeIndex.getShared().remove(filePath);
+        }
+    }
+
     /**
      * 파일이 완전히 쓰여질 때까지 대기
      */
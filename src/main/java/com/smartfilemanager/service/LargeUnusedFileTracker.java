@@ -0,0 +1,175 @@
+package com.smartfilemanager.service;
+
+import com.smartfilemanager.constants.FileConstants;
+import com.smartfilemanager.model.FileInfo;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 오래 쓰지 않은 큰 파일 중 가장 큰 K개 추적
+ * 크기 K의 최소 힙으로 유지하므로 파일을 하나씩 넣는 동안 메모리는 K개로 고정되고,
+ * 전체 후보를 모았다가 정렬하지 않아도 언제든 현재까지의 상위 K개를 꺼낼 수 있습니다.
+ *
+ * "사용"은 마지막 접근 시간과 수정 시간 중 늦은 쪽으로 판단합니다 (접근 시간을 믿을 수 없으면 수정 시간).
+ * offer()는 여러 스레드에서 호출해도 됩니다.
+ *
+ * 폴더 스캔 중에는 FileScanService가 분석한 파일을 바로 넣으므로(startScan),
+ * 정리 후보 탐지는 스캔이 끝난 목록을 다시 훑지 않고 그 결과를 그대로 씁니다(getScanResult).
+ */
+public class LargeUnusedFileTracker {
+
+    // 마지막 폴더 스캔 중에 채운 추적기
+    private static volatile LargeUnusedFileTracker scanTracker;
+
+    // 가장 작은 파일이 맨 위 (크기가 같으면 경로 순서로 고정)
+    private static final Comparator<FileInfo> SMALLEST_FIRST =
+            Comparator.comparingLong(FileInfo::getFileSize)
+                    .thenComparing(FileInfo::getFilePath, Comparator.reverseOrder());
+
+    private final int capacity;
+    private final long minSize;
+    private final LocalDateTime cutoff;
+    private final PriorityQueue<FileInfo> heap;
+
+    private long staleFileCount;
+    private long staleBytes;
+    private long offeredCount;
+    private boolean complete;
+
+    /**
+     * @param capacity 남길 파일 수 (K)
+     * @param minSize  이 크기 이상인 파일만
+     * @param cutoff   이 시점 이후로 사용되지 않은 파일만
+     */
+    public LargeUnusedFileTracker(int capacity, long minSize, LocalDateTime cutoff) {
+        this.capacity = capacity;
+        this.minSize = minSize;
+        this.cutoff = cutoff;
+        this.heap = new PriorityQueue<>(capacity + 1, SMALLEST_FIRST);
+    }
+
+    /**
+     * 폴더 스캔 시작 - 스캔하면서 파일을 넣을 새 추적기 (이전 스캔 결과는 버림)
+     */
+    public static LargeUnusedFileTracker startScan() {
+        LargeUnusedFileTracker tracker = new LargeUnusedFileTracker(FileConstants.LargeUnusedFiles.TOP_K,
+                FileConstants.LargeUnusedFiles.MIN_SIZE,
+                LocalDateTime.now().minusDays(FileConstants.LargeUnusedFiles.UNUSED_DAYS));
+        scanTracker = tracker;
+        return tracker;
+    }
+
+    /**
+     * 마지막 폴더 스캔 결과 (끝까지 완료된 스캔이 없으면 null)
+     */
+    public static LargeUnusedFileTracker getScanResult() {
+        LargeUnusedFileTracker tracker = scanTracker;
+        return tracker != null && tracker.isComplete() ? tracker : null;
+    }
+
+    /**
+     * 스캔이 끝까지 완료됨 (중단된 스캔의 결과는 일부 파일만 포함하므로 쓰지 않음)
+     */
+    public synchronized void markComplete() {
+        complete = true;
+    }
+
+    public synchronized boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * 검사한 전체 파일 수 (조건에 맞지 않은 파일 포함)
+     */
+    public synchronized long getOfferedCount() {
+        return offeredCount;
+    }
+
+    /**
+     * 파일 하나 검사
+     *
+     * @return 조건에 맞아서 현재 상위 K개에 들어갔으면 true
+     */
+    public synchronized boolean offer(FileInfo file) {
+        offeredCount++;
+        if (file.getFileSize() < minSize) {
+            return false;
+        }
+        LocalDateTime lastUsed = lastUsedOf(file);
+        if (lastUsed == null || !lastUsed.isBefore(cutoff)) {
+            return false;
+        }
+
+        staleFileCount++;
+        staleBytes += file.getFileSize();
+
+        if (heap.size() < capacity) {
+            heap.add(file);
+            return true;
+        }
+        if (SMALLEST_FIRST.compare(file, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(file);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 다른 추적기의 결과 합치기 (병렬로 나눠 검사한 경우)
+     */
+    public synchronized void addAll(LargeUnusedFileTracker other) {
+        List<FileInfo> files;
+        synchronized (other) {
+            files = new ArrayList<>(other.heap);
+            offeredCount += other.offeredCount;
+            staleFileCount += other.staleFileCount;
+            staleBytes += other.staleBytes;
+        }
+
+        for (FileInfo file : files) {
+            if (heap.size() < capacity) {
+                heap.add(file);
+            } else if (SMALLEST_FIRST.compare(file, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(file);
+            }
+        }
+    }
+
+    /**
+     * 현재까지의 상위 K개 (큰 순서)
+     */
+    public synchronized List<FileInfo> getTopFiles() {
+        List<FileInfo> files = new ArrayList<>(heap);
+        files.sort(SMALLEST_FIRST.reversed());
+        return files;
+    }
+
+    /**
+     * 조건에 맞은 전체 파일 수 (상위 K개 밖의 파일 포함)
+     */
+    public synchronized long getStaleFileCount() {
+        return staleFileCount;
+    }
+
+    public synchronized long getStaleBytes() {
+        return staleBytes;
+    }
+
+    /**
+     * 마지막으로 사용한 시간 (접근 시간과 수정 시간 중 늦은 쪽)
+     */
+    public static LocalDateTime lastUsedOf(FileInfo file) {
+        LocalDateTime accessed = file.getAccessedDate();
+        LocalDateTime modified = file.getModifiedDate();
+        if (accessed == null) {
+            return modified;
+        }
+        return modified == null || accessed.isAfter(modified) ? accessed : modified;
+    }
+}
@@ -0,0 +1,165 @@
+package com.smartfilemanager.service;
+
+import com.smartfilemanager.model.FileInfo;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 파일 이동 계획
+ * 대상 폴더마다 파일 목록을 한 번만 읽어 이름 집합으로 만들고, 충돌하지 않는 이름을 메모리에서 정합니다.
+ * 같은 폴더로 가는 파일이 수천 개여도 "이름 (1)", "이름 (2)"를 찾느라 디스크에 묻지 않습니다.
+ *
+ * Windows처럼 대소문자를 구분하지 않는 파일 시스템을 위해 이름은 대소문자 없이 비교합니다.
+ * 계획은 한 스레드에서 세우고, 실행(이동)은 여러 스레드에서 해도 됩니다.
+ */
+public class MovePlanner {
+
+    /**
+     * 계획된 이동 하나
+     */
+    public static final class PlannedMove {
+        private final FileInfo fileInfo;
+        private final Path source;
+        private final Path target;
+
+        PlannedMove(FileInfo fileInfo, Path source, Path target) {
+            this.fileInfo = fileInfo;
+            this.source = source;
+            this.target = target;
+        }
+
+        public FileInfo getFileInfo() {
+            return fileInfo;
+        }
+
+        public Path getSource() {
+            return source;
+        }
+
+        public Path getTarget() {
+            return target;
+        }
+    }
+
+    private final Map<Path, DirectoryListing> listings = new LinkedHashMap<>();
+    private int renamedCount = 0;
+
+    /**
+     * targetDir 안에서 겹치지 않는 이름을 정해 이동 계획 추가
+     *
+     * @throws IOException 대상 폴더 목록을 읽지 못한 경우
+     */
+    public PlannedMove plan(FileInfo fileInfo, Path targetDir) throws IOException {
+        DirectoryListing listing = listings.get(targetDir);
+        if (listing == null) {
+            listing = DirectoryListing.load(targetDir);
+            listings.put(targetDir, listing);
+        }
+
+        String fileName = listing.reserve(fileInfo.getFileName());
+        if (!fileName.equals(fileInfo.getFileName())) {
+            renamedCount++;
+        }
+        return new PlannedMove(fileInfo, Paths.get(fileInfo.getFilePath()), targetDir.resolve(fileName));
+    }
+
+    /**
+     * 아직 없는 대상 폴더들을 한 번씩 생성
+     *
+     * @return 만들지 못한 폴더와 그 이유 (모두 성공하면 비어 있음)
+     */
+    public Map<Path, IOException> createMissingDirectories() {
+        Map<Path, IOException> failures = new HashMap<>();
+        for (DirectoryListing listing : listings.values()) {
+            if (listing.exists) {
+                continue;
+            }
+            try {
+                Files.createDirectories(listing.directory);
+                listing.exists = true;
+            } catch (IOException e) {
+                failures.put(listing.directory, e);
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * 목록을 읽은(또는 없음을 확인한) 대상 폴더 수
+     */
+    public int getDirectoryCount() {
+        return listings.size();
+    }
+
+    /**
+     * 이름이 겹쳐 번호를 붙인 파일 수
+     */
+    public int getRenamedCount() {
+        return renamedCount;
+    }
+
+    /**
+     * 대상 폴더 하나의 이름 집합 (기존 파일 + 이번 계획으로 들어갈 파일)
+     */
+    private static final class DirectoryListing {
+        final Path directory;
+        final Set<String> names;                                  // 소문자
+        final Map<String, Integer> nextCounter = new HashMap<>(); // 소문자 원래 이름 → 다음에 시도할 번호
+        boolean exists;
+
+        private DirectoryListing(Path directory, Set<String> names, boolean exists) {
+            this.directory = directory;
+            this.names = names;
+            this.exists = exists;
+        }
+
+        static DirectoryListing load(Path directory) throws IOException {
+            if (!Files.isDirectory(directory)) {
+                return new DirectoryListing(directory, new HashSet<>(), false);
+            }
+
+            Set<String> names = new HashSet<>();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                for (Path entry : entries) {
+                    names.add(entry.getFileName().toString().toLowerCase(Locale.ROOT));
+                }
+            }
+            return new DirectoryListing(directory, names, true);
+        }
+
+        /**
+         * 겹치지 않는 이름을 정하고 사용 중으로 표시 (겹치면 "이름 (n).확장자")
+         */
+        String reserve(String fileName) {
+            if (names.add(fileName.toLowerCase(Locale.ROOT))) {
+                return fileName;
+            }
+
+            int lastDot = fileName.lastIndexOf('.');
+            String baseName = lastDot == -1 ? fileName : fileName.substring(0, lastDot);
+            String extension = lastDot == -1 ? "" : fileName.substring(lastDot);
+
+            // 같은 이름이 계속 들어오면 이전에 멈춘 번호부터 이어서 시도
+            String counterKey = fileName.toLowerCase(Locale.ROOT);
+            int counter = nextCounter.getOrDefault(counterKey, 1);
+            String candidate;
+            do {
+                candidate = baseName + " (" + counter + ")" + extension;
+                counter++;
+            } while (!names.add(candidate.toLowerCase(Locale.ROOT)));
+
+            nextCounter.put(counterKey, counter);
+            return candidate;
+        }
+    }
+}
@@ -0,0 +1,533 @@
+package com.smartfilemanager.service;
+
+import com.smartfilemanager.constants.FileConstants.OperationJournaling;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+/**
+ * 파일 이동 작업 저널 (추가 전용, 세션마다 파일 하나)
+ * 정리 작업의 이동 계획/시작/완료를 먼저 기록해 두어, 작업 도중 프로그램이 죽어도
+ * 다음 실행 때 이어서 진행하거나 되돌릴 수 있고, 지난 세션도 저널만으로 되돌릴 수 있습니다.
+ *
+ * 기록은 메모리에 모았다가 commit()에서 한 번에 쓰고 fsync합니다. 여러 스레드가 동시에 commit()을 부르면
+ * 한 스레드가 그때까지 쌓인 기록을 모두 쓰므로 fsync 횟수가 기록 수보다 훨씬 적습니다 (group commit).
+ * 줄마다 CRC를 붙여, 쓰다가 끊긴 마지막 줄은 읽을 때 버립니다.
+ *
+ * 형식: CRC(8자리 16진수) \t 종류 \t 값... (값 안의 \, 탭, 줄바꿈은 이스케이프)
+ */
+public class OperationJournal implements AutoCloseable {
+
+    /**
+     * 이동 하나의 마지막 상태
+     */
+    public enum MoveState {
+        PLANNED,     // 계획만 기록됨
+        STARTED,     // 이동 시작 (완료 기록 전에 끊겼을 수 있음)
+        COMPLETED,   // 이동 완료
+        FAILED,      // 이동 실패 (원본 그대로)
+        REVERTING,   // 되돌리기 시작
+        REVERTED     // 되돌리기 완료
+    }
+
+    private static final Path JOURNAL_DIR = Paths.get(System.getProperty("user.home"),
+            ".smartfilemanager", OperationJournaling.DIRECTORY_NAME);
+    private static final String FILE_PREFIX = "session-";
+    private static final String FILE_SUFFIX = ".journal";
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final AtomicInteger FILE_COUNTER = new AtomicInteger();
+
+    // 기록 종류
+    private static final String HEADER = "H";
+    private static final String PLAN = "P";
+    private static final String START = "S";
+    private static final String COMPLETE = "C";
+    private static final String FAIL = "F";
+    private static final String REVERT = "R";
+    private static final String REVERTED = "U";
+    private static final String END = "E";
+
+    private final Path file;
+    private final FileChannel channel;   // null이면 기록하지 않음 (저널을 열지 못한 경우)
+
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private final Object commitLock = new Object();
+    private long appendedRecords = 0;
+    private long durableRecords = 0;
+    private long uncommittedRecords = 0;
+    private long nextMoveId;
+
+    private OperationJournal(Path file, FileChannel channel, long nextMoveId) {
+        this.file = file;
+        this.channel = channel;
+        this.nextMoveId = nextMoveId;
+    }
+
+    /**
+     * 새 세션 저널 생성
+     *
+     * @param operation 작업 이름 (예: "organize")
+     */
+    public static OperationJournal create(String operation) throws IOException {
+        return create(JOURNAL_DIR, operation);
+    }
+
+    static OperationJournal create(Path directory, String operation) throws IOException {
+        Files.createDirectories(directory);
+        String name = FILE_PREFIX + LocalDateTime.now().format(FILE_TIME) + "-" +
+                FILE_COUNTER.incrementAndGet() + FILE_SUFFIX;
+        Path file = directory.resolve(name);
+
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        OperationJournal journal = new OperationJournal(file, channel, 1);
+        journal.append(HEADER, operation, Long.toString(System.currentTimeMillis()));
+        return journal;
+    }
+
+    /**
+     * 기존 세션 저널에 이어서 기록 (복구, 되돌리기)
+     */
+    public static OperationJournal reopen(Session session) throws IOException {
+        FileChannel channel = FileChannel.open(session.getFile(), StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        return new OperationJournal(session.getFile(), channel, session.maxMoveId + 1);
+    }
+
+    /**
+     * 기록하지 않는 저널 (저널을 열지 못해도 작업은 계속할 때)
+     */
+    public static OperationJournal disabled() {
+        return new OperationJournal(null, null, 1);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * 이동 계획 기록
+     *
+     * @return 이후 기록에 쓸 이동 번호
+     */
+    public long planned(Path source, Path target) {
+        long id;
+        synchronized (this) {
+            id = nextMoveId++;
+        }
+        append(PLAN, Long.toString(id), source.toString(), target.toString());
+        return id;
+    }
+
+    public void started(long id) {
+        append(START, Long.toString(id));
+    }
+
+    public void completed(long id) {
+        append(COMPLETE, Long.toString(id));
+    }
+
+    public void failed(long id) {
+        append(FAIL, Long.toString(id));
+    }
+
+    public void reverting(long id) {
+        append(REVERT, Long.toString(id));
+    }
+
+    public void reverted(long id) {
+        append(REVERTED, Long.toString(id));
+    }
+
+    /**
+     * 지금까지의 기록을 디스크에 확정 (group commit)
+     */
+    public void commit() throws IOException {
+        if (channel == null) {
+            return;
+        }
+
+        long target;
+        synchronized (this) {
+            target = appendedRecords;
+        }
+
+        synchronized (commitLock) {
+            // 앞선 commit이 이미 이 기록까지 써 줬으면 끝
+            if (durableRecords >= target) {
+                return;
+            }
+
+            byte[] data;
+            long upTo;
+            synchronized (this) {
+                data = pending.toByteArray();
+                pending.reset();
+                upTo = appendedRecords;
+                uncommittedRecords = 0;
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            durableRecords = upTo;
+        }
+    }
+
+    /**
+     * 세션 종료 기록 후 닫기 (종료 기록이 없는 세션은 다음 실행 때 중단된 세션으로 취급)
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        append(END);
+        try {
+            commit();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * 종료 기록 없이 확정하고 닫기 (취소/중단된 작업: 다음 실행 때 중단된 세션으로 다시 물음)
+     */
+    public void suspend() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        try {
+            commit();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void append(String type, String... values) {
+        if (channel == null) {
+            return;
+        }
+
+        StringBuilder body = new StringBuilder(type);
+        for (String value : values) {
+            body.append('\t').append(escape(value));
+        }
+        byte[] bodyBytes = body.toString().getBytes(StandardCharsets.UTF_8);
+
+        CRC32 crc = new CRC32();
+        crc.update(bodyBytes);
+        String crcHex = String.format("%08x\t", crc.getValue());
+
+        boolean commitNow;
+        synchronized (this) {
+            pending.writeBytes(crcHex.getBytes(StandardCharsets.US_ASCII));
+            pending.writeBytes(bodyBytes);
+            pending.write('\n');
+            appendedRecords++;
+            uncommittedRecords++;
+            commitNow = uncommittedRecords >= OperationJournaling.GROUP_COMMIT_RECORDS;
+        }
+
+        // 기록이 일정 개수 쌓이면 기록한 스레드가 직접 확정
+        if (commitNow) {
+            try {
+                commit();
+            } catch (IOException e) {
+                System.err.println("[JOURNAL] 저널 기록 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    // ===============================
+    // 읽기
+    // ===============================
+
+    /**
+     * 저장된 모든 세션 (최신 순)
+     */
+    public static List<Session> listSessions() {
+        return listSessions(JOURNAL_DIR);
+    }
+
+    static List<Session> listSessions(Path directory) {
+        List<Session> sessions = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return sessions;
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                try {
+                    sessions.add(read(file));
+                } catch (IOException e) {
+                    System.err.println("[JOURNAL] 저널 읽기 실패: " + file + " - " + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("[JOURNAL] 저널 폴더 읽기 실패: " + e.getMessage());
+        }
+
+        sessions.sort(Comparator.comparing((Session session) -> session.getFile().getFileName().toString()).reversed());
+        return sessions;
+    }
+
+    /**
+     * 종료 기록 없이 끝난 세션들 (최신 순)
+     */
+    public static List<Session> listInterruptedSessions() {
+        List<Session> interrupted = new ArrayList<>();
+        for (Session session : listSessions()) {
+            if (!session.isClosed()) {
+                interrupted.add(session);
+            }
+        }
+        return interrupted;
+    }
+
+    /**
+     * 오래된 종료 세션 정리 (최근 keep개와 중단된 세션은 남김)
+     */
+    public static void pruneSessions(int keep) {
+        int closedSeen = 0;
+        for (Session session : listSessions()) {
+            if (!session.isClosed()) {
+                continue;
+            }
+            if (++closedSeen > keep) {
+                try {
+                    Files.deleteIfExists(session.getFile());
+                } catch (IOException e) {
+                    System.err.println("[JOURNAL] 오래된 저널 삭제 실패: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 저널 파일 하나 읽기 (CRC가 맞지 않는 줄은 버림)
+     */
+    public static Session read(Path file) throws IOException {
+        Session session = new Session(file);
+        byte[] data = Files.readAllBytes(file);
+
+        int lineStart = 0;
+        for (int i = 0; i < data.length; i++) {
+            if (data[i] != '\n') {
+                continue;
+            }
+            String line = new String(data, lineStart, i - lineStart, StandardCharsets.UTF_8);
+            lineStart = i + 1;
+
+            int tab = line.indexOf('\t');
+            if (tab != 8) {
+                continue;
+            }
+            byte[] bodyBytes = line.substring(tab + 1).getBytes(StandardCharsets.UTF_8);
+            CRC32 crc = new CRC32();
+            crc.update(bodyBytes);
+            if (!String.format("%08x", crc.getValue()).equals(line.substring(0, tab))) {
+                continue;   // 쓰다가 끊긴 줄
+            }
+
+            session.apply(line.substring(tab + 1).split("\t", -1));
+        }
+        return session;
+    }
+
+    /**
+     * 저널에서 읽은 세션 하나
+     */
+    public static final class Session {
+        private final Path file;
+        private String operation = "";
+        private LocalDateTime startedAt;
+        private boolean closed = false;
+        private final Map<Long, Move> moves = new LinkedHashMap<>();
+        private long maxMoveId = 0;
+
+        private Session(Path file) {
+            this.file = file;
+        }
+
+        private void apply(String[] fields) {
+            String type = fields[0];
+            closed = END.equals(type);
+
+            if (HEADER.equals(type) && fields.length >= 3) {
+                operation = unescape(fields[1]);
+                startedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(fields[2])),
+                        ZoneId.systemDefault());
+                return;
+            }
+            if (fields.length < 2 || END.equals(type)) {
+                return;
+            }
+
+            long id = Long.parseLong(fields[1]);
+            if (PLAN.equals(type) && fields.length >= 4) {
+                moves.put(id, new Move(id, Paths.get(unescape(fields[2])), Paths.get(unescape(fields[3]))));
+                maxMoveId = Math.max(maxMoveId, id);
+                return;
+            }
+
+            Move move = moves.get(id);
+            if (move == null) {
+                return;
+            }
+            switch (type) {
+                case START: move.state = MoveState.STARTED; break;
+                case COMPLETE: move.state = MoveState.COMPLETED; break;
+                case FAIL: move.state = MoveState.FAILED; break;
+                case REVERT: move.state = MoveState.REVERTING; break;
+                case REVERTED: move.state = MoveState.REVERTED; break;
+                default: break;
+            }
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        public LocalDateTime getStartedAt() {
+            return startedAt;
+        }
+
+        /**
+         * 종료 기록으로 끝났는지 (아니면 작업 도중 중단됨)
+         */
+        public boolean isClosed() {
+            return closed;
+        }
+
+        /**
+         * 계획 순서대로의 이동들
+         */
+        public List<Move> getMoves() {
+            return Collections.unmodifiableList(new ArrayList<>(moves.values()));
+        }
+
+        /**
+         * 되돌릴 때 실제 파일 상태를 확인할 이동들 (계획 순서)
+         * 종료된 세션은 모든 기록이 확정돼 있으므로 완료됐을 수 있는 이동만 봅니다. 중단된 세션은 시작/완료 기록이
+         * 확정되기 전에 끊겼을 수 있으므로 실패나 되돌림 기록이 없는 모든 이동(계획만 남은 것 포함)을 봅니다.
+         */
+        public List<Move> getRevertCandidates() {
+            List<Move> candidates = new ArrayList<>();
+            for (Move move : moves.values()) {
+                boolean candidate = closed ? move.isRevertible()
+                        : move.state != MoveState.FAILED && move.state != MoveState.REVERTED;
+                if (candidate) {
+                    candidates.add(move);
+                }
+            }
+            return candidates;
+        }
+
+        /**
+         * 되돌릴 수 있는 이동 수 (완료됐거나 완료됐을 수 있는 이동)
+         */
+        public int getRevertibleCount() {
+            return getRevertCandidates().size();
+        }
+
+        /**
+         * 되돌리기 도중 중단된 세션인지
+         */
+        public boolean isReverting() {
+            for (Move move : moves.values()) {
+                if (move.state == MoveState.REVERTING || move.state == MoveState.REVERTED) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 계획된 이동 하나와 저널상의 마지막 상태
+     */
+    public static final class Move {
+        private final long id;
+        private final Path source;
+        private final Path target;
+        private MoveState state = MoveState.PLANNED;
+
+        private Move(long id, Path source, Path target) {
+            this.id = id;
+            this.source = source;
+            this.target = target;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public Path getSource() {
+            return source;
+        }
+
+        public Path getTarget() {
+            return target;
+        }
+
+        public MoveState getState() {
+            return state;
+        }
+
+        /**
+         * 완료 기록이 있거나, 시작 후 끊겨서 실제로는 이동됐을 수 있는 이동
+         */
+        public boolean isRevertible() {
+            return state == MoveState.COMPLETED || state == MoveState.STARTED || state == MoveState.REVERTING;
+        }
+    }
+
+    private static String escape(String value) {
+        if (value.indexOf('\\') < 0 && value.indexOf('\t') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n");
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                result.append(next == 't' ? '\t' : next == 'n' ? '\n' : next);
+            } else {
+                result.append(ch);
+            }
+        }
+        return result.toString();
+    }
+}
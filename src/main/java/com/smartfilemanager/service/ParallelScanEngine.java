@@ -0,0 +1,251 @@
+package com.smartfilemanager.service;
+
+import com.smartfilemanager.util.FileSyscallCounter;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.DosFileAttributes;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * ForkJoin 기반 병렬 재귀 스캔 엔진
+ * 디렉토리 단위로 작업을 분할하고, 작업 훔치기(work stealing)로 편중된 트리도 고르게 처리합니다
+ */
+public class ParallelScanEngine {
+
+    // 한 작업이 직접 처리할 최대 파일 수 (초과 시 구간을 나눠 병렬 처리)
+    private static final int FILE_CHUNK_SIZE = 256;
+
+    private final int parallelism;
+    private volatile ForkJoinPool pool;
+    private volatile boolean cancelled = false;
+
+    // 스캔 통계
+    private final AtomicInteger discoveredFiles = new AtomicInteger();
+    private final AtomicInteger visitedDirectories = new AtomicInteger();
+    private final AtomicInteger failedDirectories = new AtomicInteger();
+
+    /**
+     * @param parallelism 동시 작업 스레드 수 (0 이하이면 CPU 코어 수 사용)
+     */
+    public ParallelScanEngine(int parallelism) {
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * 디렉토리 트리를 병렬로 스캔합니다
+     * fileConsumer는 여러 워커 스레드에서 동시에 호출되므로 스레드 안전해야 합니다
+     *
+     * @param root          스캔 시작 디렉토리
+     * @param directoryFilter 하위 디렉토리 진입 여부 (false면 해당 서브트리 건너뜀)
+     * @param fileConsumer  일반 파일마다 호출되는 처리기
+     */
+    public void scan(Path root, Predicate<Path> directoryFilter,
+                     BiConsumer<Path, BasicFileAttributes> fileConsumer) throws InterruptedException {
+        cancelled = false;
+        discoveredFiles.set(0);
+        visitedDirectories.set(0);
+        failedDirectories.set(0);
+
+        Class<? extends BasicFileAttributes> attributesType = attributesTypeFor(root);
+
+        ForkJoinPool scanPool = new ForkJoinPool(parallelism, p -> {
+            ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            t.setName("ScanWorker-" + t.getPoolIndex());
+            t.setDaemon(true);
+            return t;
+        }, null, false);
+        this.pool = scanPool;
+
+        System.out.println("[정보] 병렬 스캔 시작: " + root + " (스레드 " + parallelism + "개)");
+
+        try {
+            scanPool.invoke(new DirectoryScanTask(root, attributesType, directoryFilter, fileConsumer));
+        } catch (CancellationException e) {
+            // cancel()로 풀이 중단된 경우 - 아래에서 InterruptedException으로 전달
+        } finally {
+            scanPool.shutdown();
+            scanPool.awaitTermination(5, TimeUnit.SECONDS);
+            this.pool = null;
+        }
+
+        if (cancelled) {
+            throw new InterruptedException("스캔이 취소되었습니다");
+        }
+
+        System.out.println("[정보] 병렬 스캔 완료: 디렉토리 " + visitedDirectories.get() +
+                "개, 파일 " + discoveredFiles.get() + "개 (읽기 실패 디렉토리 " + failedDirectories.get() + "개)");
+    }
+
+    /**
+     * 파일 시스템이 지원하는 가장 자세한 속성 타입 (조회 비용은 BasicFileAttributes와 같은 stat 1회)
+     * 숨김/읽기 전용 여부를 추가 시스템 호출 없이 판단할 수 있게 합니다
+     */
+    public static Class<? extends BasicFileAttributes> attributesTypeFor(Path path) {
+        Set<String> views = path.getFileSystem().supportedFileAttributeViews();
+        if (views.contains("posix")) {
+            return PosixFileAttributes.class;
+        }
+        if (views.contains("dos")) {
+            return DosFileAttributes.class;
+        }
+        return BasicFileAttributes.class;
+    }
+
+    /**
+     * 진행 중인 스캔 취소
+     */
+    public void cancel() {
+        cancelled = true;
+        ForkJoinPool current = pool;
+        if (current != null) {
+            current.shutdownNow();
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getDiscoveredFiles() {
+        return discoveredFiles.get();
+    }
+
+    public int getVisitedDirectories() {
+        return visitedDirectories.get();
+    }
+
+    /**
+     * 디렉토리 하나를 나열하고, 하위 디렉토리는 별도 작업으로 분기(fork)합니다
+     */
+    private class DirectoryScanTask extends RecursiveAction {
+        private final Path directory;
+        private final Class<? extends BasicFileAttributes> attributesType;
+        private final Predicate<Path> directoryFilter;
+        private final BiConsumer<Path, BasicFileAttributes> fileConsumer;
+
+        DirectoryScanTask(Path directory, Class<? extends BasicFileAttributes> attributesType,
+                          Predicate<Path> directoryFilter, BiConsumer<Path, BasicFileAttributes> fileConsumer) {
+            this.directory = directory;
+            this.attributesType = attributesType;
+            this.directoryFilter = directoryFilter;
+            this.fileConsumer = fileConsumer;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelled) {
+                return;
+            }
+
+            List<DirectoryScanTask> subTasks = new ArrayList<>();
+            List<Path> files = new ArrayList<>();
+            List<BasicFileAttributes> fileAttrs = new ArrayList<>();
+
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                for (Path entry : stream) {
+                    if (cancelled) {
+                        return;
+                    }
+
+                    BasicFileAttributes attrs;
+                    try {
+                        FileSyscallCounter.count(FileSyscallCounter.STAT);
+                        // 심볼릭 링크를 따라가지 않아 순환 구조를 방지
+                        attrs = Files.readAttributes(entry, attributesType, LinkOption.NOFOLLOW_LINKS);
+                    } catch (IOException e) {
+                        continue; // 속성을 읽을 수 없는 항목은 건너뛰기
+                    }
+
+                    if (attrs.isDirectory()) {
+                        if (directoryFilter == null || directoryFilter.test(entry)) {
+                            subTasks.add(new DirectoryScanTask(entry, attributesType, directoryFilter, fileConsumer));
+                        }
+                    } else if (attrs.isRegularFile()) {
+                        files.add(entry);
+                        fileAttrs.add(attrs);
+                    }
+                }
+            } catch (IOException | SecurityException e) {
+                failedDirectories.incrementAndGet();
+                System.err.println("[경고] 디렉토리 읽기 실패: " + directory + " - " + e.getMessage());
+                return;
+            }
+
+            visitedDirectories.incrementAndGet();
+            discoveredFiles.addAndGet(files.size());
+
+            // 하위 디렉토리는 먼저 fork해서 유휴 워커가 훔쳐갈 수 있게 함
+            for (DirectoryScanTask subTask : subTasks) {
+                subTask.fork();
+            }
+
+            // 현재 디렉토리의 파일들 처리 (대용량 폴더는 구간 분할)
+            new FileChunkTask(files, fileAttrs, 0, files.size(), fileConsumer).invoke();
+
+            for (DirectoryScanTask subTask : subTasks) {
+                subTask.join();
+            }
+        }
+    }
+
+    /**
+     * 한 디렉토리 안의 파일 구간을 처리합니다 (구간이 크면 반으로 나눠 병렬 처리)
+     */
+    private class FileChunkTask extends RecursiveAction {
+        private final List<Path> files;
+        private final List<BasicFileAttributes> fileAttrs;
+        private final int from;
+        private final int to;
+        private final BiConsumer<Path, BasicFileAttributes> fileConsumer;
+
+        FileChunkTask(List<Path> files, List<BasicFileAttributes> fileAttrs, int from, int to,
+                      BiConsumer<Path, BasicFileAttributes> fileConsumer) {
+            this.files = files;
+            this.fileAttrs = fileAttrs;
+            this.from = from;
+            this.to = to;
+            this.fileConsumer = fileConsumer;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > FILE_CHUNK_SIZE) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new FileChunkTask(files, fileAttrs, from, mid, fileConsumer),
+                        new FileChunkTask(files, fileAttrs, mid, to, fileConsumer));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                if (cancelled) {
+                    return;
+                }
+                try {
+                    fileConsumer.accept(files.get(i), fileAttrs.get(i));
+                } catch (Exception e) {
+                    System.err.println("[오류] 파일 처리 실패: " + files.get(i).getFileName() + " - " + e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.smartfilemanager.service;
+
+import com.smartfilemanager.model.FileInfo;
+import com.smartfilemanager.model.ProcessingStatus;
+import com.smartfilemanager.util.DatabaseHelper;
+import com.smartfilemanager.util.DatabaseHelper.ScanCatalogEntry;
+
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 스캔 카탈로그 서비스
+ * 크기 + 수정 시간 + fileKey가 그대로인 파일은 다시 분석하지 않고 저장된 결과를 재사용합니다
+ */
+public class ScanCatalogService {
+
+    // 이 개수만큼 쌓이면 한 트랜잭션으로 저장
+    private static final int WRITE_BATCH_SIZE = 1000;
+    private static final String KEYWORD_SEPARATOR = "\n";
+
+    private final DatabaseHelper databaseHelper;
+    private final boolean enabled;
+
+    // 이번 스캔 루트의 기존 항목 (조회된 항목은 제거되어, 스캔 후 남은 것은 삭제된 파일)
+    private Map<String, ScanCatalogEntry> snapshot = new ConcurrentHashMap<>();
+    private final List<ScanCatalogEntry> pendingWrites = new ArrayList<>();
+    private String analysisSignature;
+
+    // 스캔 통계
+    private final AtomicInteger reusedCount = new AtomicInteger();
+    private final AtomicInteger analyzedCount = new AtomicInteger();
+
+    public ScanCatalogService() {
+        this(new DatabaseHelper());
+    }
+
+    public ScanCatalogService(DatabaseHelper databaseHelper) {
+        this.databaseHelper = databaseHelper;
+        this.enabled = databaseHelper.isConnectionValid();
+
+        if (!enabled) {
+            System.err.println("[경고] 데이터베이스를 사용할 수 없어 스캔 카탈로그가 비활성화됩니다");
+        }
+    }
+
+    /**
+     * 스캔 시작 - 루트 폴더 아래의 기존 카탈로그를 메모리로 불러옴
+     *
+     * @param analysisSignature 분석 설정 요약 (다르면 캐시된 결과를 쓰지 않음)
+     */
+    public void beginScan(Path root, String analysisSignature) {
+        this.analysisSignature = analysisSignature;
+        this.reusedCount.set(0);
+        this.analyzedCount.set(0);
+        synchronized (pendingWrites) {
+            pendingWrites.clear();
+        }
+
+        if (!enabled) {
+            snapshot = new ConcurrentHashMap<>();
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        snapshot = new ConcurrentHashMap<>(databaseHelper.loadScanCatalog(root.toAbsolutePath().toString()));
+        System.out.println("[정보] 스캔 카탈로그 로드: " + snapshot.size() + "개 항목 (" +
+                (System.currentTimeMillis() - start) + "ms)");
+    }
+
+    /**
+     * 변경되지 않은 파일이면 저장된 분석 결과로 FileInfo를 만들어 반환, 아니면 null
+     */
+    public FileInfo lookup(Path file, BasicFileAttributes attrs) {
+        ScanCatalogEntry entry = snapshot.remove(file.toString());
+        if (entry == null || !isUnchanged(entry, attrs)) {
+            return null;
+        }
+
+        reusedCount.incrementAndGet();
+        FileInfo fileInfo = toFileInfo(entry, file);
+        // 접근 시간은 내용이 그대로여도 바뀌므로 저장하지 않고 이번 스캔 속성에서 읽음
+        fileInfo.setAccessedDate(FileAnalysisService.accessTimeOf(attrs));
+        return fileInfo;
+    }
+
+    /**
+     * 새로 분석한 결과를 카탈로그에 기록 (일정 개수마다 일괄 저장)
+     */
+    public void record(FileInfo fileInfo, BasicFileAttributes attrs) {
+        analyzedCount.incrementAndGet();
+        if (!enabled || fileInfo.getStatus() != ProcessingStatus.ANALYZED) {
+            return; // 분석 실패 결과는 저장하지 않음
+        }
+
+        List<ScanCatalogEntry> toWrite = null;
+        synchronized (pendingWrites) {
+            pendingWrites.add(toEntry(fileInfo, attrs));
+            if (pendingWrites.size() >= WRITE_BATCH_SIZE) {
+                toWrite = new ArrayList<>(pendingWrites);
+                pendingWrites.clear();
+            }
+        }
+
+        if (toWrite != null) {
+            databaseHelper.saveScanCatalogEntries(toWrite);
+        }
+    }
+
+    /**
+     * 스캔 종료 - 남은 기록을 저장하고, 끝까지 스캔한 경우 사라진 파일의 항목을 삭제
+     *
+     * @param completed 스캔이 취소 없이 끝났는지 여부
+     */
+    public void finishScan(boolean completed) {
+        List<ScanCatalogEntry> toWrite;
+        synchronized (pendingWrites) {
+            toWrite = new ArrayList<>(pendingWrites);
+            pendingWrites.clear();
+        }
+        databaseHelper.saveScanCatalogEntries(toWrite);
+
+        int removed = 0;
+        if (completed && enabled) {
+            removed = databaseHelper.deleteScanCatalogEntries(snapshot.keySet());
+        }
+        snapshot = new ConcurrentHashMap<>();
+
+        System.out.println("[정보] 스캔 카탈로그: 재사용 " + reusedCount.get() + "개, 새로 분석 " +
+                analyzedCount.get() + "개, 삭제된 항목 " + removed + "개");
+    }
+
+    public int getReusedCount() {
+        return reusedCount.get();
+    }
+
+    public int getAnalyzedCount() {
+        return analyzedCount.get();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 데이터베이스 연결 종료
+     */
+    public void shutdown() {
+        databaseHelper.close();
+    }
+
+    private boolean isUnchanged(ScanCatalogEntry entry, BasicFileAttributes attrs) {
+        if (entry.getFileSize() != attrs.size() ||
+                entry.getModifiedTime() != attrs.lastModifiedTime().toMillis()) {
+            return false;
+        }
+
+        // 같은 경로에 다른 파일이 들어온 경우 (fileKey를 지원하지 않는 파일 시스템은 null)
+        String fileKey = fileKeyOf(attrs);
+        if (fileKey != null && entry.getFileKey() != null && !fileKey.equals(entry.getFileKey())) {
+            return false;
+        }
+
+        return analysisSignature != null && analysisSignature.equals(entry.getAnalysisSignature());
+    }
+
+    private FileInfo toFileInfo(ScanCatalogEntry entry, Path file) {
+        FileInfo fileInfo = new FileInfo();
+        String fileName = file.getFileName().toString();
+
+        fileInfo.setFilePath(entry.getFilePath());
+        fileInfo.setFileName(fileName);
+        fileInfo.setOriginalLocation(file.getParent() != null ? file.getParent().toString() : null);
+        fileInfo.setFileSize(entry.getFileSize());
+        fileInfo.setFileExtension(extensionOf(fileName));
+        fileInfo.setMimeType(entry.getMimeType());
+        fileInfo.setCreatedDate(toDateTime(entry.getCreatedTime()));
+        fileInfo.setModifiedDate(toDateTime(entry.getModifiedTime()));
+        fileInfo.setDetectedCategory(entry.getDetectedCategory());
+        fileInfo.setDetectedSubCategory(entry.getDetectedSubCategory());
+        fileInfo.setConfidenceScore(entry.getConfidenceScore());
+        fileInfo.setSuggestedPath(entry.getSuggestedPath());
+        fileInfo.setDescription(entry.getDescription());
+        fileInfo.setExtractedTitle(entry.getExtractedTitle());
+        fileInfo.setExtractedAuthor(entry.getExtractedAuthor());
+        fileInfo.setKeywords(entry.getKeywords() == null || entry.getKeywords().isEmpty()
+                ? new ArrayList<>()
+                : new ArrayList<>(Arrays.asList(entry.getKeywords().split(KEYWORD_SEPARATOR))));
+        fileInfo.setStatus(ProcessingStatus.ANALYZED);
+        fileInfo.setProcessedAt(toDateTime(entry.getAnalyzedAt()));
+
+        return fileInfo;
+    }
+
+    private ScanCatalogEntry toEntry(FileInfo fileInfo, BasicFileAttributes attrs) {
+        ScanCatalogEntry entry = new ScanCatalogEntry();
+        entry.setFilePath(fileInfo.getFilePath());
+        entry.setFileKey(fileKeyOf(attrs));
+        entry.setFileSize(attrs.size());
+        entry.setModifiedTime(attrs.lastModifiedTime().toMillis());
+        entry.setCreatedTime(attrs.creationTime().toMillis());
+        entry.setMimeType(fileInfo.getMimeType());
+        entry.setDetectedCategory(fileInfo.getDetectedCategory());
+        entry.setDetectedSubCategory(fileInfo.getDetectedSubCategory());
+        entry.setConfidenceScore(fileInfo.getConfidenceScore());
+        entry.setKeywords(String.join(KEYWORD_SEPARATOR,
+                fileInfo.getKeywords() != null ? fileInfo.getKeywords() : Collections.emptyList()));
+        entry.setSuggestedPath(fileInfo.getSuggestedPath());
+        entry.setDescription(fileInfo.getDescription());
+        entry.setExtractedTitle(fileInfo.getExtractedTitle());
+        entry.setExtractedAuthor(fileInfo.getExtractedAuthor());
+        entry.setAnalysisSignature(analysisSignature);
+        entry.setAnalyzedAt(System.currentTimeMillis());
+        return entry;
+    }
+
+    private String fileKeyOf(BasicFileAttributes attrs) {
+        Object fileKey = attrs.fileKey();
+        return fileKey != null ? fileKey.toString() : null;
+    }
+
+    private LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private String extensionOf(String fileName) {
+        // FileAnalysisService와 동일한 규칙
+        int lastDot = fileName.lastIndexOf('.');
+        return (lastDot == -1) ? "" : fileName.substring(lastDot + 1);
+    }
+}
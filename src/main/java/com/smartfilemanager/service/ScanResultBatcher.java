@@ -0,0 +1,118 @@
+package com.smartfilemanager.service;
+
+import com.smartfilemanager.model.FileInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 스캔 결과 배치 발행기
+ * 여러 워커 스레드가 넘겨주는 FileInfo를 모아 N개마다 또는 T밀리초마다 한 번에 전달합니다
+ */
+public class ScanResultBatcher implements AutoCloseable {
+
+    private final int batchSize;
+    private final Consumer<List<FileInfo>> batchConsumer;
+    private final ScheduledExecutorService flushScheduler;
+    private final AtomicInteger publishedCount = new AtomicInteger();
+
+    private List<FileInfo> buffer;
+    private boolean closed = false;
+
+    /**
+     * @param batchSize       이 개수가 쌓이면 즉시 전달
+     * @param flushIntervalMs 이 시간이 지나면 쌓인 만큼 전달 (지연 상한)
+     * @param batchConsumer   배치를 받는 처리기 (워커 또는 타이머 스레드에서 호출됨)
+     */
+    public ScanResultBatcher(int batchSize, long flushIntervalMs, Consumer<List<FileInfo>> batchConsumer) {
+        this.batchSize = Math.max(1, batchSize);
+        this.batchConsumer = batchConsumer;
+        this.buffer = new ArrayList<>(this.batchSize);
+
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "ScanBatch-Flusher");
+            t.setDaemon(true);
+            return t;
+        });
+        this.flushScheduler.scheduleAtFixedRate(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 결과 하나 추가 (배치가 가득 차면 호출한 스레드에서 바로 전달)
+     */
+    public void add(FileInfo fileInfo) {
+        List<FileInfo> fullBatch = null;
+
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            buffer.add(fileInfo);
+            if (buffer.size() >= batchSize) {
+                fullBatch = buffer;
+                buffer = new ArrayList<>(batchSize);
+            }
+        }
+
+        if (fullBatch != null) {
+            publish(fullBatch);
+        }
+    }
+
+    /**
+     * 쌓여 있는 결과를 즉시 전달
+     */
+    public void flush() {
+        List<FileInfo> pending;
+
+        synchronized (this) {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            pending = buffer;
+            buffer = new ArrayList<>(batchSize);
+        }
+
+        publish(pending);
+    }
+
+    private void publish(List<FileInfo> batch) {
+        try {
+            batchConsumer.accept(batch);
+            publishedCount.addAndGet(batch.size());
+        } catch (Exception e) {
+            System.err.println("[오류] 스캔 결과 배치 전달 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 지금까지 전달된 결과 수
+     */
+    public int getPublishedCount() {
+        return publishedCount.get();
+    }
+
+    /**
+     * 타이머를 멈추고 남은 결과를 마지막으로 전달
+     */
+    @Override
+    public void close() {
+        flushScheduler.shutdown();
+        try {
+            flushScheduler.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (this) {
+            closed = true;
+        }
+
+        flush();
+    }
+}
@@ -1,7 +1,9 @@
 package com.smartfilemanager.service;
 
+import com.smartfilemanager.constants.FileConstants.OrganizeConcurrency;
 import com.smartfilemanager.model.FileInfo;
 import com.smartfilemanager.model.ProcessingStatus;
+import com.smartfilemanager.util.CrossDeviceMover;
 import javafx.application.Platform;
 import javafx.concurrent.Task;
 import javafx.scene.control.ProgressBar;
@@ -14,7 +16,18 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -45,6 +58,9 @@ public class UndoService {
 
                 System.out.println("[정보] " + totalFiles + "개 파일 되돌리기 시작");
 
+                // 되돌린 파일: 정리된 위치 → 원래 위치 (끝나고 저널에도 기록)
+                Map<Path, Path> reverted = new HashMap<>();
+
                 // UI 업데이트 - 되돌리기 시작
                 Platform.runLater(() -> updateUIForUndoStart(totalFiles));
 
@@ -53,7 +69,9 @@ public class UndoService {
 
                     try {
                         // 파일 되돌리기 실행
+                        Path organizedPath = Paths.get(fileInfo.getFilePath());
                         undoSingleFile(fileInfo);
+                        reverted.put(organizedPath, Paths.get(fileInfo.getFilePath()));
 
                         // 상태를 분석됨으로 변경
                         fileInfo.setStatus(ProcessingStatus.ANALYZED);
@@ -85,6 +103,7 @@ public class UndoService {
                     Thread.sleep(100);
                 }
 
+                journalReverts(reverted);
                 return successCount;
             }
 
@@ -100,6 +119,193 @@ public class UndoService {
         };
     }
 
+    /**
+     * 이번 실행의 파일 목록으로 되돌린 이동을 저널에도 되돌림으로 기록
+     * 기록하지 않으면 같은 세션이 다음에 다시 되돌리기 대상으로 제시되고, 이미 원래 자리에 있는 파일이
+     * 되돌리기 성공으로 세어집니다.
+     *
+     * @param reverted 정리된 위치 → 되돌린 위치
+     */
+    private void journalReverts(Map<Path, Path> reverted) {
+        if (reverted.isEmpty()) {
+            return;
+        }
+
+        for (OperationJournal.Session session : OperationJournal.listSessions()) {
+            if (!session.isClosed()) {
+                continue;   // 중단된 세션은 시작할 때 따로 처리
+            }
+
+            List<OperationJournal.Move> matched = new ArrayList<>();
+            for (OperationJournal.Move move : session.getMoves()) {
+                if (move.isRevertible() && reverted.containsKey(move.getTarget())) {
+                    matched.add(move);
+                }
+            }
+            if (matched.isEmpty()) {
+                continue;
+            }
+
+            try (OperationJournal journal = OperationJournal.reopen(session)) {
+                for (OperationJournal.Move move : matched) {
+                    journal.reverting(move.getId());
+                    journal.reverted(move.getId());
+                }
+            } catch (IOException e) {
+                System.err.println("[JOURNAL] 되돌리기 기록 실패: " + session.getFile() + " - " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 저널에 기록된 지난 세션을 백그라운드에서 되돌리기
+     */
+    public Task<Integer> undoSessionAsync(OperationJournal.Session session) {
+        return new Task<Integer>() {
+            @Override
+            protected Integer call() throws Exception {
+                int totalFiles = session.getRevertibleCount();
+
+                // UI 업데이트 - 되돌리기 시작
+                Platform.runLater(() -> updateUIForUndoStart(totalFiles));
+
+                // 진행률 표시는 일정 간격으로만 (여러 워커가 동시에 보고함)
+                AtomicLong lastUIUpdate = new AtomicLong();
+                return revertSession(session, (current, total, currentFile) -> {
+                    long now = System.currentTimeMillis();
+                    long last = lastUIUpdate.get();
+                    if (current < total && (now - last < OrganizeConcurrency.UI_UPDATE_INTERVAL ||
+                            !lastUIUpdate.compareAndSet(last, now))) {
+                        return;
+                    }
+
+                    Platform.runLater(() -> {
+                        double progress = (double) current / total;
+                        progressBar.setProgress(progress);
+                        progressLabel.setText(current + " / " + total + " 파일 되돌림");
+                        statusLabel.setText("되돌리는 중: " + currentFile);
+                    });
+                });
+            }
+
+            @Override
+            protected void succeeded() {
+                Platform.runLater(() -> updateUIForUndoComplete(getValue(), session.getRevertibleCount()));
+            }
+
+            @Override
+            protected void failed() {
+                Platform.runLater(() -> updateUIForUndoError(getException()));
+            }
+        };
+    }
+
+    /**
+     * 저널에 기록된 세션을 역순으로 되돌리기
+     * 대상은 Session.getRevertCandidates() (중단된 세션이면 계획만 기록된 이동 포함).
+     * 이동마다 실제 파일 상태를 보고 판단합니다: 대상에 있고 원래 자리가 비어 있으면 되돌리고,
+     * 이미 원래 자리에 있으면 되돌린 것으로 기록합니다. 원래 자리에 다른 파일이 생겼으면 덮어쓰지 않습니다.
+     * 어떤 이동의 원래 자리가 다른 이동의 대상이기도 하면 순서가 중요하므로 한 스레드에서 차례로 처리합니다.
+     *
+     * @return 원래 위치에 있게 된 파일 수
+     */
+    public int revertSession(OperationJournal.Session session, FileOrganizerService.ProgressCallback callback)
+            throws IOException, InterruptedException {
+        // 중단된 세션은 계획만 기록된 이동도 실제로는 옮겨졌을 수 있으므로 함께 확인
+        List<OperationJournal.Move> moves = session.getRevertCandidates();
+        Collections.reverse(moves);
+
+        // 경로가 서로 얽혀 있지 않으면 병렬로
+        Set<Path> targets = new HashSet<>();
+        for (OperationJournal.Move move : moves) {
+            targets.add(move.getTarget());
+        }
+        boolean independent = moves.stream().noneMatch(move -> targets.contains(move.getSource()));
+        int threads = independent ? Math.max(1, Math.min(FileOrganizerService.configuredParallelism(), moves.size())) : 1;
+
+        System.out.println("[정보] 세션 되돌리기 시작: " + session.getFile().getFileName() + ", " +
+                moves.size() + "개 파일, 동시 " + threads + "개");
+
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "UndoSession-" + threadCounter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        boolean finished = false;
+        OperationJournal journal = OperationJournal.reopen(session);
+        try {
+            List<Future<?>> futures = new ArrayList<>(moves.size());
+            for (OperationJournal.Move move : moves) {
+                futures.add(pool.submit(() -> {
+                    if (revertMove(move, journal)) {
+                        successCount.incrementAndGet();
+                    }
+                    if (callback != null) {
+                        callback.onProgress(completed.incrementAndGet(), moves.size(),
+                                move.getSource().getFileName().toString());
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    System.err.println("[오류] 되돌리기 작업 실패: " + e.getCause().getMessage());
+                }
+            }
+            finished = true;
+        } finally {
+            pool.shutdownNow();
+            if (finished) {
+                journal.close();
+            } else {
+                // 종료 기록을 남기지 않아야 다음 실행 때 중단된 되돌리기로 다시 물음
+                journal.suspend();
+                System.out.println("[정보] 세션 되돌리기 중단됨, 다음 실행 때 이어서 되돌릴 수 있습니다");
+            }
+        }
+
+        System.out.println("[완료] 세션 되돌리기 완료: " + successCount.get() + "/" + moves.size() + " 성공");
+        return successCount.get();
+    }
+
+    private boolean revertMove(OperationJournal.Move move, OperationJournal journal) {
+        Path source = move.getSource();
+        Path target = move.getTarget();
+        boolean sourceExists = Files.exists(source);
+        boolean targetExists = Files.exists(target);
+
+        if (sourceExists && !targetExists) {
+            journal.reverted(move.getId());
+            CrossDeviceMover.discardPartial(source, target);
+            return true;
+        }
+        if (sourceExists || !targetExists) {
+            System.err.println("[오류] 되돌릴 수 없음: " + target + " -> " + source +
+                    (sourceExists ? " (원래 위치에 다른 파일이 있음)" : " (파일을 찾을 수 없음)"));
+            return false;
+        }
+
+        try {
+            journal.reverting(move.getId());
+            Files.createDirectories(source.getParent());
+            Files.move(target, source);
+            journal.reverted(move.getId());
+            CrossDeviceMover.discardPartial(source, target);
+
+            System.out.println("[이동] " + target + " -> " + source);
+            return true;
+        } catch (IOException e) {
+            System.err.println("[오류] 되돌리기 실패: " + target + " - " + e.getMessage());
+            return false;
+        }
+    }
+
     /**
      * 단일 파일 되돌리기
      */
@@ -250,6 +456,7 @@ public class UndoService {
         
         List<FileInfo> filesToUndo = new ArrayList<>(undoableFiles);
         int successCount = 0;
+        Map<Path, Path> reverted = new HashMap<>();
         
         for (FileInfo fileInfo : filesToUndo) {
             try {
@@ -265,6 +472,8 @@ public class UndoService {
                         // 파일 이동
                         Files.move(currentPath, originalPath, StandardCopyOption.REPLACE_EXISTING);
                         
+                        reverted.put(currentPath, originalPath);
+
                         // FileInfo 업데이트
                         fileInfo.setFilePath(originalPath.toString());
                         fileInfo.setStatus(ProcessingStatus.SCANNED);
@@ -281,6 +490,8 @@ public class UndoService {
             }
         }
         
+        journalReverts(reverted);
+
         // 성공적으로 되돌린 파일들은 목록에서 제거
         undoableFiles.removeIf(file -> file.getStatus() == ProcessingStatus.SCANNED);
         
@@ -1,6 +1,7 @@
 package com.smartfilemanager.util;
 
 import java.io.*;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -33,69 +34,169 @@ public class ContentAnalyzer {
     );
 
     /**
-     * 파일에서 텍스트 내용을 추출합니다
+     * 파일에서 텍스트 내용을 추출합니다 (파일 전체)
+     * 스캔 중 분석은 앞부분만 읽는 extractTextContent(Path, FileProbe)를 사용합니다
      */
     public String extractTextContent(String filePath) {
+        Path path = Paths.get(filePath);
         try {
-            Path path = Paths.get(filePath);
             String extension = getFileExtension(filePath).toLowerCase();
 
-            switch (extension) {
-                case "txt":
-                case "md":
-                case "log":
-                    return extractPlainText(path);
+            // PDF/Word는 파일 내용을 읽지 않음
+            if (extension.equals("pdf") || extension.equals("doc") || extension.equals("docx")) {
+                return extractTextContent(path, null);
+            }
+
+            return extractText(extension, Files.readAllBytes(path));
+
+        } catch (Exception e) {
+            System.err.println("[ERROR] 텍스트 추출 실패: " + filePath + " - " + e.getMessage());
+            return null;
+        }
+    }
 
+    /**
+     * 이미 읽어둔 probe에서 텍스트 내용 추출 (파일을 다시 열지 않음)
+     * probe 앞부분을 넘어서는 내용은 분석하지 않습니다
+     */
+    public String extractTextContent(Path path, FileProbe probe) {
+        try {
+            String extension = getFileExtension(path.toString()).toLowerCase();
+
+            switch (extension) {
                 case "pdf":
                     return extractPdfText(path);
 
                 case "doc":
                 case "docx":
                     return extractWordText(path);
+            }
 
-                case "html":
-                case "htm":
-                    return extractHtmlText(path);
-
-                case "xml":
-                    return extractXmlText(path);
-
-                case "json":
-                    return extractJsonText(path);
+            if (probe == null) {
+                return null;
+            }
+            return extractText(extension, probe.copyPrefix());
 
-                case "csv":
-                    return extractCsvText(path);
+        } catch (Exception e) {
+            System.err.println("[ERROR] 텍스트 추출 실패: " + path + " - " + e.getMessage());
+            return null;
+        }
+    }
 
-                case "rtf":
-                    return extractRtfText(path);
+    /**
+     * 파일 전체 내용의 MinHash 서명 (비슷한 문서 찾기용)
+     * 태그나 구조를 걷어내야 하는 HTML/XML/JSON/RTF는 전체를 읽어 본문으로 바꾼 뒤 계산하고,
+     * 그 외 텍스트는 파일 끝까지 스트리밍으로 읽으며 shingle을 만들어 큰 로그도 메모리에 올리지 않습니다.
+     *
+     * @return 서명, 텍스트가 아니거나 너무 짧으면 null
+     */
+    public int[] computeMinHash(String filePath) {
+        Path path = Paths.get(filePath);
+        String extension = getFileExtension(filePath).toLowerCase();
+
+        switch (extension) {
+            case "html":
+            case "htm":
+            case "xml":
+            case "json":
+            case "rtf":
+                return MinHashSignature.compute(extractTextContent(filePath));
+        }
 
-                default:
-                    // 텍스트 파일인지 확인
-                    if (isTextFile(path)) {
-                        return extractPlainText(path);
-                    }
+        try {
+            // 인코딩과 텍스트 여부는 앞부분으로 판단
+            Charset charset;
+            try (FileProbe probe = FileProbe.open(path, 1024, 0)) {
+                byte[] head = probe.copyPrefix();
+                if (!isTextFormat(extension) && !isTextFile(head)) {
                     return null;
+                }
+                charset = Charset.forName(detectEncoding(head));
             }
 
+            MinHashSignature.Builder signature = new MinHashSignature.Builder();
+            try (Reader reader = new InputStreamReader(Files.newInputStream(path), charset)) {
+                char[] buffer = new char[8192];
+                int read;
+                while ((read = reader.read(buffer)) != -1) {
+                    signature.add(buffer, 0, read);
+                }
+            }
+            return signature.build();
+
         } catch (Exception e) {
-            System.err.println("[ERROR] 텍스트 추출 실패: " + filePath + " - " + e.getMessage());
+            System.err.println("[ERROR] MinHash 계산 실패: " + filePath + " - " + e.getMessage());
             return null;
         }
     }
 
     /**
-     * 일반 텍스트 파일 읽기
+     * 읽어둔 바이트를 형식에 맞게 텍스트로 변환
      */
-    private String extractPlainText(Path path) throws IOException {
+    private String extractText(String extension, byte[] bytes) {
+        switch (extension) {
+            case "txt":
+            case "md":
+            case "log":
+                return decodeText(bytes);
+
+            case "html":
+            case "htm":
+                return extractHtmlText(decodeText(bytes));
+
+            case "xml":
+                return extractXmlText(decodeText(bytes));
+
+            case "json":
+                return extractJsonText(decodeText(bytes));
+
+            case "csv":
+                return extractCsvText(decodeText(bytes));
+
+            case "rtf":
+                return extractRtfText(decodeText(bytes));
+
+            default:
+                // 텍스트 파일인지 확인
+                if (isTextFile(bytes)) {
+                    return decodeText(bytes);
+                }
+                return null;
+        }
+    }
+
+    /**
+     * 확장자만으로 텍스트 형식임을 알 수 있는지 확인 (probe를 열지 정할 때 사용)
+     */
+    public static boolean isTextFormat(String extension) {
+        switch (extension) {
+            case "txt":
+            case "md":
+            case "log":
+            case "html":
+            case "htm":
+            case "xml":
+            case "json":
+            case "csv":
+            case "rtf":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 일반 텍스트 읽기
+     */
+    private String decodeText(byte[] bytes) {
         // 인코딩 자동 감지 시도
-        byte[] bytes = Files.readAllBytes(path);
         String encoding = detectEncoding(bytes);
 
         try {
             return new String(bytes, encoding);
         } catch (Exception e) {
             // UTF-8로 재시도
-            return Files.readString(path, java.nio.charset.StandardCharsets.UTF_8);
+            return new String(bytes, java.nio.charset.StandardCharsets.UTF_8);
         }
     }
 
@@ -138,9 +239,7 @@ public class ContentAnalyzer {
     /**
      * HTML 텍스트 추출
      */
-    private String extractHtmlText(Path path) throws IOException {
-        String html = Files.readString(path);
-
+    private String extractHtmlText(String html) {
         // 간단한 HTML 태그 제거
         String text = html.replaceAll("<script[^>]*>.*?</script>", "")  // 스크립트 제거
                 .replaceAll("<style[^>]*>.*?</style>", "")     // 스타일 제거
@@ -157,9 +256,7 @@ public class ContentAnalyzer {
     /**
      * XML 텍스트 추출
      */
-    private String extractXmlText(Path path) throws IOException {
-        String xml = Files.readString(path);
-
+    private String extractXmlText(String xml) {
         // XML 태그 제거하고 텍스트 내용만 추출
         String text = xml.replaceAll("<[^>]+>", " ")
                 .replaceAll("\\s+", " ");
@@ -170,9 +267,7 @@ public class ContentAnalyzer {
     /**
      * JSON 텍스트 추출
      */
-    private String extractJsonText(Path path) throws IOException {
-        String json = Files.readString(path);
-
+    private String extractJsonText(String json) {
         // JSON 구조에서 값들만 추출
         StringBuilder text = new StringBuilder();
 
@@ -198,8 +293,8 @@ public class ContentAnalyzer {
     /**
      * CSV 텍스트 추출
      */
-    private String extractCsvText(Path path) throws IOException {
-        List<String> lines = Files.readAllLines(path);
+    private String extractCsvText(String csv) {
+        List<String> lines = csv.lines().collect(Collectors.toList());
         StringBuilder text = new StringBuilder();
 
         for (String line : lines.subList(0, Math.min(lines.size(), 10))) { // 처음 10줄만
@@ -216,9 +311,7 @@ public class ContentAnalyzer {
     /**
      * RTF 텍스트 추출 (간단한 구현)
      */
-    private String extractRtfText(Path path) throws IOException {
-        String rtf = Files.readString(path);
-
+    private String extractRtfText(String rtf) {
         // RTF 제어 코드 제거
         String text = rtf.replaceAll("\\\\[a-zA-Z]+\\d*\\s?", "")  // RTF 명령어 제거
                 .replaceAll("\\{|\\}", "")                // 중괄호 제거
@@ -363,12 +456,13 @@ public class ContentAnalyzer {
     /**
      * 파일이 텍스트 파일인지 확인
      */
-    private boolean isTextFile(Path path) {
+    private boolean isTextFile(byte[] bytes) {
         try {
-            byte[] bytes = Files.readAllBytes(path);
-
-            // 파일이 너무 크면 처음 1KB만 확인
+            // 처음 1KB만 확인
             int checkSize = Math.min(bytes.length, 1024);
+            if (checkSize == 0) {
+                return false;
+            }
 
             // 텍스트 파일 여부 판단 (null 바이트가 적고 인쇄 가능한 문자가 많으면 텍스트)
             int printableCount = 0;
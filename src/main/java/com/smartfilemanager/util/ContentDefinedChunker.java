@@ -0,0 +1,123 @@
+package com.smartfilemanager.util;
+
+import com.smartfilemanager.constants.FileConstants.ContentChunking;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 내용 기반 청크 분할 (Gear 롤링 해시, FastCDC 방식의 정규화)
+ * 청크 경계를 위치가 아니라 내용으로 정하므로 앞부분에 바이트가 끼어들거나 빠져도
+ * 뒤쪽 청크들은 그대로 같은 해시를 가집니다. 청크마다 xxHash64와 길이를 기록합니다.
+ *
+ * 평균 크기 전에는 비트가 많은 마스크, 이후에는 적은 마스크를 써서 청크 크기가 평균 근처로 모입니다.
+ * update()로 버퍼를 차례로 넣고 finish()로 마지막 청크를 닫습니다. 인스턴스는 파일 하나에만 사용합니다.
+ */
+public class ContentDefinedChunker {
+
+    private static final long[] GEAR = new long[256];
+    private static final long MASK_SMALL;   // 평균 전: 경계가 잘 안 생김
+    private static final long MASK_LARGE;   // 평균 후: 경계가 잘 생김
+
+    static {
+        long seed = 0x2545F4914F6CDD1DL;
+        for (int i = 0; i < GEAR.length; i++) {
+            seed += 0x9E3779B97F4A7C15L;
+            long value = seed;
+            value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+            value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+            GEAR[i] = value ^ (value >>> 31);
+        }
+
+        // Gear 해시는 왼쪽으로 밀리므로 최근 바이트의 영향이 큰 상위 비트로 판정
+        int bits = Integer.numberOfTrailingZeros(ContentChunking.AVERAGE_CHUNK);
+        MASK_SMALL = ((1L << (bits + 2)) - 1) << (64 - bits - 2);
+        MASK_LARGE = ((1L << (bits - 2)) - 1) << (64 - bits + 2);
+    }
+
+    private final XxHash64 chunkHash = new XxHash64();
+    private long gear;
+    private int chunkLength;
+
+    private long[] hashes = new long[64];
+    private int[] lengths = new int[64];
+    private int count;
+    private long totalLength;
+
+    /**
+     * 버퍼의 position부터 limit까지 처리 (버퍼 position은 limit으로 이동)
+     */
+    public void update(ByteBuffer buffer) {
+        int segmentStart = buffer.position();
+        int limit = buffer.limit();
+
+        for (int i = segmentStart; i < limit; i++) {
+            gear = (gear << 1) + GEAR[buffer.get(i) & 0xFF];
+            chunkLength++;
+
+            if (chunkLength < ContentChunking.MIN_CHUNK) {
+                continue;
+            }
+            long mask = chunkLength < ContentChunking.AVERAGE_CHUNK ? MASK_SMALL : MASK_LARGE;
+            if ((gear & mask) == 0 || chunkLength >= ContentChunking.MAX_CHUNK) {
+                hashSegment(buffer, segmentStart, i + 1);
+                segmentStart = i + 1;
+                endChunk();
+            }
+        }
+
+        hashSegment(buffer, segmentStart, limit);
+        buffer.position(limit);
+    }
+
+    /**
+     * 남은 바이트를 마지막 청크로 닫음
+     */
+    public void finish() {
+        if (chunkLength > 0) {
+            endChunk();
+        }
+    }
+
+    public int getChunkCount() {
+        return count;
+    }
+
+    public long getChunkHash(int index) {
+        return hashes[index];
+    }
+
+    public int getChunkLength(int index) {
+        return lengths[index];
+    }
+
+    /**
+     * 처리한 전체 바이트 수
+     */
+    public long getTotalLength() {
+        return totalLength;
+    }
+
+    private void hashSegment(ByteBuffer buffer, int from, int to) {
+        if (from < to) {
+            ByteBuffer segment = buffer.duplicate();
+            segment.limit(to).position(from);
+            chunkHash.update(segment);
+        }
+    }
+
+    private void endChunk() {
+        if (count == hashes.length) {
+            hashes = Arrays.copyOf(hashes, count * 2);
+            lengths = Arrays.copyOf(lengths, count * 2);
+        }
+        hashes[count] = chunkHash.getValue();
+        lengths[count] = chunkLength;
+        count++;
+        totalLength += chunkLength;
+
+        chunkHash.reset();
+        gear = 0;
+        chunkLength = 0;
+    }
+}
@@ -0,0 +1,98 @@
+package com.smartfilemanager.util;
+
+import com.smartfilemanager.constants.FileConstants.HashAlgorithms;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+
+/**
+ * 파일 내용 해시 계산기 공통 인터페이스
+ * 빠른 비암호화 해시(XXH64)와 MessageDigest(MD5, SHA-256)를 같은 방식으로 다룹니다
+ */
+public interface ContentHasher {
+
+    /**
+     * buffer의 position부터 limit까지 반영 (position은 limit으로 이동)
+     */
+    void update(ByteBuffer buffer);
+
+    /**
+     * 최종 해시값 (16진수 소문자)
+     */
+    String digestHex();
+
+    /**
+     * 알고리즘 이름으로 해시 계산기 생성 (null이나 빈 문자열이면 기본 알고리즘)
+     */
+    static ContentHasher create(String algorithm) throws NoSuchAlgorithmException {
+        String name = normalize(algorithm);
+        if (HashAlgorithms.XXH64.equals(name)) {
+            return new XxHash64Hasher();
+        }
+        return new DigestHasher(MessageDigest.getInstance(name));
+    }
+
+    /**
+     * 알고리즘 이름 정리 ("xxh64" → "XXH64", "sha256" → "SHA-256", 빈 값 → 기본값)
+     */
+    static String normalize(String algorithm) {
+        if (algorithm == null || algorithm.trim().isEmpty()) {
+            return HashAlgorithms.DEFAULT;
+        }
+
+        String name = algorithm.trim().toUpperCase(Locale.ROOT);
+        switch (name) {
+            case "XXH64":
+            case "XXHASH64":
+                return HashAlgorithms.XXH64;
+            case "SHA256":
+                return HashAlgorithms.SHA256;
+            default:
+                return name;
+        }
+    }
+
+    /**
+     * XXH64 구현
+     */
+    final class XxHash64Hasher implements ContentHasher {
+        private final XxHash64 hash = new XxHash64();
+
+        @Override
+        public void update(ByteBuffer buffer) {
+            hash.update(buffer);
+        }
+
+        @Override
+        public String digestHex() {
+            return String.format("%016x", hash.getValue());
+        }
+    }
+
+    /**
+     * MessageDigest 구현 (MD5, SHA-256 등)
+     */
+    final class DigestHasher implements ContentHasher {
+        private final MessageDigest digest;
+
+        DigestHasher(MessageDigest digest) {
+            this.digest = digest;
+        }
+
+        @Override
+        public void update(ByteBuffer buffer) {
+            digest.update(buffer);
+        }
+
+        @Override
+        public String digestHex() {
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest.digest()) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.smartfilemanager.util;
+
+import com.smartfilemanager.constants.FileConstants.CrossDeviceTransfer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * 다른 저장장치로의 파일 이동 (복사 → 검증 → 원본 삭제)
+ * 복사는 FileChannel.transferTo로 큰 단위씩 커널 안에서 처리하고, 방금 복사한 구간을 페이지 캐시에서
+ * 다시 읽어 xxHash64를 계산합니다. 복사가 끝나면 대상 파일을 처음부터 읽어 같은 해시인지 확인한 뒤에만
+ * 원본을 지웁니다.
+ *
+ * 복사 중인 파일은 대상 폴더에 숨김 이름(".이름.키.sfmpart")으로 쓰고, 중단되면 그대로 남겨 둡니다.
+ * 같은 원본(경로, 크기, 수정 시간이 같음)을 다시 옮기면 이미 복사된 부분은 건너뛰고 이어서 복사합니다.
+ * 이어 붙인 결과가 검증에 실패하면 처음부터 한 번 더 복사합니다. 이동이 실패로 끝나거나 되돌려지면
+ * discardPartial()로 남은 복사 파일을 지웁니다.
+ */
+public class CrossDeviceMover {
+
+    /**
+     * 파일 하나의 복사 진행률
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(Path source, long copiedBytes, long totalBytes);
+    }
+
+    private final ProgressListener listener;
+
+    public CrossDeviceMover(ProgressListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 이미 열린 원본 채널로 검증된 복사만 하고 원본은 지우지 않음 (원본을 잠근 채 옮길 때)
+     *
+     * @throws FileAlreadyExistsException 복사하는 동안 대상 위치에 다른 파일이 생긴 경우 (덮어쓰지 않음)
+     * @throws IOException 복사/검증 실패 (대상 자리에는 아무것도 생기지 않음)
+     */
+    public void copyVerified(Path source, FileChannel in, Path target) throws IOException {
+        BasicFileAttributes attrs = Files.readAttributes(source, BasicFileAttributes.class);
+        Path partial = partialPathOf(source, target, attrs);
+
+        boolean resumed = Files.exists(partial);
+        long expectedHash = copy(source, in, partial, attrs.size(), resumed);
+        if (!matches(partial, attrs.size(), expectedHash)) {
+            if (!resumed) {
+                Files.deleteIfExists(partial);
+                throw new IOException("복사 검증 실패 (체크섬 불일치): " + source);
+            }
+            // 이어 붙인 앞부분이 원본과 다름 → 처음부터 다시
+            System.out.println("[MOVE] 이어 복사한 파일 검증 실패, 처음부터 다시 복사: " + source);
+            Files.deleteIfExists(partial);
+            expectedHash = copy(source, in, partial, attrs.size(), false);
+            if (!matches(partial, attrs.size(), expectedHash)) {
+                Files.deleteIfExists(partial);
+                throw new IOException("복사 검증 실패 (체크섬 불일치): " + source);
+            }
+        }
+
+        Files.setLastModifiedTime(partial, attrs.lastModifiedTime());
+        publish(partial, target);
+
+        System.out.println("[MOVE] 검증된 복사 완료 (xxh64 " + Long.toHexString(expectedHash) + "): " +
+                source + " -> " + target);
+    }
+
+    /**
+     * 완성된 복사 파일을 대상 이름으로 공개 (복사하는 동안 대상 위치에 생긴 파일은 덮어쓰지 않음)
+     * 이름 바꾸기는 이미 있는 대상을 덮어쓰므로, 대상 이름으로 하드링크를 만들고(이미 있으면 실패) 복사 파일 이름을 지웁니다.
+     * 하드링크를 만들 수 없는 볼륨(FAT/exFAT 등)은 바로 전에 한 번 더 확인한 뒤 이름을 바꿉니다.
+     */
+    private static void publish(Path partial, Path target) throws IOException {
+        try {
+            Files.createLink(target, partial);
+        } catch (FileAlreadyExistsException e) {
+            throw new FileAlreadyExistsException(target.toString(), null, "복사하는 동안 대상 위치에 파일이 생겼습니다");
+        } catch (UnsupportedOperationException | IOException e) {
+            if (Files.exists(target, LinkOption.NOFOLLOW_LINKS)) {
+                throw new FileAlreadyExistsException(target.toString(), null, "복사하는 동안 대상 위치에 파일이 생겼습니다");
+            }
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE);
+            return;
+        }
+        Files.delete(partial);
+    }
+
+    /**
+     * 원본을 partial에 복사하며 원본 해시 계산
+     *
+     * @param resume partial에 이미 있는 부분을 이어서 복사할지
+     * @return 원본 전체의 해시
+     */
+    private long copy(Path source, FileChannel in, Path partial, long size, boolean resume) throws IOException {
+        XxHash64 hash = new XxHash64();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CrossDeviceTransfer.HASH_BUFFER_SIZE);
+
+        try (FileChannel out = FileChannel.open(partial, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            long position = 0;
+            if (resume) {
+                // 이미 복사된 부분은 원본에서 해시만 계산 (원본보다 길면 버리고 처음부터)
+                position = out.size() <= size ? out.size() : 0;
+                hashRange(in, 0, position, hash, buffer);
+                System.out.println("[MOVE] 이어서 복사: " + source + " (" + position + "/" + size + " bytes)");
+            }
+            out.truncate(position);
+
+            long lastReport = 0;
+            report(source, position, size);
+            while (position < size) {
+                long chunk = Math.min(CrossDeviceTransfer.CHUNK_SIZE, size - position);
+                long transferred = 0;
+                while (transferred < chunk) {
+                    long n = in.transferTo(position + transferred, chunk - transferred, out.position(position + transferred));
+                    if (n <= 0) {
+                        throw new IOException("복사 중 원본이 줄어들었습니다: " + source);
+                    }
+                    transferred += n;
+                }
+
+                // 방금 복사한 구간은 페이지 캐시에 있으므로 다시 읽어도 디스크를 읽지 않음
+                hashRange(in, position, position + chunk, hash, buffer);
+                position += chunk;
+
+                long now = System.currentTimeMillis();
+                if (now - lastReport >= CrossDeviceTransfer.PROGRESS_INTERVAL || position == size) {
+                    lastReport = now;
+                    report(source, position, size);
+                }
+            }
+
+            out.force(true);
+        }
+        return hash.getValue();
+    }
+
+    /**
+     * 대상 파일을 처음부터 읽어 크기와 해시 확인
+     */
+    private boolean matches(Path partial, long size, long expectedHash) throws IOException {
+        XxHash64 hash = new XxHash64();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CrossDeviceTransfer.HASH_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(partial, StandardOpenOption.READ)) {
+            if (channel.size() != size) {
+                return false;
+            }
+            hashRange(channel, 0, size, hash, buffer);
+        }
+        return hash.getValue() == expectedHash;
+    }
+
+    private static void hashRange(FileChannel channel, long from, long to, XxHash64 hash, ByteBuffer buffer)
+            throws IOException {
+        long position = from;
+        while (position < to) {
+            buffer.clear();
+            if (to - position < buffer.capacity()) {
+                buffer.limit((int) (to - position));
+            }
+            int n = channel.read(buffer, position);
+            if (n < 0) {
+                throw new IOException("파일이 예상보다 짧습니다");
+            }
+            buffer.flip();
+            hash.update(buffer);
+            position += n;
+        }
+    }
+
+    private void report(Path source, long copied, long total) {
+        if (listener != null) {
+            listener.onProgress(source, copied, total);
+        }
+    }
+
+    /**
+     * source → target 이동이 남긴 복사 중인 파일 삭제 (이동이 실패로 끝났거나 되돌린 경우, 원본이 있어야 찾을 수 있음)
+     */
+    public static void discardPartial(Path source, Path target) {
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(source, BasicFileAttributes.class);
+            if (Files.deleteIfExists(partialPathOf(source, target, attrs))) {
+                System.out.println("[MOVE] 남은 복사 파일 삭제: " + target);
+            }
+        } catch (NoSuchFileException e) {
+            // 원본이 없으면 이어서 복사할 수도 없으므로 찾을 필요 없음
+        } catch (IOException e) {
+            System.err.println("[ERROR] 남은 복사 파일 삭제 실패: " + target + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * 복사 중인 파일 경로 (원본 경로/크기/수정 시간이 같으면 같은 이름이 되어 이어서 복사할 수 있음)
+     */
+    static Path partialPathOf(Path source, Path target, BasicFileAttributes attrs) {
+        byte[] identity = (source.toAbsolutePath() + "|" + attrs.size() + "|" + attrs.lastModifiedTime().toMillis())
+                .getBytes(StandardCharsets.UTF_8);
+        String key = Long.toHexString(XxHash64.hash(identity, 0, identity.length));
+        return target.resolveSibling("." + target.getFileName() + "." + key + CrossDeviceTransfer.PARTIAL_SUFFIX);
+    }
+}
@@ -7,6 +7,8 @@ import java.io.File;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +22,8 @@ public class DatabaseHelper implements AutoCloseable {
     private static final String DB_DIR = System.getProperty("user.home") +
             File.separator + ".smartfilemanager";
     private static final String DB_PATH = DB_DIR + File.separator + "smartfilemanager.db";
+    private static final int BUSY_TIMEOUT_MS = 3000;
+    private static final int SQL_IN_BATCH_SIZE = 500;   // IN (...) 절 하나에 넣을 최대 파라미터 수
 
     private Connection connection;
 
@@ -46,6 +50,8 @@ public class DatabaseHelper implements AutoCloseable {
             // 외래 키 지원 활성화
             try (Statement stmt = connection.createStatement()) {
                 stmt.execute("PRAGMA foreign_keys = ON");
+                // 여러 서비스가 각자 연결을 열어 쓰므로 잠금 충돌 시 잠시 대기
+                stmt.execute("PRAGMA busy_timeout = " + BUSY_TIMEOUT_MS);
             }
 
             // 테이블 생성
@@ -138,16 +144,73 @@ public class DatabaseHelper implements AutoCloseable {
             )
         """;
 
+        // 스캔 카탈로그 테이블 (변경되지 않은 파일의 분석 결과 재사용)
+        String createScanCatalogTable = """
+            CREATE TABLE IF NOT EXISTS scan_catalog (
+                file_path TEXT PRIMARY KEY,
+                file_key TEXT,
+                file_size INTEGER NOT NULL,
+                modified_time INTEGER NOT NULL,
+                created_time INTEGER,
+                mime_type TEXT,
+                detected_category TEXT,
+                detected_subcategory TEXT,
+                confidence_score REAL DEFAULT 0.0,
+                keywords TEXT,
+                suggested_path TEXT,
+                description TEXT,
+                extracted_title TEXT,
+                extracted_author TEXT,
+                analysis_signature TEXT,
+                analyzed_at INTEGER
+            )
+        """;
+
+        // 내용 해시 캐시 테이블 (크기 + 수정 시간 + fileKey가 같으면 해시 재사용)
+        String createContentHashTable = """
+            CREATE TABLE IF NOT EXISTS content_hash_cache (
+                file_path TEXT NOT NULL,
+                hash_type TEXT NOT NULL,
+                file_key TEXT,
+                file_size INTEGER NOT NULL,
+                modified_time INTEGER NOT NULL,
+                hash_value TEXT NOT NULL,
+                computed_at INTEGER,
+                PRIMARY KEY (file_path, hash_type)
+            )
+        """;
+
         try (Statement stmt = connection.createStatement()) {
             stmt.execute(createFileHistoryTable);
             stmt.execute(createStatisticsTable);
             stmt.execute(createRulesTable);
             stmt.execute(createSessionsTable);
+            stmt.execute(createScanCatalogTable);
+            stmt.execute(createContentHashTable);
+
+            // 이전 버전에서 만든 카탈로그 테이블에 추가된 컬럼
+            addColumnIfMissing(stmt, "scan_catalog", "extracted_title", "TEXT");
+            addColumnIfMissing(stmt, "scan_catalog", "extracted_author", "TEXT");
 
             System.out.println("[SUCCESS] 데이터베이스 테이블 생성 완료");
         }
     }
 
+    /**
+     * 기존 테이블에 컬럼이 없으면 추가
+     */
+    private void addColumnIfMissing(Statement stmt, String table, String column, String type) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) {
+                if (column.equalsIgnoreCase(rs.getString("name"))) {
+                    return;
+                }
+            }
+        }
+        stmt.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + type);
+        System.out.println("[INFO] " + table + " 테이블에 " + column + " 컬럼 추가");
+    }
+
     /**
      * 파일 처리 히스토리 저장
      */
@@ -405,6 +468,292 @@ public class DatabaseHelper implements AutoCloseable {
         return sessions;
     }
 
+    // =====================================
+    // 스캔 카탈로그
+    // =====================================
+
+    /**
+     * 지정한 루트 폴더 아래의 카탈로그 항목을 경로 기준으로 모두 조회
+     */
+    public synchronized Map<String, ScanCatalogEntry> loadScanCatalog(String rootPath) {
+        Map<String, ScanCatalogEntry> catalog = new HashMap<>();
+        if (connection == null) {
+            return catalog;
+        }
+
+        // 기본 키 범위 검색: "root/" 이상 "root0" 미만 ('0'은 구분자 다음 문자)
+        String prefix = rootPath.endsWith(File.separator) ? rootPath : rootPath + File.separator;
+        String upperBound = prefix.substring(0, prefix.length() - 1) + (char) (File.separatorChar + 1);
+
+        String sql = """
+            SELECT file_path, file_key, file_size, modified_time, created_time, mime_type,
+                   detected_category, detected_subcategory, confidence_score, keywords,
+                   suggested_path, description, extracted_title, extracted_author,
+                   analysis_signature, analyzed_at
+            FROM scan_catalog
+            WHERE file_path >= ? AND file_path < ?
+        """;
+
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, prefix);
+            pstmt.setString(2, upperBound);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    ScanCatalogEntry entry = new ScanCatalogEntry();
+                    entry.setFilePath(rs.getString("file_path"));
+                    entry.setFileKey(rs.getString("file_key"));
+                    entry.setFileSize(rs.getLong("file_size"));
+                    entry.setModifiedTime(rs.getLong("modified_time"));
+                    entry.setCreatedTime(rs.getLong("created_time"));
+                    entry.setMimeType(rs.getString("mime_type"));
+                    entry.setDetectedCategory(rs.getString("detected_category"));
+                    entry.setDetectedSubCategory(rs.getString("detected_subcategory"));
+                    entry.setConfidenceScore(rs.getDouble("confidence_score"));
+                    entry.setKeywords(rs.getString("keywords"));
+                    entry.setSuggestedPath(rs.getString("suggested_path"));
+                    entry.setDescription(rs.getString("description"));
+                    entry.setExtractedTitle(rs.getString("extracted_title"));
+                    entry.setExtractedAuthor(rs.getString("extracted_author"));
+                    entry.setAnalysisSignature(rs.getString("analysis_signature"));
+                    entry.setAnalyzedAt(rs.getLong("analyzed_at"));
+
+                    catalog.put(entry.getFilePath(), entry);
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("[ERROR] 스캔 카탈로그 조회 실패: " + e.getMessage());
+        }
+
+        return catalog;
+    }
+
+    /**
+     * 카탈로그 항목 일괄 저장 (하나의 트랜잭션으로 처리)
+     */
+    public synchronized void saveScanCatalogEntries(List<ScanCatalogEntry> entries) {
+        if (connection == null || entries.isEmpty()) {
+            return;
+        }
+
+        String sql = """
+            INSERT OR REPLACE INTO scan_catalog
+            (file_path, file_key, file_size, modified_time, created_time, mime_type,
+             detected_category, detected_subcategory, confidence_score, keywords,
+             suggested_path, description, extracted_title, extracted_author,
+             analysis_signature, analyzed_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+        try {
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                for (ScanCatalogEntry entry : entries) {
+                    pstmt.setString(1, entry.getFilePath());
+                    pstmt.setString(2, entry.getFileKey());
+                    pstmt.setLong(3, entry.getFileSize());
+                    pstmt.setLong(4, entry.getModifiedTime());
+                    pstmt.setLong(5, entry.getCreatedTime());
+                    pstmt.setString(6, entry.getMimeType());
+                    pstmt.setString(7, entry.getDetectedCategory());
+                    pstmt.setString(8, entry.getDetectedSubCategory());
+                    pstmt.setDouble(9, entry.getConfidenceScore());
+                    pstmt.setString(10, entry.getKeywords());
+                    pstmt.setString(11, entry.getSuggestedPath());
+                    pstmt.setString(12, entry.getDescription());
+                    pstmt.setString(13, entry.getExtractedTitle());
+                    pstmt.setString(14, entry.getExtractedAuthor());
+                    pstmt.setString(15, entry.getAnalysisSignature());
+                    pstmt.setLong(16, entry.getAnalyzedAt());
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+            }
+
+            connection.commit();
+
+        } catch (SQLException e) {
+            rollbackQuietly();
+            System.err.println("[ERROR] 스캔 카탈로그 저장 실패: " + e.getMessage());
+        } finally {
+            restoreAutoCommit();
+        }
+    }
+
+    /**
+     * 더 이상 존재하지 않는 파일의 카탈로그 항목 삭제
+     */
+    public synchronized int deleteScanCatalogEntries(Collection<String> filePaths) {
+        if (connection == null || filePaths.isEmpty()) {
+            return 0;
+        }
+
+        String sql = "DELETE FROM scan_catalog WHERE file_path = ?";
+        int deleted = 0;
+
+        try {
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                for (String filePath : filePaths) {
+                    pstmt.setString(1, filePath);
+                    pstmt.addBatch();
+                }
+                for (int count : pstmt.executeBatch()) {
+                    deleted += Math.max(count, 0);
+                }
+            }
+
+            connection.commit();
+
+        } catch (SQLException e) {
+            rollbackQuietly();
+            System.err.println("[ERROR] 스캔 카탈로그 삭제 실패: " + e.getMessage());
+            return 0;
+        } finally {
+            restoreAutoCommit();
+        }
+
+        return deleted;
+    }
+
+    // =====================================
+    // 내용 해시 캐시
+    // =====================================
+
+    /**
+     * 지정한 파일들의 저장된 해시를 모두 조회 (해시 종류 구분 없이)
+     */
+    public synchronized List<ContentHashEntry> loadContentHashes(Collection<String> filePaths) {
+        List<ContentHashEntry> entries = new ArrayList<>();
+        if (connection == null || filePaths.isEmpty()) {
+            return entries;
+        }
+
+        List<String> paths = new ArrayList<>(filePaths);
+        for (int from = 0; from < paths.size(); from += SQL_IN_BATCH_SIZE) {
+            List<String> chunk = paths.subList(from, Math.min(from + SQL_IN_BATCH_SIZE, paths.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            String sql = "SELECT file_path, hash_type, file_key, file_size, modified_time, hash_value, computed_at " +
+                    "FROM content_hash_cache WHERE file_path IN (" + placeholders + ")";
+
+            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    pstmt.setString(i + 1, chunk.get(i));
+                }
+
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        ContentHashEntry entry = new ContentHashEntry();
+                        entry.setFilePath(rs.getString("file_path"));
+                        entry.setHashType(rs.getString("hash_type"));
+                        entry.setFileKey(rs.getString("file_key"));
+                        entry.setFileSize(rs.getLong("file_size"));
+                        entry.setModifiedTime(rs.getLong("modified_time"));
+                        entry.setHashValue(rs.getString("hash_value"));
+                        entry.setComputedAt(rs.getLong("computed_at"));
+                        entries.add(entry);
+                    }
+                }
+
+            } catch (SQLException e) {
+                System.err.println("[ERROR] 해시 캐시 조회 실패: " + e.getMessage());
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * 해시 캐시 항목 일괄 저장 (하나의 트랜잭션으로 처리)
+     */
+    public synchronized void saveContentHashes(List<ContentHashEntry> entries) {
+        if (connection == null || entries.isEmpty()) {
+            return;
+        }
+
+        String sql = """
+            INSERT OR REPLACE INTO content_hash_cache
+            (file_path, hash_type, file_key, file_size, modified_time, hash_value, computed_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+
+        try {
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                for (ContentHashEntry entry : entries) {
+                    pstmt.setString(1, entry.getFilePath());
+                    pstmt.setString(2, entry.getHashType());
+                    pstmt.setString(3, entry.getFileKey());
+                    pstmt.setLong(4, entry.getFileSize());
+                    pstmt.setLong(5, entry.getModifiedTime());
+                    pstmt.setString(6, entry.getHashValue());
+                    pstmt.setLong(7, entry.getComputedAt());
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+            }
+
+            connection.commit();
+
+        } catch (SQLException e) {
+            rollbackQuietly();
+            System.err.println("[ERROR] 해시 캐시 저장 실패: " + e.getMessage());
+        } finally {
+            restoreAutoCommit();
+        }
+    }
+
+    /**
+     * 파일들의 해시 캐시 항목 삭제 (모든 해시 종류)
+     */
+    public synchronized void deleteContentHashes(Collection<String> filePaths) {
+        if (connection == null || filePaths.isEmpty()) {
+            return;
+        }
+
+        String sql = "DELETE FROM content_hash_cache WHERE file_path = ?";
+
+        try {
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                for (String filePath : filePaths) {
+                    pstmt.setString(1, filePath);
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+            }
+
+            connection.commit();
+
+        } catch (SQLException e) {
+            rollbackQuietly();
+            System.err.println("[ERROR] 해시 캐시 삭제 실패: " + e.getMessage());
+        } finally {
+            restoreAutoCommit();
+        }
+    }
+
+    private void rollbackQuietly() {
+        try {
+            connection.rollback();
+        } catch (SQLException rollbackE) {
+            System.err.println("[ERROR] 롤백 실패: " + rollbackE.getMessage());
+        }
+    }
+
+    private void restoreAutoCommit() {
+        try {
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            System.err.println("[ERROR] AutoCommit 복원 실패: " + e.getMessage());
+        }
+    }
+
     /**
      * 데이터베이스 연결 종료 (AutoCloseable 구현)
      */
@@ -588,4 +937,110 @@ public class DatabaseHelper implements AutoCloseable {
         public LocalDateTime getCompletedAt() { return completedAt; }
         public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
     }
-}
\ No newline at end of file
+
+    /**
+     * 스캔 카탈로그 레코드
+     */
+    public static class ScanCatalogEntry {
+        private String filePath;
+        private String fileKey;
+        private long fileSize;
+        private long modifiedTime;
+        private long createdTime;
+        private String mimeType;
+        private String detectedCategory;
+        private String detectedSubCategory;
+        private double confidenceScore;
+        private String keywords;
+        private String suggestedPath;
+        private String description;
+        private String extractedTitle;
+        private String extractedAuthor;
+        private String analysisSignature;
+        private long analyzedAt;
+
+        // Getters and Setters
+        public String getFilePath() { return filePath; }
+        public void setFilePath(String filePath) { this.filePath = filePath; }
+
+        public String getFileKey() { return fileKey; }
+        public void setFileKey(String fileKey) { this.fileKey = fileKey; }
+
+        public long getFileSize() { return fileSize; }
+        public void setFileSize(long fileSize) { this.fileSize = fileSize; }
+
+        public long getModifiedTime() { return modifiedTime; }
+        public void setModifiedTime(long modifiedTime) { this.modifiedTime = modifiedTime; }
+
+        public long getCreatedTime() { return createdTime; }
+        public void setCreatedTime(long createdTime) { this.createdTime = createdTime; }
+
+        public String getMimeType() { return mimeType; }
+        public void setMimeType(String mimeType) { this.mimeType = mimeType; }
+
+        public String getDetectedCategory() { return detectedCategory; }
+        public void setDetectedCategory(String detectedCategory) { this.detectedCategory = detectedCategory; }
+
+        public String getDetectedSubCategory() { return detectedSubCategory; }
+        public void setDetectedSubCategory(String detectedSubCategory) { this.detectedSubCategory = detectedSubCategory; }
+
+        public double getConfidenceScore() { return confidenceScore; }
+        public void setConfidenceScore(double confidenceScore) { this.confidenceScore = confidenceScore; }
+
+        public String getKeywords() { return keywords; }
+        public void setKeywords(String keywords) { this.keywords = keywords; }
+
+        public String getSuggestedPath() { return suggestedPath; }
+        public void setSuggestedPath(String suggestedPath) { this.suggestedPath = suggestedPath; }
+
+        public String getDescription() { return description; }
+        public void setDescription(String description) { this.description = description; }
+
+        public String getExtractedTitle() { return extractedTitle; }
+        public void setExtractedTitle(String extractedTitle) { this.extractedTitle = extractedTitle; }
+
+        public String getExtractedAuthor() { return extractedAuthor; }
+        public void setExtractedAuthor(String extractedAuthor) { this.extractedAuthor = extractedAuthor; }
+
+        public String getAnalysisSignature() { return analysisSignature; }
+        public void setAnalysisSignature(String analysisSignature) { this.analysisSignature = analysisSignature; }
+
+        public long getAnalyzedAt() { return analyzedAt; }
+        public void setAnalyzedAt(long analyzedAt) { this.analyzedAt = analyzedAt; }
+    }
+
+    /**
+     * 내용 해시 캐시 레코드
+     */
+    public static class ContentHashEntry {
+        private String filePath;
+        private String hashType;
+        private String fileKey;
+        private long fileSize;
+        private long modifiedTime;
+        private String hashValue;
+        private long computedAt;
+
+        // Getters and Setters
+        public String getFilePath() { return filePath; }
+        public void setFilePath(String filePath) { this.filePath = filePath; }
+
+        public String getHashType() { return hashType; }
+        public void setHashType(String hashType) { this.hashType = hashType; }
+
+        public String getFileKey() { return fileKey; }
+        public void setFileKey(String fileKey) { this.fileKey = fileKey; }
+
+        public long getFileSize() { return fileSize; }
+        public void setFileSize(long fileSize) { this.fileSize = fileSize; }
+
+        public long getModifiedTime() { return modifiedTime; }
+        public void setModifiedTime(long modifiedTime) { this.modifiedTime = modifiedTime; }
+
+        public String getHashValue() { return hashValue; }
+        public void setHashValue(String hashValue) { this.hashValue = hashValue; }
+
+        public long getComputedAt() { return computedAt; }
+        public void setComputedAt(long computedAt) { this.computedAt = computedAt; }
+    }
+}
@@ -0,0 +1,115 @@
+package com.smartfilemanager.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서로소 집합 (Union-Find)
+ * 경로 절반 압축 + 크기 기준 합치기로 연산당 거의 상수 시간에 원소들을 묶습니다.
+ * 각 집합은 합쳐진 간선의 점수 합/개수/최솟값을 함께 들고 있어 대표 점수를 바로 구할 수 있습니다.
+ *
+ * 인스턴스는 스레드 안전하지 않습니다.
+ */
+public class DisjointSet {
+
+    private final int[] parent;
+    private final int[] size;
+
+    // 루트별 간선 점수 통계
+    private final double[] scoreSum;
+    private final double[] scoreMin;
+    private final int[] edgeCount;
+
+    public DisjointSet(int count) {
+        parent = new int[count];
+        size = new int[count];
+        scoreSum = new double[count];
+        scoreMin = new double[count];
+        edgeCount = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            parent[i] = i;
+            size[i] = 1;
+            scoreMin[i] = Double.MAX_VALUE;
+        }
+    }
+
+    /**
+     * 원소가 속한 집합의 루트
+     */
+    public int find(int element) {
+        int current = element;
+        while (parent[current] != current) {
+            parent[current] = parent[parent[current]];
+            current = parent[current];
+        }
+        return current;
+    }
+
+    /**
+     * 두 원소를 점수가 score인 간선으로 연결 (이미 같은 집합이면 점수만 누적)
+     *
+     * @return 합쳐진 집합의 루트
+     */
+    public int union(int first, int second, double score) {
+        int rootA = find(first);
+        int rootB = find(second);
+
+        if (rootA != rootB) {
+            if (size[rootA] < size[rootB]) {
+                int swap = rootA;
+                rootA = rootB;
+                rootB = swap;
+            }
+            parent[rootB] = rootA;
+            size[rootA] += size[rootB];
+            scoreSum[rootA] += scoreSum[rootB];
+            scoreMin[rootA] = Math.min(scoreMin[rootA], scoreMin[rootB]);
+            edgeCount[rootA] += edgeCount[rootB];
+        }
+
+        scoreSum[rootA] += score;
+        scoreMin[rootA] = Math.min(scoreMin[rootA], score);
+        edgeCount[rootA]++;
+        return rootA;
+    }
+
+    /**
+     * 원소가 속한 집합의 크기
+     */
+    public int sizeOf(int element) {
+        return size[find(element)];
+    }
+
+    /**
+     * 집합에 합쳐진 간선 점수의 평균 (간선이 없으면 0)
+     */
+    public double averageScore(int element) {
+        int root = find(element);
+        return edgeCount[root] == 0 ? 0.0 : scoreSum[root] / edgeCount[root];
+    }
+
+    /**
+     * 집합에 합쳐진 간선 점수의 최솟값 (간선이 없으면 0)
+     */
+    public double minScore(int element) {
+        int root = find(element);
+        return edgeCount[root] == 0 ? 0.0 : scoreMin[root];
+    }
+
+    /**
+     * 원소가 2개 이상인 집합들 (루트 → 원소 목록, 원소는 번호 순)
+     */
+    public Map<Integer, List<Integer>> clusters() {
+        Map<Integer, List<Integer>> clusters = new LinkedHashMap<>();
+        for (int i = 0; i < parent.length; i++) {
+            int root = find(i);
+            if (size[root] >= 2) {
+                clusters.computeIfAbsent(root, k -> new ArrayList<>()).add(i);
+            }
+        }
+        return clusters;
+    }
+}
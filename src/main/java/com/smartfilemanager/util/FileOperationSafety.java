@@ -1,11 +1,22 @@
 package com.smartfilemanager.util;
 
+import com.smartfilemanager.constants.FileConstants.BackupPolicy;
+
 import java.io.IOException;
 import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
 import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 파일 작업 안전성을 보장하는 유틸리티 클래스
@@ -13,16 +24,44 @@ import java.util.Set;
  */
 public class FileOperationSafety {
 
+    /**
+     * 백업 방식
+     */
+    public enum BackupStrategy {
+        NONE("백업 생략 (같은 저장장치 내 이름 변경)"),
+        HARDLINK("하드링크"),
+        COPY("전체 복사");
+
+        private final String displayName;
+
+        BackupStrategy(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
     // 보호해야 할 파일 확장자
     private static final Set<String> PROTECTED_EXTENSIONS = Set.of(
         ".exe", ".dll", ".sys", ".bat", ".cmd", ".com", ".scr", ".msi", ".jar"
     );
 
-    // 보호해야 할 디렉토리 (대소문자 무시)
+    // 스캔 시 막는 핵심 시스템 파일 확장자 (.exe, .msi, .jar는 스캔 허용)
+    private static final Set<String> CRITICAL_EXTENSIONS = Set.of(
+        ".dll", ".sys", ".com", ".scr"
+    );
+
+    // 보호해야 할 디렉토리 (대소문자 무시, 경로의 폴더 이름과 정확히 일치할 때)
     private static final Set<String> PROTECTED_DIRECTORIES = Set.of(
         "system32", "windows", "program files", "program files (x86)", 
         "programdata", "boot", "recovery", "$recycle.bin", "system volume information"
     );
+    private static final PathSegmentMatcher PROTECTED_DIRECTORY_MATCHER = new PathSegmentMatcher(PROTECTED_DIRECTORIES);
+
+    // 폴더별 보호 여부 캐시가 이보다 커지면 비움
+    private static final int DIRECTORY_CACHE_LIMIT = 100_000;
 
     // 보호해야 할 특수 파일명
     private static final Set<String> PROTECTED_FILENAMES = Set.of(
@@ -32,6 +71,22 @@ public class FileOperationSafety {
     // 백업 디렉토리
     private final Path backupDirectory;
 
+    // 폴더 → 저장장치 (같은 저장장치인지 판단할 때마다 마운트 정보를 다시 읽지 않도록)
+    private final Map<Path, FileStore> fileStores = new ConcurrentHashMap<>();
+    private final AtomicInteger backupSequence = new AtomicInteger();
+
+    // 폴더 → 보호된 폴더 안인지 (같은 폴더의 파일들은 한 번만 판단, 작업 단위로 비움)
+    private final Map<Path, Boolean> protectedDirectoryCache = new ConcurrentHashMap<>();
+
+    // 백업 방식별 횟수와 복사하지 않아도 된 바이트 수
+    private final Map<BackupStrategy, AtomicLong> backupCounts = new EnumMap<>(BackupStrategy.class);
+    private final AtomicLong bytesCopied = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    // 다른 저장장치로 옮길 때 복사 → 검증 → 원본 삭제
+    private final CrossDeviceMover crossDeviceMover = new CrossDeviceMover(this::reportTransfer);
+    private volatile CrossDeviceMover.ProgressListener transferListener;
+
     public FileOperationSafety() {
         this.backupDirectory = Paths.get(System.getProperty("user.home"), 
             ".smartfilemanager", "backups");
@@ -41,6 +96,16 @@ public class FileOperationSafety {
             System.err.println("[ERROR] 백업 디렉토리 생성 실패: " + e.getMessage());
             throw new RuntimeException("백업 시스템 초기화 실패", e);
         }
+        for (BackupStrategy strategy : BackupStrategy.values()) {
+            backupCounts.put(strategy, new AtomicLong());
+        }
+    }
+
+    /**
+     * 새 작업(스캔, 일괄 정리) 시작 시 호출: 이전 작업의 검사 결과 캐시를 비움
+     */
+    public void beginBatch() {
+        protectedDirectoryCache.clear();
     }
 
     /**
@@ -51,23 +116,40 @@ public class FileOperationSafety {
             return false;
         }
 
-        try {
-            // 파일 존재 확인
-            if (!Files.exists(filePath)) {
-                return false;
-            }
+        // 파일 존재 확인
+        FileSyscallCounter.count(FileSyscallCounter.STAT);
+        if (!Files.exists(filePath)) {
+            return false;
+        }
 
+        return isSafeToScanByName(filePath);
+    }
+
+    /**
+     * 스캔 중 이미 속성을 읽은 파일의 안전성 확인 (경로 검사만 하므로 추가 시스템 호출 없음)
+     */
+    public boolean isSafeToScan(Path filePath, BasicFileAttributes attrs) {
+        if (filePath == null || attrs == null) {
+            return false;
+        }
+
+        return isSafeToScanByName(filePath);
+    }
+
+    /**
+     * 경로/이름 기반 스캔 안전성 규칙
+     */
+    private boolean isSafeToScanByName(Path filePath) {
+        try {
             // 시스템 디렉토리 확인 (핵심 시스템 파일만)
-            String pathStr = filePath.toString().toLowerCase();
-            if (PROTECTED_DIRECTORIES.stream().anyMatch(pathStr::contains)) {
+            if (isInProtectedDirectory(filePath)) {
                 System.out.println("[SAFETY] 보호된 시스템 디렉토리: " + filePath);
                 return false;
             }
 
             // 핵심 시스템 파일만 확장자로 보호 (.exe, .msi, .jar는 스캔 허용)
             String extension = getFileExtension(filePath.toString()).toLowerCase();
-            Set<String> criticalExtensions = Set.of(".dll", ".sys", ".com", ".scr");
-            if (criticalExtensions.contains(extension)) {
+            if (CRITICAL_EXTENSIONS.contains(extension)) {
                 System.out.println("[SAFETY] 핵심 시스템 파일 확장자: " + extension);
                 return false;
             }
@@ -92,65 +174,93 @@ public class FileOperationSafety {
      * 파일 작업이 안전한지 확인 (실제 이동/삭제용 - 엄격한 기준)
      */
     public boolean isSafeToOperate(Path filePath) {
-        if (filePath == null) {
+        FileChannel channel = acquireForOperation(filePath);
+        if (channel == null) {
             return false;
         }
+        closeQuietly(channel);
+        return true;
+    }
 
-        try {
-            // 파일 존재 확인
-            if (!Files.exists(filePath)) {
-                return false;
-            }
+    /**
+     * 이동/삭제 직전의 검사와 잠금을 한 번에
+     * 경로 규칙을 확인한 뒤 파일을 쓰기로 열고 잠금을 잡습니다. 쓰기로 열리면 파일이 있고, 쓰기 권한이 있고,
+     * 다른 프로그램이 독점하고 있지 않은 것이므로 존재/권한 확인을 따로 하지 않습니다.
+     *
+     * @return 잠금을 쥔 채널 (닫으면 잠금 해제), 안전하지 않으면 null
+     */
+    private FileChannel acquireForOperation(Path filePath) {
+        if (filePath == null || filePath.getFileName() == null) {
+            return null;
+        }
 
-            // 시스템 디렉토리 확인
-            String pathStr = filePath.toString().toLowerCase();
-            if (PROTECTED_DIRECTORIES.stream().anyMatch(pathStr::contains)) {
-                System.out.println("[SAFETY] 보호된 시스템 디렉토리: " + filePath);
-                return false;
-            }
+        // 시스템 디렉토리 확인
+        if (isInProtectedDirectory(filePath)) {
+            System.out.println("[SAFETY] 보호된 시스템 디렉토리: " + filePath);
+            return null;
+        }
 
-            // 모든 보호된 확장자 확인 (실제 작업 시에는 엄격하게)
-            String extension = getFileExtension(filePath.toString()).toLowerCase();
-            if (PROTECTED_EXTENSIONS.contains(extension)) {
-                System.out.println("[SAFETY] 보호된 파일 확장자: " + extension);
-                return false;
-            }
+        // 모든 보호된 확장자 확인 (실제 작업 시에는 엄격하게)
+        String extension = getFileExtension(filePath.toString()).toLowerCase();
+        if (PROTECTED_EXTENSIONS.contains(extension)) {
+            System.out.println("[SAFETY] 보호된 파일 확장자: " + extension);
+            return null;
+        }
 
-            // 특수 파일명 확인
-            String fileName = filePath.getFileName().toString().toLowerCase();
-            if (PROTECTED_FILENAMES.contains(fileName)) {
-                System.out.println("[SAFETY] 보호된 시스템 파일: " + fileName);
-                return false;
-            }
+        // 특수 파일명 확인
+        String fileName = filePath.getFileName().toString().toLowerCase();
+        if (PROTECTED_FILENAMES.contains(fileName)) {
+            System.out.println("[SAFETY] 보호된 시스템 파일: " + fileName);
+            return null;
+        }
 
-            // 파일 잠금 상태 확인 (실제 작업 시에만)
-            if (isFileLocked(filePath)) {
-                System.out.println("[SAFETY] 파일이 사용 중: " + filePath);
-                return false;
-            }
+        // 파일 열기 + 잠금 (실제 작업 시에만)
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | SecurityException e) {
+            System.out.println("[SAFETY] 파일이 사용 중이거나 쓰기 권한 없음: " + filePath);
+            return null;
+        }
 
-            // 쓰기 권한 확인 (실제 작업 시에만)
-            if (!Files.isWritable(filePath)) {
-                System.out.println("[SAFETY] 쓰기 권한 없음: " + filePath);
-                return false;
+        try {
+            if (channel.tryLock() == null) {
+                closeQuietly(channel);
+                System.out.println("[SAFETY] 파일이 사용 중: " + filePath);
+                return null;
             }
-
-            return true;
-
-        } catch (Exception e) {
-            System.err.println("[ERROR] 안전성 검사 실패: " + e.getMessage());
-            return false;
+        } catch (OverlappingFileLockException e) {
+            // 이 프로그램의 다른 작업이 같은 파일을 잡고 있음
+            closeQuietly(channel);
+            System.out.println("[SAFETY] 파일이 사용 중: " + filePath);
+            return null;
+        } catch (IOException e) {
+            // 잠금을 지원하지 않는 파일 시스템 (일부 네트워크 드라이브): 쓰기로 열린 것으로 충분
         }
+        return channel;
     }
 
     /**
-     * 파일이 잠겨있는지 확인
+     * 파일이 보호된 시스템 폴더 안에 있는지 (폴더별로 한 번만 판단)
      */
-    private boolean isFileLocked(Path filePath) {
-        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+    private boolean isInProtectedDirectory(Path filePath) {
+        Path directory = filePath.getParent();
+        if (directory == null) {
             return false;
-        } catch (IOException e) {
-            return true; // 파일이 잠겨있거나 접근할 수 없음
+        }
+        if (protectedDirectoryCache.size() > DIRECTORY_CACHE_LIMIT) {
+            protectedDirectoryCache.clear();
+        }
+        return protectedDirectoryCache.computeIfAbsent(directory, PROTECTED_DIRECTORY_MATCHER::matches);
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // 닫기 실패는 무시
         }
     }
 
@@ -167,22 +277,55 @@ public class FileOperationSafety {
 
     /**
      * 백업 생성
+     * 백업 폴더와 같은 저장장치면 하드링크(데이터 복사 없음), 아니면 전체 복사
      */
     public Path createBackup(Path originalFile) throws IOException {
         if (!Files.exists(originalFile)) {
             throw new IOException("백업할 파일이 존재하지 않습니다: " + originalFile);
         }
 
+        return createBackup(originalFile, backupStrategyFor(originalFile), null);
+    }
+
+    private BackupStrategy backupStrategyFor(Path originalFile) {
+        return isSameFileStore(originalFile.getParent(), backupDirectory)
+                ? BackupStrategy.HARDLINK : BackupStrategy.COPY;
+    }
+
+    /**
+     * @param sourceChannel 이미 열어 잠근 원본 채널 (있으면 복사할 때 이 채널로 읽음, 잠금 때문에 다른 핸들로는
+     *                      읽지 못하는 운영체제가 있음)
+     */
+    private Path createBackup(Path originalFile, BackupStrategy strategy, FileChannel sourceChannel) throws IOException {
         String timestamp = LocalDateTime.now().format(
             DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String backupName = originalFile.getFileName() + "_backup_" + timestamp;
+        String backupName = originalFile.getFileName() + "_backup_" + timestamp + "_" + backupSequence.incrementAndGet();
         Path backupPath = backupDirectory.resolve(backupName);
+        long size = sourceChannel != null ? sourceChannel.size() : Files.size(originalFile);
+
+        if (strategy == BackupStrategy.HARDLINK) {
+            try {
+                Files.createLink(backupPath, originalFile);
+                recordBackup(BackupStrategy.HARDLINK, size);
+                System.out.println("[BACKUP] 하드링크 백업 생성됨 (복사 생략 " + FileFormatUtils.formatFileSize(size) + "): " + backupPath);
+                return backupPath;
+            } catch (IOException | UnsupportedOperationException e) {
+                // 하드링크를 지원하지 않는 파일 시스템 (FAT/exFAT 등)
+                System.out.println("[BACKUP] 하드링크 불가, 복사로 백업: " + e.getMessage());
+            }
+        }
 
         try {
-            Files.copy(originalFile, backupPath, 
-                StandardCopyOption.COPY_ATTRIBUTES, 
-                StandardCopyOption.REPLACE_EXISTING);
+            if (sourceChannel != null) {
+                copyFromChannel(sourceChannel, size, backupPath);
+                Files.setLastModifiedTime(backupPath, Files.getLastModifiedTime(originalFile));
+            } else {
+                Files.copy(originalFile, backupPath, 
+                    StandardCopyOption.COPY_ATTRIBUTES, 
+                    StandardCopyOption.REPLACE_EXISTING);
+            }
             
+            recordBackup(BackupStrategy.COPY, size);
             System.out.println("[BACKUP] 백업 생성됨: " + backupPath);
             return backupPath;
         } catch (IOException e) {
@@ -191,36 +334,172 @@ public class FileOperationSafety {
         }
     }
 
+    private static void copyFromChannel(FileChannel in, long size, Path target) throws IOException {
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            while (position < size) {
+                long n = in.transferTo(position, size - position, out);
+                if (n <= 0) {
+                    throw new IOException("백업 중 원본이 줄어들었습니다");
+                }
+                position += n;
+            }
+        }
+    }
+
+    /**
+     * 두 폴더가 같은 저장장치에 있는지 (알 수 없으면 false)
+     */
+    private boolean isSameFileStore(Path directory, Path otherDirectory) {
+        FileStore store = fileStoreOf(directory);
+        return store != null && store.equals(fileStoreOf(otherDirectory));
+    }
+
+    private FileStore fileStoreOf(Path directory) {
+        if (directory == null) {
+            return null;
+        }
+        FileStore store = fileStores.get(directory);
+        if (store == null) {
+            try {
+                store = Files.getFileStore(directory);
+                fileStores.put(directory, store);
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        return store;
+    }
+
+    private void recordBackup(BackupStrategy strategy, long size) {
+        backupCounts.get(strategy).incrementAndGet();
+        if (strategy == BackupStrategy.COPY) {
+            bytesCopied.addAndGet(size);
+        } else {
+            bytesSaved.addAndGet(size);
+        }
+    }
+
+    /**
+     * 지금까지(또는 마지막 초기화 이후) 백업 방식별 횟수와 절약한 복사량 요약
+     */
+    public String getBackupReport() {
+        StringBuilder report = new StringBuilder("백업 방식:");
+        for (BackupStrategy strategy : BackupStrategy.values()) {
+            report.append(' ').append(strategy.getDisplayName()).append(' ')
+                  .append(backupCounts.get(strategy).get()).append("개,");
+        }
+        report.append(" 복사 ").append(FileFormatUtils.formatFileSize(bytesCopied.get()))
+              .append(", 절약 ").append(FileFormatUtils.formatFileSize(bytesSaved.get()));
+        return report.toString();
+    }
+
+    /**
+     * 백업 통계 초기화 (작업 단위로 보고할 때)
+     */
+    public void resetBackupReport() {
+        backupCounts.values().forEach(count -> count.set(0));
+        bytesCopied.set(0);
+        bytesSaved.set(0);
+    }
+
+    /**
+     * 절약한 복사량 (바이트)
+     */
+    public long getBackupBytesSaved() {
+        return bytesSaved.get();
+    }
+
     /**
      * 안전한 파일 이동
      */
     public boolean safeFileMove(Path source, Path target) {
+        return safeFileMove(source, target, false);
+    }
+
+    /**
+     * 안전한 파일 이동
+     * 큰 파일은 이동 전에 백업하되, 같은 저장장치 안에서 이름만 바뀌는 이동(원자적 이동)은 원본이
+     * 사라질 틈이 없으므로 백업하지 않습니다. 다른 저장장치로 옮길 때는 하드링크로 백업할 수 있으면
+     * 하드링크, 아니면 복사로 백업합니다.
+     *
+     * @param targetPrepared 대상 폴더가 이미 있고 이름도 이동 계획에서 정해진 경우 true
+     *                       (폴더 생성 생략, 그 사이 대상 위치에 파일이 생겼으면 다른 이름으로 바꾸지 않고 실패)
+     */
+    public boolean safeFileMove(Path source, Path target, boolean targetPrepared) {
         Path backupPath = null;
+        FileChannel sourceChannel = null;
         
         try {
-            // 안전성 검사
-            if (!isSafeToOperate(source)) {
+            // 안전성 검사 + 잠금 (이동이 끝날 때까지 원본을 열어 둠)
+            sourceChannel = acquireForOperation(source);
+            if (sourceChannel == null) {
                 System.err.println("[SAFETY] 파일 이동이 안전하지 않음: " + source);
                 return false;
             }
 
             // 대상 디렉토리 생성
-            Files.createDirectories(target.getParent());
+            if (!targetPrepared) {
+                Files.createDirectories(target.getParent());
+            }
 
-            // 중요한 파일인 경우 백업 생성 (100MB 이상)
-            if (Files.size(source) > 100 * 1024 * 1024) {
-                backupPath = createBackup(source);
+            // 파일명 충돌 해결 (계획된 이름은 저널과 FileInfo에 이미 기록돼 있으므로 바꾸지 않고 실패 처리)
+            Path finalTarget;
+            if (targetPrepared) {
+                if (Files.exists(target, LinkOption.NOFOLLOW_LINKS)) {
+                    throw new FileAlreadyExistsException(target.toString(), null, "계획 이후 대상 위치에 파일이 생겼습니다");
+                }
+                finalTarget = target;
+            } else {
+                finalTarget = resolveNameConflict(target);
             }
 
-            // 파일명 충돌 해결
-            Path finalTarget = resolveNameConflict(target);
+            // 중요한 파일인 경우 백업 생성 (100MB 초과, 다른 저장장치로 옮길 때만)
+            long size = sourceChannel.size();
+            boolean needsBackup = size > BackupPolicy.MOVE_MIN_SIZE;
+            boolean sameStore = isSameFileStore(source.getParent(), finalTarget.getParent());
+            if (needsBackup && !sameStore) {
+                backupPath = createBackup(source, backupStrategyFor(source), sourceChannel);
+            }
 
             // 파일 이동 (크로스 드라이브 지원)
+            boolean copied = false;
             try {
                 Files.move(source, finalTarget, StandardCopyOption.ATOMIC_MOVE);
+                if (needsBackup && backupPath == null) {
+                    recordBackup(BackupStrategy.NONE, size);
+                }
             } catch (IOException e) {
-                // ATOMIC_MOVE 실패 시 일반 이동 시도 (크로스 드라이브용)
-                Files.move(source, finalTarget, StandardCopyOption.REPLACE_EXISTING);
+                // 원자적 이동이 안 되면 복사 후 삭제가 되므로 이때는 백업
+                if (needsBackup && backupPath == null) {
+                    backupPath = createBackup(source, backupStrategyFor(source), sourceChannel);
+                }
+                if (sameStore) {
+                    // 같은 저장장치인데 원자적 이동만 안 되는 경우 일반 이동 (대상이 생겼으면 덮어쓰지 않고 실패)
+                    Files.move(source, finalTarget);
+                } else {
+                    // 다른 저장장치: 잠근 채널로 검증된 복사 (중단되면 다음에 이어서 복사)
+                    crossDeviceMover.copyVerified(source, sourceChannel, finalTarget);
+                    copied = true;
+                }
+            }
+
+            // 잠금을 풀고 나서 원본 삭제 (복사로 옮긴 경우)
+            sourceChannel.close();
+            sourceChannel = null;
+            if (copied) {
+                try {
+                    Files.delete(source);
+                } catch (IOException e) {
+                    // 원본을 지우지 못하면 복사본을 지워 한 곳에만 남김 (실패로 기록돼도 중복 파일이 생기지 않음)
+                    try {
+                        Files.deleteIfExists(finalTarget);
+                    } catch (IOException cleanupE) {
+                        System.err.println("[ERROR] 복사본 삭제 실패, 중복 파일이 남음: " + finalTarget + " - " + cleanupE.getMessage());
+                    }
+                    throw e;
+                }
             }
 
             // 백업 삭제 (성공 시)
@@ -233,12 +512,20 @@ public class FileOperationSafety {
 
         } catch (IOException e) {
             System.err.println("[ERROR] 파일 이동 실패: " + e.getMessage());
+            if (sourceChannel != null) {
+                closeQuietly(sourceChannel);
+            }
             
             // 롤백 처리 (백업이 있는 경우)
             if (backupPath != null && Files.exists(backupPath)) {
                 try {
-                    Files.move(backupPath, source, StandardCopyOption.REPLACE_EXISTING);
-                    System.out.println("[ROLLBACK] 백업으로부터 파일 복원됨");
+                    if (Files.exists(source)) {
+                        // 원본이 그대로 있으면 백업만 정리 (하드링크 백업을 원본 위로 옮기면 아무 일도 일어나지 않음)
+                        Files.delete(backupPath);
+                    } else {
+                        Files.move(backupPath, source, StandardCopyOption.REPLACE_EXISTING);
+                        System.out.println("[ROLLBACK] 백업으로부터 파일 복원됨");
+                    }
                 } catch (IOException rollbackE) {
                     System.err.println("[ERROR] 롤백 실패: " + rollbackE.getMessage());
                 }
@@ -249,9 +536,24 @@ public class FileOperationSafety {
     }
 
     /**
-     * 파일명 충돌 해결
+     * 다른 저장장치로 옮길 때의 파일별 복사 진행률 (워커 스레드에서 호출됨, null이면 보고 안 함)
      */
-    private Path resolveNameConflict(Path target) {
+    public void setTransferProgressListener(CrossDeviceMover.ProgressListener listener) {
+        this.transferListener = listener;
+    }
+
+    private void reportTransfer(Path source, long copiedBytes, long totalBytes) {
+        CrossDeviceMover.ProgressListener listener = transferListener;
+        if (listener != null) {
+            listener.onProgress(source, copiedBytes, totalBytes);
+        }
+    }
+
+    /**
+     * 파일명 충돌 해결 ("이름 (n).확장자", MovePlanner와 같은 형식)
+     * 충돌하면 대상 폴더 목록을 한 번 읽어 두고 새 이름은 메모리에서 찾음
+     */
+    private Path resolveNameConflict(Path target) throws IOException {
         if (!Files.exists(target)) {
             return target;
         }
@@ -270,15 +572,21 @@ public class FileOperationSafety {
             extension = fileName.substring(lastDotIndex);
         }
 
+        Set<String> existingNames = new HashSet<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(parent)) {
+            for (Path entry : entries) {
+                existingNames.add(entry.getFileName().toString().toLowerCase(Locale.ROOT));
+            }
+        }
+
         int counter = 1;
-        Path newTarget;
+        String newFileName;
         do {
-            String newFileName = baseName + "_" + counter + extension;
-            newTarget = parent.resolve(newFileName);
+            newFileName = baseName + " (" + counter + ")" + extension;
             counter++;
-        } while (Files.exists(newTarget) && counter < 1000); // 무한 루프 방지
+        } while (existingNames.contains(newFileName.toLowerCase(Locale.ROOT)) && counter < 1000); // 무한 루프 방지
 
-        return newTarget;
+        return parent.resolve(newFileName);
     }
 
     /**
@@ -294,7 +602,7 @@ public class FileOperationSafety {
 
             // 중요한 파일인 경우 백업 생성
             Path backupPath = null;
-            if (Files.size(filePath) > 10 * 1024 * 1024) { // 10MB 이상
+            if (Files.size(filePath) > BackupPolicy.DELETE_MIN_SIZE) { // 10MB 초과
                 backupPath = createBackup(filePath);
                 System.out.println("[INFO] 삭제 전 백업 생성됨: " + backupPath);
             }
@@ -0,0 +1,232 @@
+package com.smartfilemanager.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 파일 한 번 열기로 얻는 앞부분(prefix)과 선택적인 뒷부분(suffix) 바이트
+ * FileTypeDetector, MetadataExtractor, ContentAnalyzer가 같은 probe를 공유해서
+ * 분석 한 번에 파일을 한 번만 열도록 합니다.
+ *
+ * 버퍼는 스레드별로 재사용되는 direct 버퍼이므로 close() 이후에는 내용을 읽으면 안 되고,
+ * 같은 스레드에서 probe를 중첩해서 열면 두 번째 probe는 일반 버퍼를 새로 할당합니다.
+ */
+public final class FileProbe implements AutoCloseable {
+
+    public static final int DEFAULT_PREFIX_SIZE = 64 * 1024;  // 64KB
+    public static final int DEFAULT_SUFFIX_SIZE = 0;
+    private static final int POOLED_CAPACITY = 128 * 1024;     // prefix + suffix 최대 크기
+
+    // 스레드별 재사용 버퍼 (스캔 워커마다 하나)
+    private static final ThreadLocal<ByteBuffer> BUFFER_POOL =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(POOLED_CAPACITY));
+    private static final ThreadLocal<Boolean> BUFFER_IN_USE = ThreadLocal.withInitial(() -> false);
+
+    private final Path path;
+    private final long fileSize;
+    private final ByteBuffer buffer;
+    private final boolean pooled;
+    private final int prefixLength;
+    private final int suffixLength;
+    private final long suffixOffset;
+    private boolean closed = false;
+
+    private FileProbe(Path path, long fileSize, ByteBuffer buffer, boolean pooled,
+                      int prefixLength, int suffixLength, long suffixOffset) {
+        this.path = path;
+        this.fileSize = fileSize;
+        this.buffer = buffer;
+        this.pooled = pooled;
+        this.prefixLength = prefixLength;
+        this.suffixLength = suffixLength;
+        this.suffixOffset = suffixOffset;
+    }
+
+    /**
+     * 기본 크기(앞부분 64KB, 뒷부분 없음)로 파일 읽기
+     */
+    public static FileProbe open(Path path) throws IOException {
+        return open(path, DEFAULT_PREFIX_SIZE, DEFAULT_SUFFIX_SIZE);
+    }
+
+    /**
+     * 하나의 FileChannel로 앞부분과 뒷부분을 읽음
+     *
+     * @param prefixSize 앞에서부터 읽을 최대 바이트 수
+     * @param suffixSize 끝에서부터 읽을 최대 바이트 수 (앞부분과 겹치는 구간은 읽지 않음)
+     */
+    public static FileProbe open(Path path, int prefixSize, int suffixSize) throws IOException {
+        int capacity = Math.max(0, prefixSize) + Math.max(0, suffixSize);
+
+        // 스레드 버퍼가 비어 있으면 재사용, 아니면 (중첩 또는 큰 요청) 새로 할당
+        boolean pooled = capacity <= POOLED_CAPACITY && !BUFFER_IN_USE.get();
+        ByteBuffer buffer = pooled ? BUFFER_POOL.get() : ByteBuffer.allocate(capacity);
+        buffer.clear();
+        if (pooled) {
+            BUFFER_IN_USE.set(true);
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            FileSyscallCounter.count(FileSyscallCounter.HEADER_READ);
+            long fileSize = channel.size();
+
+            // 앞부분
+            buffer.limit(Math.max(0, prefixSize));
+            int prefixLength = readFully(channel, buffer, 0);
+
+            // 뒷부분 (앞부분에 포함되지 않은 구간만)
+            int suffixLength = 0;
+            long suffixOffset = fileSize;
+            if (suffixSize > 0 && fileSize > prefixLength) {
+                suffixOffset = Math.max(prefixLength, fileSize - suffixSize);
+                buffer.limit(prefixLength + (int) (fileSize - suffixOffset));
+                suffixLength = readFully(channel, buffer, suffixOffset);
+            }
+
+            return new FileProbe(path, fileSize, buffer, pooled, prefixLength, suffixLength, suffixOffset);
+
+        } catch (IOException | RuntimeException e) {
+            if (pooled) {
+                BUFFER_IN_USE.set(false);
+            }
+            throw e;
+        }
+    }
+
+    private static int readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    public int getPrefixLength() {
+        return prefixLength;
+    }
+
+    public int getSuffixLength() {
+        return suffixLength;
+    }
+
+    /**
+     * 뒷부분이 시작하는 파일 내 위치
+     */
+    public long getSuffixOffset() {
+        return suffixOffset;
+    }
+
+    /**
+     * 앞부분에 파일 전체가 들어있는지 여부
+     */
+    public boolean isComplete() {
+        return prefixLength >= fileSize;
+    }
+
+    /**
+     * 앞부분의 i번째 바이트 (범위 밖이면 -1)
+     */
+    public int unsignedByteAt(int index) {
+        ensureOpen();
+        if (index < 0 || index >= prefixLength) {
+            return -1;
+        }
+        return buffer.get(index) & 0xFF;
+    }
+
+    /**
+     * 뒷부분의 i번째 바이트 (범위 밖이면 -1)
+     */
+    public int unsignedSuffixByteAt(int index) {
+        ensureOpen();
+        if (index < 0 || index >= suffixLength) {
+            return -1;
+        }
+        return buffer.get(prefixLength + index) & 0xFF;
+    }
+
+    /**
+     * 앞부분의 offset 위치가 주어진 바이트열과 같은지 확인
+     */
+    public boolean matches(int offset, byte[] signature) {
+        ensureOpen();
+        if (offset < 0 || offset + signature.length > prefixLength) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if (buffer.get(offset + i) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 앞부분의 처음 maxLength 바이트 복사본
+     */
+    public byte[] copyPrefix(int maxLength) {
+        ensureOpen();
+        byte[] bytes = new byte[Math.min(Math.max(0, maxLength), prefixLength)];
+        buffer.get(0, bytes);
+        return bytes;
+    }
+
+    /**
+     * 앞부분 전체 복사본
+     */
+    public byte[] copyPrefix() {
+        return copyPrefix(prefixLength);
+    }
+
+    /**
+     * 뒷부분 전체 복사본
+     */
+    public byte[] copySuffix() {
+        ensureOpen();
+        byte[] bytes = new byte[suffixLength];
+        buffer.get(prefixLength, bytes);
+        return bytes;
+    }
+
+    /**
+     * 앞부분을 문자열로 변환
+     */
+    public String prefixAsString(Charset charset, int maxLength) {
+        return new String(copyPrefix(maxLength), charset);
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("이미 닫힌 FileProbe입니다: " + path);
+        }
+    }
+
+    /**
+     * 스레드 버퍼 반환
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            if (pooled) {
+                BUFFER_IN_USE.set(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.smartfilemanager.util;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 파일 시스템 호출 횟수 계측 유틸리티
+ * 분석 단계에서 파일마다 몇 번의 시스템 호출(속성 조회, 파일 열기 등)이 발생하는지 집계합니다
+ */
+public final class FileSyscallCounter {
+
+    // 호출 종류 이름
+    public static final String STAT = "stat";                 // 속성 조회 (readAttributes, exists, isFile, length)
+    public static final String ACCESS = "access";             // 권한 확인 (isWritable, isHidden)
+    public static final String HEADER_READ = "header-read";   // 파일 열어서 앞부분 읽기
+    public static final String CONTENT_PROBE = "content-probe"; // probeContentType
+
+    private static final Map<String, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+
+    private FileSyscallCounter() {
+        // 인스턴스 생성 방지
+    }
+
+    /**
+     * 호출 1회 기록
+     */
+    public static void count(String operation) {
+        COUNTERS.computeIfAbsent(operation, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * 모든 카운터 초기화 (스캔 시작 시)
+     */
+    public static void reset() {
+        COUNTERS.clear();
+    }
+
+    /**
+     * 전체 호출 수
+     */
+    public static long getTotal() {
+        return COUNTERS.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * 종류별 호출 수 (이름순)
+     */
+    public static Map<String, Long> snapshot() {
+        Map<String, Long> result = new TreeMap<>();
+        COUNTERS.forEach((operation, counter) -> result.put(operation, counter.sum()));
+        return result;
+    }
+
+    /**
+     * 파일당 평균 호출 수 요약 출력
+     */
+    public static void printSummary(int fileCount) {
+        if (fileCount <= 0) {
+            return;
+        }
+
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("[정보] 파일당 시스템 호출: %.2f회 (총 %d회 / %d개 파일)",
+                (double) getTotal() / fileCount, getTotal(), fileCount));
+        snapshot().forEach((operation, count) ->
+                summary.append(String.format("%n       - %s: %.2f회", operation, (double) count / fileCount)));
+
+        System.out.println(summary);
+    }
+}
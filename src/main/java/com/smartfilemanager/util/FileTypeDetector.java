@@ -14,57 +14,61 @@ import java.util.*;
  */
 public class FileTypeDetector {
 
-    // 파일 시그니처 (매직 넘버) 매핑
-    private static final Map<String, FileTypeInfo> FILE_SIGNATURES = new HashMap<>();
+    // 파일 시그니처 (매직 넘버) 트라이 - "??"는 임의의 바이트
+    private static final MagicNumberTrie<FileTypeInfo> SIGNATURES = new MagicNumberTrie<>();
     
     // 커스텀 규칙 매니저 (정적 인스턴스)
     private static CustomRulesManager customRulesManager;
 
     static {
         // 이미지 파일들
-        FILE_SIGNATURES.put("FFD8FF", new FileTypeInfo("JPEG", "image/jpeg", "Images"));
-        FILE_SIGNATURES.put("89504E47", new FileTypeInfo("PNG", "image/png", "Images"));
-        FILE_SIGNATURES.put("47494638", new FileTypeInfo("GIF", "image/gif", "Images"));
-        FILE_SIGNATURES.put("424D", new FileTypeInfo("BMP", "image/bmp", "Images"));
-        FILE_SIGNATURES.put("49492A00", new FileTypeInfo("TIFF", "image/tiff", "Images"));
-        FILE_SIGNATURES.put("52494646", new FileTypeInfo("WEBP", "image/webp", "Images"));
-
-        // 비디오 파일들
-        FILE_SIGNATURES.put("66747970", new FileTypeInfo("MP4", "video/mp4", "Videos"));
-        FILE_SIGNATURES.put("000001BA", new FileTypeInfo("MPEG", "video/mpeg", "Videos"));
-        FILE_SIGNATURES.put("52494646", new FileTypeInfo("AVI", "video/x-msvideo", "Videos")); // RIFF
-        FILE_SIGNATURES.put("1A45DFA3", new FileTypeInfo("MKV", "video/x-matroska", "Videos"));
-        FILE_SIGNATURES.put("464C5601", new FileTypeInfo("FLV", "video/x-flv", "Videos"));
+        SIGNATURES.add("FFD8FF", new FileTypeInfo("JPEG", "image/jpeg", "Images"));
+        SIGNATURES.add("89504E470D0A1A0A", new FileTypeInfo("PNG", "image/png", "Images"));
+        SIGNATURES.add("47494638", new FileTypeInfo("GIF", "image/gif", "Images"));
+        SIGNATURES.add("424D", new FileTypeInfo("BMP", "image/bmp", "Images"));
+        SIGNATURES.add("49492A00", new FileTypeInfo("TIFF", "image/tiff", "Images")); // 리틀 엔디안
+        SIGNATURES.add("4D4D002A", new FileTypeInfo("TIFF", "image/tiff", "Images")); // 빅 엔디안
+        SIGNATURES.add("52494646????????57454250", new FileTypeInfo("WEBP", "image/webp", "Images")); // RIFF....WEBP
+        SIGNATURES.add("00000100", new FileTypeInfo("ICO", "image/x-icon", "Images"));
+        SIGNATURES.add(4, "6674797068656963", new FileTypeInfo("HEIC", "image/heic", "Images")); // ....ftypheic
+
+        // 비디오 파일들 (ISO 미디어는 4바이트 뒤의 ftyp 박스로 판별)
+        SIGNATURES.add(4, "66747970", new FileTypeInfo("MP4", "video/mp4", "Videos")); // ....ftyp
+        SIGNATURES.add(4, "6674797071742020", new FileTypeInfo("MOV", "video/quicktime", "Videos")); // ....ftypqt
+        SIGNATURES.add("000001BA", new FileTypeInfo("MPEG", "video/mpeg", "Videos"));
+        SIGNATURES.add("52494646????????41564920", new FileTypeInfo("AVI", "video/x-msvideo", "Videos")); // RIFF....AVI
+        SIGNATURES.add("1A45DFA3", new FileTypeInfo("MKV", "video/x-matroska", "Videos"));
+        SIGNATURES.add("464C5601", new FileTypeInfo("FLV", "video/x-flv", "Videos"));
 
         // 오디오 파일들
-        FILE_SIGNATURES.put("494433", new FileTypeInfo("MP3", "audio/mpeg", "Audio")); // ID3
-        FILE_SIGNATURES.put("FFF3", new FileTypeInfo("MP3", "audio/mpeg", "Audio")); // MPEG-1 Layer 3
-        FILE_SIGNATURES.put("52494646", new FileTypeInfo("WAV", "audio/wav", "Audio")); // RIFF
-        FILE_SIGNATURES.put("664C6143", new FileTypeInfo("FLAC", "audio/flac", "Audio"));
-        FILE_SIGNATURES.put("4F676753", new FileTypeInfo("OGG", "audio/ogg", "Audio"));
+        SIGNATURES.add("494433", new FileTypeInfo("MP3", "audio/mpeg", "Audio")); // ID3
+        SIGNATURES.add("FFF3", new FileTypeInfo("MP3", "audio/mpeg", "Audio")); // MPEG-1 Layer 3
+        SIGNATURES.add("FFFB", new FileTypeInfo("MP3", "audio/mpeg", "Audio")); // MPEG-1 Layer 3 (CRC 없음)
+        SIGNATURES.add("52494646????????57415645", new FileTypeInfo("WAV", "audio/wav", "Audio")); // RIFF....WAVE
+        SIGNATURES.add(4, "667479704D344120", new FileTypeInfo("M4A", "audio/mp4", "Audio")); // ....ftypM4A
+        SIGNATURES.add("664C6143", new FileTypeInfo("FLAC", "audio/flac", "Audio"));
+        SIGNATURES.add("4F676753", new FileTypeInfo("OGG", "audio/ogg", "Audio"));
 
         // 문서 파일들
-        FILE_SIGNATURES.put("25504446", new FileTypeInfo("PDF", "application/pdf", "Documents"));
-        FILE_SIGNATURES.put("D0CF11E0", new FileTypeInfo("DOC", "application/msword", "Documents")); // MS Office
-        FILE_SIGNATURES.put("504B0304", new FileTypeInfo("DOCX", "application/vnd.openxmlformats-officedocument.wordprocessingml.document", "Documents")); // ZIP-based
-        FILE_SIGNATURES.put("7B5C7274", new FileTypeInfo("RTF", "application/rtf", "Documents"));
-
-        // 압축 파일들
-        FILE_SIGNATURES.put("504B0304", new FileTypeInfo("ZIP", "application/zip", "Archives"));
-        FILE_SIGNATURES.put("526172211A07", new FileTypeInfo("RAR", "application/x-rar-compressed", "Archives"));
-        FILE_SIGNATURES.put("377ABCAF271C", new FileTypeInfo("7Z", "application/x-7z-compressed", "Archives"));
-        FILE_SIGNATURES.put("1F8B", new FileTypeInfo("GZIP", "application/gzip", "Archives"));
-        FILE_SIGNATURES.put("425A68", new FileTypeInfo("BZIP2", "application/x-bzip2", "Archives"));
+        SIGNATURES.add("25504446", new FileTypeInfo("PDF", "application/pdf", "Documents"));
+        SIGNATURES.add("D0CF11E0", new FileTypeInfo("DOC", "application/msword", "Documents")); // MS Office (OLE2)
+        SIGNATURES.add("7B5C7274", new FileTypeInfo("RTF", "application/rtf", "Documents"));
+
+        // 압축 파일들 (DOCX 등 Office Open XML도 ZIP 헤더를 사용)
+        SIGNATURES.add("504B0304", new FileTypeInfo("ZIP", "application/zip", "Archives"));
+        SIGNATURES.add("526172211A07", new FileTypeInfo("RAR", "application/x-rar-compressed", "Archives"));
+        SIGNATURES.add("377ABCAF271C", new FileTypeInfo("7Z", "application/x-7z-compressed", "Archives"));
+        SIGNATURES.add("1F8B", new FileTypeInfo("GZIP", "application/gzip", "Archives"));
+        SIGNATURES.add("425A68", new FileTypeInfo("BZIP2", "application/x-bzip2", "Archives"));
 
         // 실행 파일들
-        FILE_SIGNATURES.put("4D5A", new FileTypeInfo("EXE", "application/x-msdownload", "Applications"));
-        FILE_SIGNATURES.put("CAFEBABE", new FileTypeInfo("CLASS", "application/java-vm", "Applications"));
-        FILE_SIGNATURES.put("7F454C46", new FileTypeInfo("ELF", "application/x-executable", "Applications"));
+        SIGNATURES.add("4D5A", new FileTypeInfo("EXE", "application/x-msdownload", "Applications"));
+        SIGNATURES.add("CAFEBABE", new FileTypeInfo("CLASS", "application/java-vm", "Applications"));
+        SIGNATURES.add("7F454C46", new FileTypeInfo("ELF", "application/x-executable", "Applications"));
 
         // 기타
-        FILE_SIGNATURES.put("89504E47", new FileTypeInfo("ICO", "image/x-icon", "Images"));
-        FILE_SIGNATURES.put("3C3F786D6C", new FileTypeInfo("XML", "application/xml", "Documents"));
-        FILE_SIGNATURES.put("3C68746D6C", new FileTypeInfo("HTML", "text/html", "Documents"));
+        SIGNATURES.add("3C3F786D6C", new FileTypeInfo("XML", "application/xml", "Documents"));
+        SIGNATURES.add("3C68746D6C", new FileTypeInfo("HTML", "text/html", "Documents"));
     }
 
     /**
@@ -90,24 +94,8 @@ public class FileTypeDetector {
      * 파일의 정확한 타입을 감지합니다
      */
     public static FileTypeInfo detectFileType(String filePath) {
-        try {
-            Path path = Paths.get(filePath);
-
-            // 1. 파일 헤더로 타입 감지 시도
-            FileTypeInfo headerType = detectByHeader(path);
-            if (headerType != null) {
-                return headerType;
-            }
-
-            // 2. 확장자로 타입 감지
-            FileTypeInfo extensionType = detectByExtension(path);
-            if (extensionType != null) {
-                return extensionType;
-            }
-
-            // 3. 내용 분석으로 타입 감지
-            return detectByContent(path);
-
+        try (FileProbe probe = FileProbe.open(Paths.get(filePath))) {
+            return detectFileType(probe);
         } catch (Exception e) {
             System.err.println("[ERROR] 파일 타입 감지 실패: " + filePath + " - " + e.getMessage());
             return new FileTypeInfo("UNKNOWN", "application/octet-stream", "Others");
@@ -115,64 +103,47 @@ public class FileTypeDetector {
     }
 
     /**
-     * 파일 헤더(매직 넘버)로 타입 감지
+     * 이미 읽어둔 probe로 파일 타입 감지 (파일을 다시 열지 않음)
      */
-    private static FileTypeInfo detectByHeader(Path path) throws IOException {
-        if (!Files.exists(path) || Files.size(path) < 4) {
-            return null;
+    public static FileTypeInfo detectFileType(FileProbe probe) {
+        // 1. 파일 헤더로 타입 감지 시도
+        FileTypeInfo headerType = detectByHeader(probe);
+        if (headerType != null) {
+            return headerType;
         }
 
-        byte[] header = new byte[12]; // 처음 12바이트 읽기
-        try (FileInputStream fis = new FileInputStream(path.toFile())) {
-            int bytesRead = fis.read(header);
-            if (bytesRead < 2) return null;
-
-            String hexHeader = bytesToHex(header);
-
-            // 정확한 매칭 시도
-            for (Map.Entry<String, FileTypeInfo> entry : FILE_SIGNATURES.entrySet()) {
-                String signature = entry.getKey();
-                if (hexHeader.startsWith(signature)) {
-                    System.out.println("[DETECT] 헤더 기반 감지: " + path.getFileName() + " -> " + entry.getValue().getType());
-                    return entry.getValue();
-                }
-            }
-
-            // 특별한 경우들 처리
-            return detectSpecialCases(header, hexHeader);
-
-        } catch (IOException e) {
-            return null;
+        // 2. 확장자로 타입 감지
+        FileTypeInfo extensionType = detectByExtension(probe.getPath());
+        if (extensionType != null) {
+            return extensionType;
         }
+
+        // 3. 내용 분석으로 타입 감지
+        return detectByContent(probe);
     }
 
     /**
-     * 특별한 경우들 처리 (복합 시그니처)
+     * 파일 헤더(매직 넘버)로 타입 감지
      */
-    private static FileTypeInfo detectSpecialCases(byte[] header, String hexHeader) {
-        // ZIP 기반 파일들 구분
-        if (hexHeader.startsWith("504B0304")) {
-            // ZIP 파일인데 내용으로 세부 타입 구분
-            return new FileTypeInfo("ZIP", "application/zip", "Archives");
-        }
-
-        // RIFF 기반 파일들 구분
-        if (hexHeader.startsWith("52494646")) {
-            if (hexHeader.contains("57415645")) { // "WAVE"
-                return new FileTypeInfo("WAV", "audio/wav", "Audio");
-            } else if (hexHeader.contains("41564920")) { // "AVI "
-                return new FileTypeInfo("AVI", "video/x-msvideo", "Videos");
-            } else if (hexHeader.contains("57454250")) { // "WEBP"
-                return new FileTypeInfo("WEBP", "image/webp", "Images");
-            }
+    private static FileTypeInfo detectByHeader(FileProbe probe) {
+        if (probe.getPrefixLength() < 4) {
+            return null;
         }
 
-        // Office 파일들 (OLE2 기반)
-        if (hexHeader.startsWith("D0CF11E0")) {
-            return new FileTypeInfo("DOC", "application/msword", "Documents");
+        FileTypeInfo typeInfo = SIGNATURES.match(probe);
+        if (typeInfo != null) {
+            System.out.println("[DETECT] 헤더 기반 감지: " + probe.getPath().getFileName() + " -> " + typeInfo.getType());
         }
+        return typeInfo;
+    }
 
-        return null;
+    /**
+     * 헤더 바이트만으로 타입 감지 (매칭 중 객체를 할당하지 않음)
+     *
+     * @return 일치하는 시그니처가 없으면 null
+     */
+    public static FileTypeInfo detectByHeaderBytes(byte[] header, int length) {
+        return SIGNATURES.match(header, length);
     }
 
     /**
@@ -206,15 +177,12 @@ public class FileTypeDetector {
     /**
      * 내용 분석으로 타입 감지
      */
-    private static FileTypeInfo detectByContent(Path path) {
+    private static FileTypeInfo detectByContent(FileProbe probe) {
         try {
-            // 파일이 너무 크면 처음 1KB만 확인
-            long fileSize = Files.size(path);
-            int readSize = (int) Math.min(fileSize, 1024);
-
-            byte[] content = new byte[readSize];
-            try (FileInputStream fis = new FileInputStream(path.toFile())) {
-                fis.read(content);
+            // 처음 1KB만 확인
+            byte[] content = probe.copyPrefix(1024);
+            if (content.length == 0) {
+                return new FileTypeInfo("BINARY", "application/octet-stream", "Others");
             }
 
             // 텍스트 파일 여부 확인
@@ -249,17 +217,6 @@ public class FileTypeDetector {
         }
     }
 
-    /**
-     * 바이트 배열을 16진수 문자열로 변환
-     */
-    private static String bytesToHex(byte[] bytes) {
-        StringBuilder sb = new StringBuilder();
-        for (byte b : bytes) {
-            sb.append(String.format("%02X", b));
-        }
-        return sb.toString();
-    }
-
     /**
      * 내용이 텍스트인지 확인
      */
@@ -289,6 +246,13 @@ public class FileTypeDetector {
         return typeInfo != null ? typeInfo.getMimeType() : "application/octet-stream";
     }
 
+    /**
+     * MIME 타입 감지 (이미 읽어둔 probe 사용)
+     */
+    public static String detectMimeType(FileProbe probe) {
+        return detectFileType(probe).getMimeType();
+    }
+
     /**
      * 파일 카테고리 감지 (커스텀 규칙 우선 적용)
      */
@@ -0,0 +1,117 @@
+package com.smartfilemanager.util;
+
+import java.util.Arrays;
+
+/**
+ * 64비트 해시용 BK-트리 (해밍 거리)
+ * 각 자식은 부모와의 거리로 구분되므로, 삼각 부등식에 따라 |d - r| ~ d + r 범위의 자식만 내려가면 됩니다.
+ * 반경이 작으면 전체를 훑지 않고 가까운 해시만 찾을 수 있습니다.
+ *
+ * 노드는 객체 대신 평행 배열로 저장합니다 (첫 자식 / 다음 형제 연결 목록).
+ * 인스턴스는 스레드 안전하지 않습니다.
+ */
+public class HammingBkTree {
+
+    /**
+     * 검색 결과를 받는 콜백
+     */
+    @FunctionalInterface
+    public interface MatchConsumer {
+        void accept(int id, int distance);
+    }
+
+    private long[] hashes = new long[16];
+    private int[] ids = new int[16];
+    private int[] edgeDistance = new int[16];   // 부모와의 거리
+    private int[] firstChild = new int[16];
+    private int[] nextSibling = new int[16];
+    private int size = 0;
+
+    private int[] stack = new int[64];
+
+    /**
+     * 해시 추가
+     *
+     * @param id 호출하는 쪽에서 해시를 구분하는 번호
+     */
+    public void add(long hash, int id) {
+        int node = allocate(hash, id);
+        if (node == 0) {
+            return;
+        }
+
+        int current = 0;
+        while (true) {
+            int distance = PerceptualHash.distance(hash, hashes[current]);
+            int child = childAt(current, distance);
+            if (child < 0) {
+                edgeDistance[node] = distance;
+                nextSibling[node] = firstChild[current];
+                firstChild[current] = node;
+                return;
+            }
+            current = child;
+        }
+    }
+
+    /**
+     * hash와의 거리가 maxDistance 이하인 모든 해시 찾기
+     */
+    public void search(long hash, int maxDistance, MatchConsumer consumer) {
+        if (size == 0) {
+            return;
+        }
+
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int current = stack[--top];
+            int distance = PerceptualHash.distance(hash, hashes[current]);
+            if (distance <= maxDistance) {
+                consumer.accept(ids[current], distance);
+            }
+
+            int low = distance - maxDistance;
+            int high = distance + maxDistance;
+            for (int child = firstChild[current]; child >= 0; child = nextSibling[child]) {
+                if (edgeDistance[child] >= low && edgeDistance[child] <= high) {
+                    if (top == stack.length) {
+                        stack = Arrays.copyOf(stack, top * 2);
+                    }
+                    stack[top++] = child;
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int childAt(int node, int distance) {
+        for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+            if (edgeDistance[child] == distance) {
+                return child;
+            }
+        }
+        return -1;
+    }
+
+    private int allocate(long hash, int id) {
+        if (size == hashes.length) {
+            int capacity = size * 2;
+            hashes = Arrays.copyOf(hashes, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+            edgeDistance = Arrays.copyOf(edgeDistance, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+        }
+
+        int node = size++;
+        hashes[node] = hash;
+        ids[node] = id;
+        firstChild[node] = -1;
+        nextSibling[node] = -1;
+        return node;
+    }
+}
@@ -0,0 +1,149 @@
+package com.smartfilemanager.util;
+
+/**
+ * 파일 시그니처(매직 넘버) 바이트 트라이
+ * 시그니처를 미리 바이트 단위 트라이로 컴파일해 두고, 헤더를 한 번 훑어서 가장 긴(가장 구체적인) 시그니처를 찾습니다.
+ * "??"는 아무 바이트나 허용하므로 RIFF....WAVE, ....ftyp 같은 오프셋 시그니처도 표현할 수 있습니다.
+ * 조회 중에는 객체를 할당하지 않습니다.
+ *
+ * @param <T> 시그니처에 연결된 값 타입
+ */
+public class MagicNumberTrie<T> {
+
+    private final Node<T> root = new Node<>(0);
+    private int signatureCount = 0;
+    private int maxDepth = 0;
+
+    /**
+     * 시그니처 등록 (파일 시작 위치 기준)
+     *
+     * @param hexPattern 16진수 바이트열, "??"는 임의의 바이트 (예: "52494646????????57415645")
+     */
+    public MagicNumberTrie<T> add(String hexPattern, T value) {
+        return add(0, hexPattern, value);
+    }
+
+    /**
+     * 시그니처 등록 (offset 바이트 뒤부터 비교)
+     * 같은 패턴이 이미 있으면 먼저 등록된 값을 유지합니다
+     */
+    public MagicNumberTrie<T> add(int offset, String hexPattern, T value) {
+        String pattern = hexPattern.replace(" ", "").toUpperCase();
+        if (pattern.isEmpty() || pattern.length() % 2 != 0) {
+            throw new IllegalArgumentException("잘못된 시그니처 패턴: " + hexPattern);
+        }
+
+        Node<T> node = root;
+        for (int i = 0; i < offset; i++) {
+            node = node.wildcardChild();
+        }
+        for (int i = 0; i < pattern.length(); i += 2) {
+            String hexByte = pattern.substring(i, i + 2);
+            node = "??".equals(hexByte)
+                    ? node.wildcardChild()
+                    : node.exactChild(Integer.parseInt(hexByte, 16));
+        }
+
+        if (node.value == null) {
+            node.value = value;
+            signatureCount++;
+            maxDepth = Math.max(maxDepth, node.depth);
+        }
+        return this;
+    }
+
+    /**
+     * 바이트 배열 앞부분에서 가장 구체적인 시그니처 찾기
+     *
+     * @param length 유효한 바이트 수
+     * @return 일치하는 값, 없으면 null
+     */
+    public T match(byte[] header, int length) {
+        Node<T> best = search(root, header, null, Math.min(length, header.length));
+        return best != null ? best.value : null;
+    }
+
+    /**
+     * probe 앞부분에서 가장 구체적인 시그니처 찾기 (바이트를 복사하지 않음)
+     */
+    public T match(FileProbe probe) {
+        Node<T> best = search(root, null, probe, probe.getPrefixLength());
+        return best != null ? best.value : null;
+    }
+
+    /**
+     * 시그니처를 판별하는 데 필요한 최대 헤더 길이
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public int size() {
+        return signatureCount;
+    }
+
+    /**
+     * 깊이 우선 탐색 - 정확히 일치하는 자식을 와일드카드보다 먼저 보고, 더 깊은(긴) 일치를 우선
+     */
+    private Node<T> search(Node<T> node, byte[] header, FileProbe probe, int length) {
+        Node<T> best = node.value != null ? node : null;
+        if (node.depth >= length) {
+            return best;
+        }
+
+        int b = header != null ? header[node.depth] & 0xFF : probe.unsignedByteAt(node.depth);
+
+        if (node.children != null) {
+            Node<T> child = node.children[b];
+            if (child != null) {
+                best = deeper(best, search(child, header, probe, length));
+            }
+        }
+        if (node.wildcard != null) {
+            best = deeper(best, search(node.wildcard, header, probe, length));
+        }
+        return best;
+    }
+
+    private static <T> Node<T> deeper(Node<T> current, Node<T> candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        if (current == null || candidate.depth > current.depth) {
+            return candidate;
+        }
+        return current;
+    }
+
+    /**
+     * 트라이 노드 (자식 배열은 필요할 때만 256칸으로 생성)
+     */
+    private static final class Node<T> {
+        private final int depth;
+        private Node<T>[] children;
+        private Node<T> wildcard;
+        private T value;
+
+        Node(int depth) {
+            this.depth = depth;
+        }
+
+        @SuppressWarnings("unchecked")
+        Node<T> exactChild(int b) {
+            if (children == null) {
+                children = (Node<T>[]) new Node[256];
+            }
+            if (children[b] == null) {
+                children[b] = new Node<>(depth + 1);
+            }
+            return children[b];
+        }
+
+        Node<T> wildcardChild() {
+            if (wildcard == null) {
+                wildcard = new Node<>(depth + 1);
+            }
+            return wildcard;
+        }
+    }
+}
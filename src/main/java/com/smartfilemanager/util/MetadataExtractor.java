@@ -8,6 +8,7 @@ import java.nio.file.attribute.BasicFileAttributes;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -17,6 +18,9 @@ import java.util.regex.Pattern;
  */
 public class MetadataExtractor {
 
+    // 이미 출력한 라이브러리 권장 안내 (스캔할 때마다 파일별로 출력하지 않도록 프로세스당 한 번만)
+    private static final Set<String> SHOWN_LIBRARY_NOTICES = ConcurrentHashMap.newKeySet();
+
     /**
      * 메타데이터 정보를 저장하는 클래스
      */
@@ -101,56 +105,20 @@ public class MetadataExtractor {
 
     /**
      * 파일에서 메타데이터를 추출합니다
+     * 헤더가 필요한 형식일 때만 파일을 한 번 열어 probe로 읽습니다
      */
     public static MetadataInfo extractMetadata(String filePath) {
         try {
             Path path = Paths.get(filePath);
-            String extension = getFileExtension(filePath).toLowerCase();
-
-            MetadataInfo metadata = new MetadataInfo();
-
-            // 기본 파일 속성 추출
-            extractBasicFileAttributes(path, metadata);
-
-            // 파일 타입별 메타데이터 추출
-            switch (extension) {
-                case "jpg":
-                case "jpeg":
-                case "tiff":
-                case "tif":
-                    extractImageMetadata(path, metadata);
-                    break;
-
-                case "png":
-                    extractPngMetadata(path, metadata);
-                    break;
-
-                case "mp3":
-                    extractMp3Metadata(path, metadata);
-                    break;
-
-                case "mp4":
-                case "mov":
-                case "avi":
-                    extractVideoMetadata(path, metadata);
-                    break;
-
-                case "pdf":
-                    extractPdfMetadata(path, metadata);
-                    break;
-
-                case "doc":
-                case "docx":
-                    extractWordMetadata(path, metadata);
-                    break;
-
-                default:
-                    // 다른 파일 타입에 대한 일반적인 처리
-                    extractGenericMetadata(path, metadata);
-                    break;
+            BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+
+            if (!needsHeader(getFileExtension(filePath).toLowerCase())) {
+                return extractMetadata(path, attrs, null);
             }
 
-            return metadata;
+            try (FileProbe probe = FileProbe.open(path, 64, 0)) {
+                return extractMetadata(path, attrs, probe);
+            }
 
         } catch (Exception e) {
             System.err.println("[ERROR] 메타데이터 추출 실패: " + filePath + " - " + e.getMessage());
@@ -159,11 +127,87 @@ public class MetadataExtractor {
     }
 
     /**
-     * 기본 파일 속성 추출
+     * 이미 읽어둔 속성과 probe로 메타데이터 추출 (파일을 다시 열지 않음)
+     * probe는 JPEG/TIFF/PNG/MP3처럼 헤더가 필요한 형식에만 사용되며 null일 수 있습니다
+     */
+    public static MetadataInfo extractMetadata(Path path, BasicFileAttributes attrs, FileProbe probe) {
+        String extension = getFileExtension(path.getFileName().toString()).toLowerCase();
+        MetadataInfo metadata = new MetadataInfo();
+
+        // 기본 파일 속성 추출
+        extractBasicFileAttributes(attrs, metadata);
+
+        // 파일 타입별 메타데이터 추출
+        switch (extension) {
+            case "jpg":
+            case "jpeg":
+            case "tiff":
+            case "tif":
+                extractImageMetadata(path, probe, metadata);
+                break;
+
+            case "png":
+                extractPngMetadata(probe, metadata);
+                break;
+
+            case "mp3":
+                extractMp3Metadata(path, probe, metadata);
+                break;
+
+            case "mp4":
+            case "mov":
+            case "avi":
+                extractVideoMetadata(path, attrs, metadata);
+                break;
+
+            case "pdf":
+                extractPdfMetadata(path, metadata);
+                break;
+
+            case "doc":
+            case "docx":
+                extractWordMetadata(path, metadata);
+                break;
+
+            default:
+                // 다른 파일 타입에 대한 일반적인 처리
+                extractGenericMetadata(path, metadata);
+                break;
+        }
+
+        return metadata;
+    }
+
+    /**
+     * 라이브러리 권장 안내를 프로세스당 한 번만 출력
      */
-    private static void extractBasicFileAttributes(Path path, MetadataInfo metadata) throws IOException {
-        BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+    private static void warnLibraryOnce(String message) {
+        if (SHOWN_LIBRARY_NOTICES.add(message)) {
+            System.out.println(message);
+        }
+    }
 
+    /**
+     * 헤더 바이트가 필요한 형식인지 확인 (probe를 열지 정할 때 사용)
+     */
+    public static boolean needsHeader(String extension) {
+        switch (extension) {
+            case "jpg":
+            case "jpeg":
+            case "tiff":
+            case "tif":
+            case "png":
+            case "mp3":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 기본 파일 속성 추출
+     */
+    private static void extractBasicFileAttributes(BasicFileAttributes attrs, MetadataInfo metadata) {
         metadata.setDateCreated(LocalDateTime.ofInstant(attrs.creationTime().toInstant(), ZoneId.systemDefault()));
         metadata.setDateModified(LocalDateTime.ofInstant(attrs.lastModifiedTime().toInstant(), ZoneId.systemDefault()));
 
@@ -175,16 +219,17 @@ public class MetadataExtractor {
     /**
      * JPEG/TIFF 이미지 메타데이터 추출 (간단한 EXIF 구현)
      */
-    private static void extractImageMetadata(Path path, MetadataInfo metadata) {
-        try (FileInputStream fis = new FileInputStream(path.toFile())) {
+    private static void extractImageMetadata(Path path, FileProbe probe, MetadataInfo metadata) {
+        if (probe == null) {
+            return;
+        }
+
+        try {
             // 간단한 EXIF 데이터 읽기 (실제로는 metadata-extractor 라이브러리 권장)
-            System.out.println("[WARNING] 완전한 EXIF 데이터 추출을 위해서는 metadata-extractor 라이브러리 사용을 권장합니다.");
+            warnLibraryOnce("[WARNING] 완전한 EXIF 데이터 추출을 위해서는 metadata-extractor 라이브러리 사용을 권장합니다.");
 
             // JPEG 파일 확인
-            byte[] header = new byte[4];
-            fis.read(header);
-
-            if (header[0] == (byte)0xFF && header[1] == (byte)0xD8) {
+            if (probe.unsignedByteAt(0) == 0xFF && probe.unsignedByteAt(1) == 0xD8) {
                 // JPEG 파일 - 기본 정보만 추출
                 extractJpegBasicInfo(path, metadata);
             }
@@ -224,10 +269,13 @@ public class MetadataExtractor {
     /**
      * PNG 메타데이터 추출
      */
-    private static void extractPngMetadata(Path path, MetadataInfo metadata) {
-        try (FileInputStream fis = new FileInputStream(path.toFile())) {
-            byte[] header = new byte[24];
-            fis.read(header);
+    private static void extractPngMetadata(FileProbe probe, MetadataInfo metadata) {
+        if (probe == null || probe.getPrefixLength() < 24) {
+            return;
+        }
+
+        try {
+            byte[] header = probe.copyPrefix(24);
 
             // PNG 시그니처 확인
             if (header[0] == (byte)0x89 && header[1] == 0x50 && header[2] == 0x4E && header[3] == 0x47) {
@@ -250,14 +298,15 @@ public class MetadataExtractor {
     /**
      * MP3 메타데이터 추출 (ID3 태그)
      */
-    private static void extractMp3Metadata(Path path, MetadataInfo metadata) {
-        try (FileInputStream fis = new FileInputStream(path.toFile())) {
-            // ID3v2 태그 확인
-            byte[] header = new byte[10];
-            fis.read(header);
+    private static void extractMp3Metadata(Path path, FileProbe probe, MetadataInfo metadata) {
+        if (probe == null) {
+            return;
+        }
 
-            if (header[0] == 'I' && header[1] == 'D' && header[2] == '3') {
-                System.out.println("[WARNING] 완전한 ID3 태그 추출을 위해서는 JAudioTagger 라이브러리 사용을 권장합니다.");
+        try {
+            // ID3v2 태그 확인
+            if (probe.unsignedByteAt(0) == 'I' && probe.unsignedByteAt(1) == 'D' && probe.unsignedByteAt(2) == '3') {
+                warnLibraryOnce("[WARNING] 완전한 ID3 태그 추출을 위해서는 JAudioTagger 라이브러리 사용을 권장합니다.");
 
                 // 파일명에서 정보 추출 시도
                 String fileName = path.getFileName().toString();
@@ -299,7 +348,7 @@ public class MetadataExtractor {
     /**
      * 비디오 메타데이터 추출
      */
-    private static void extractVideoMetadata(Path path, MetadataInfo metadata) {
+    private static void extractVideoMetadata(Path path, BasicFileAttributes attrs, MetadataInfo metadata) {
         try {
             String fileName = path.getFileName().toString();
 
@@ -311,7 +360,7 @@ public class MetadataExtractor {
             extractVideoInfoFromFilename(fileName, metadata);
 
             // 파일 크기로 대략적인 품질 추정
-            long fileSize = Files.size(path);
+            long fileSize = attrs.size();
             if (fileSize > 1024 * 1024 * 1024) { // 1GB 이상
                 metadata.setProperty("quality", "고화질");
             } else if (fileSize > 100 * 1024 * 1024) { // 100MB 이상
@@ -371,7 +420,7 @@ public class MetadataExtractor {
      */
     private static void extractPdfMetadata(Path path, MetadataInfo metadata) {
         try {
-            System.out.println("[WARNING] 완전한 PDF 메타데이터 추출을 위해서는 Apache PDFBox 라이브러리 사용을 권장합니다.");
+            warnLibraryOnce("[WARNING] 완전한 PDF 메타데이터 추출을 위해서는 Apache PDFBox 라이브러리 사용을 권장합니다.");
 
             // 간단한 PDF 정보만 추출
             metadata.setProperty("documentFormat", "PDF");
@@ -390,7 +439,7 @@ public class MetadataExtractor {
      */
     private static void extractWordMetadata(Path path, MetadataInfo metadata) {
         try {
-            System.out.println("[WARNING] 완전한 Word 메타데이터 추출을 위해서는 Apache POI 라이브러리 사용을 권장합니다.");
+            warnLibraryOnce("[WARNING] 완전한 Word 메타데이터 추출을 위해서는 Apache POI 라이브러리 사용을 권장합니다.");
 
             String extension = getFileExtension(path.toString()).toLowerCase();
             metadata.setProperty("documentFormat", extension.equals("docx") ? "DOCX" : "DOC");
@@ -0,0 +1,136 @@
+package com.smartfilemanager.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MinHash 서명의 LSH 밴딩
+ * 서명을 bands개의 밴드로 나누고, 어느 한 밴드라도 통째로 같은 서명끼리만 후보 쌍으로 봅니다.
+ * 밴드당 r개 값이면 유사도 s인 쌍이 후보가 될 확률은 1 - (1 - s^r)^bands 이므로
+ * 모든 쌍을 비교하지 않고도 임계값 근처 이상인 쌍은 거의 놓치지 않습니다.
+ */
+public class MinHashLsh {
+
+    /**
+     * 일치하는 쌍을 받는 콜백 (i < j는 입력 목록의 위치)
+     */
+    @FunctionalInterface
+    public interface PairConsumer {
+        void accept(int first, int second, double similarity);
+    }
+
+    /**
+     * 이미 같은 묶음으로 확정된 쌍인지 묻는 필터 (참이면 다시 비교하지 않음)
+     */
+    @FunctionalInterface
+    public interface PairFilter {
+        boolean skip(int first, int second);
+    }
+
+    private final int bands;
+    private final double threshold;
+
+    // 마지막 findPairs 통계
+    private long candidatePairs;
+    private long matchedPairs;
+
+    public MinHashLsh(int bands, double threshold) {
+        this.bands = bands;
+        this.threshold = threshold;
+    }
+
+    /**
+     * 추정 유사도가 threshold 이상인 쌍 찾기
+     *
+     * @param signatures 모두 같은 길이 (bands로 나누어떨어져야 함)
+     */
+    public void findPairs(List<int[]> signatures, PairFilter filter, PairConsumer consumer) {
+        candidatePairs = 0;
+        matchedPairs = 0;
+        if (signatures.size() < 2) {
+            return;
+        }
+
+        int rows = signatures.get(0).length / bands;
+        for (int band = 0; band < bands; band++) {
+            int from = band * rows;
+            int to = from + rows;
+
+            // 밴드 값이 같은 서명끼리 버킷으로
+            Map<BandKey, List<Integer>> buckets = new HashMap<>();
+            for (int i = 0; i < signatures.size(); i++) {
+                buckets.computeIfAbsent(new BandKey(signatures.get(i), from, to), k -> new ArrayList<>(2)).add(i);
+            }
+
+            for (List<Integer> bucket : buckets.values()) {
+                for (int a = 0; a < bucket.size(); a++) {
+                    for (int b = a + 1; b < bucket.size(); b++) {
+                        int first = bucket.get(a);
+                        int second = bucket.get(b);
+                        if (filter.skip(first, second)) {
+                            continue;
+                        }
+
+                        candidatePairs++;
+                        double similarity = MinHashSignature.similarity(signatures.get(first), signatures.get(second));
+                        if (similarity >= threshold) {
+                            matchedPairs++;
+                            consumer.accept(first, second, similarity);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 마지막 findPairs에서 서명을 비교한 후보 쌍 수
+     */
+    public long getCandidatePairs() {
+        return candidatePairs;
+    }
+
+    public long getMatchedPairs() {
+        return matchedPairs;
+    }
+
+    /**
+     * 서명의 [from, to) 구간을 복사 없이 감싸는 버킷 키
+     */
+    private static final class BandKey {
+        private final int[] signature;
+        private final int from;
+        private final int to;
+        private final int hash;
+
+        BandKey(int[] signature, int from, int to) {
+            this.signature = signature;
+            this.from = from;
+            this.to = to;
+
+            int h = 1;
+            for (int i = from; i < to; i++) {
+                h = 31 * h + signature[i];
+            }
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof BandKey)) {
+                return false;
+            }
+            BandKey key = (BandKey) other;
+            return hash == key.hash &&
+                    Arrays.equals(signature, from, to, key.signature, key.from, key.to);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
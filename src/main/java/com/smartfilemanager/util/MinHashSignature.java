@@ -0,0 +1,164 @@
+package com.smartfilemanager.util;
+
+import com.smartfilemanager.constants.FileConstants.NearDuplicateText;
+
+import java.util.Arrays;
+
+/**
+ * 문서 MinHash 서명
+ * 소문자로 바꾼 단어를 SHINGLE_WORDS개씩 겹쳐 묶고(shingle), 각 묶음의 64비트 해시를
+ * SIGNATURE_SIZE개의 서로 다른 해시 함수에 넣어 함수마다 최솟값만 남깁니다.
+ * 두 서명에서 같은 자리 값이 같은 비율이 두 문서 shingle 집합의 자카드 유사도 추정치가 됩니다.
+ */
+public final class MinHashSignature {
+
+    private static final long SEED_STEP = 0x9E3779B97F4A7C15L;
+
+    private MinHashSignature() {
+    }
+
+    /**
+     * 텍스트의 MinHash 서명 계산
+     *
+     * @return 서명, shingle이 MIN_SHINGLES개보다 적으면 null
+     */
+    public static int[] compute(String text) {
+        if (text == null) {
+            return null;
+        }
+        return new Builder().add(text).build();
+    }
+
+    /**
+     * 두 서명으로 추정한 자카드 유사도 (0.0 ~ 1.0)
+     */
+    public static double similarity(int[] first, int[] second) {
+        int same = 0;
+        for (int i = 0; i < first.length; i++) {
+            if (first[i] == second[i]) {
+                same++;
+            }
+        }
+        return (double) same / first.length;
+    }
+
+    /**
+     * 해시 캐시에 저장할 16진수 문자열 (값마다 8자리)
+     */
+    public static String toHex(int[] signature) {
+        StringBuilder hex = new StringBuilder(signature.length * 8);
+        for (int value : signature) {
+            String part = Integer.toHexString(value);
+            for (int pad = part.length(); pad < 8; pad++) {
+                hex.append('0');
+            }
+            hex.append(part);
+        }
+        return hex.toString();
+    }
+
+    /**
+     * @return 서명, 길이가 현재 서명 크기와 다르면 null (설정이 바뀐 경우)
+     */
+    public static int[] fromHex(String hex) {
+        if (hex == null || hex.length() != NearDuplicateText.SIGNATURE_SIZE * 8) {
+            return null;
+        }
+
+        int[] signature = new int[NearDuplicateText.SIGNATURE_SIZE];
+        for (int i = 0; i < signature.length; i++) {
+            signature[i] = Integer.parseUnsignedInt(hex.substring(i * 8, i * 8 + 8), 16);
+        }
+        return signature;
+    }
+
+    /**
+     * 텍스트를 나눠서 넣으며 서명 계산 (큰 파일을 메모리에 올리지 않고 스트리밍으로 처리)
+     * 단어는 글자/숫자가 아닌 문자로 나누고(소문자 기준, 부분 문자열을 만들지 않음), 최근 SHINGLE_WORDS개
+     * 단어 해시만 유지합니다. 나눠 넣은 경계에 걸친 단어도 이어서 처리하므로 결과는 한 번에 넣은 것과 같습니다.
+     */
+    public static final class Builder {
+
+        private final int[] signature = new int[NearDuplicateText.SIGNATURE_SIZE];
+        private final long[] window = new long[NearDuplicateText.SHINGLE_WORDS];
+        private long tokenCount = 0;
+        private long current = 0;
+        private boolean inToken = false;
+
+        public Builder() {
+            Arrays.fill(signature, Integer.MAX_VALUE);
+        }
+
+        public Builder add(CharSequence text) {
+            for (int i = 0; i < text.length(); i++) {
+                accept(text.charAt(i));
+            }
+            return this;
+        }
+
+        public Builder add(char[] chars, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                accept(chars[i]);
+            }
+            return this;
+        }
+
+        /**
+         * @return 서명, shingle이 MIN_SHINGLES개보다 적으면 null
+         */
+        public int[] build() {
+            if (inToken) {
+                endToken();
+            }
+            long shingleCount = tokenCount - NearDuplicateText.SHINGLE_WORDS + 1;
+            return shingleCount < NearDuplicateText.MIN_SHINGLES ? null : signature.clone();
+        }
+
+        private void accept(char ch) {
+            if (Character.isLetterOrDigit(ch)) {
+                current = current * 31 + Character.toLowerCase(ch);
+                inToken = true;
+            } else if (inToken) {
+                endToken();
+            }
+        }
+
+        private void endToken() {
+            window[(int) (tokenCount % window.length)] = mix(current);
+            tokenCount++;
+            current = 0;
+            inToken = false;
+
+            if (tokenCount >= window.length) {
+                addShingle();
+            }
+        }
+
+        /**
+         * 최근 SHINGLE_WORDS개 단어를 순서대로 묶은 shingle을 서명에 반영
+         */
+        private void addShingle() {
+            long shingle = 0;
+            for (long k = tokenCount - window.length; k < tokenCount; k++) {
+                shingle = mix(shingle * 31 + window[(int) (k % window.length)]);
+            }
+
+            // 함수 i: mix(shingle ^ seed_i)의 상위 31비트 (부호 없이 비교하기 위해 양수로)
+            for (int i = 0; i < signature.length; i++) {
+                int value = (int) (mix(shingle ^ (SEED_STEP * (i + 1))) >>> 33);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+    }
+
+    /**
+     * 64비트 섞기 (SplitMix64 마무리 단계)
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
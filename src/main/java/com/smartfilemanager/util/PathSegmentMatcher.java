@@ -0,0 +1,65 @@
+package com.smartfilemanager.util;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 경로 구간(폴더 이름) 단위 패턴 트라이
+ * "windows", "program files (x86)"처럼 폴더 이름 하나이거나 "windows/system32"처럼 여러 구간인 패턴을
+ * 미리 트라이로 만들어 두고, 경로의 연속된 구간 중 패턴과 정확히 같은 부분이 있는지 확인합니다.
+ * 문자열 포함 검사와 달리 "bootstrap"이나 "windows-backup" 같은 이름은 "boot", "windows"에 걸리지 않습니다.
+ *
+ * 대소문자는 구분하지 않으며, 만든 뒤에는 바뀌지 않으므로 여러 스레드에서 함께 써도 됩니다.
+ */
+public final class PathSegmentMatcher {
+
+    private final Node root = new Node();
+
+    /**
+     * @param patterns 구간은 '/' 또는 '\'로 구분
+     */
+    public PathSegmentMatcher(Collection<String> patterns) {
+        for (String pattern : patterns) {
+            Node node = root;
+            for (String segment : pattern.split("[/\\\\]")) {
+                if (!segment.isEmpty()) {
+                    node = node.children.computeIfAbsent(segment.toLowerCase(Locale.ROOT), k -> new Node());
+                }
+            }
+            node.terminal = node != root;
+        }
+    }
+
+    /**
+     * 경로의 어느 연속 구간이든 패턴과 일치하면 true (루트/드라이브 부분은 제외)
+     */
+    public boolean matches(Path path) {
+        int count = path.getNameCount();
+        String[] segments = new String[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = path.getName(i).toString().toLowerCase(Locale.ROOT);
+        }
+
+        for (int start = 0; start < count; start++) {
+            Node node = root;
+            for (int i = start; i < count; i++) {
+                node = node.children.get(segments[i]);
+                if (node == null) {
+                    break;
+                }
+                if (node.terminal) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static final class Node {
+        final Map<String, Node> children = new HashMap<>(4);
+        boolean terminal;
+    }
+}
@@ -0,0 +1,153 @@
+package com.smartfilemanager.util;
+
+import com.smartfilemanager.constants.FileConstants.PerceptualHashing;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 이미지 지각 해시 (dHash, 64비트)
+ * 이미지를 9x8 밝기 격자로 줄인 뒤 가로로 이웃한 칸의 밝기 차이 부호를 비트로 기록합니다.
+ * 다시 인코딩하거나 크기를 바꾼 사진은 몇 비트만 달라지므로 해밍 거리로 비교할 수 있습니다.
+ *
+ * 디코딩할 때부터 서브샘플링해서 큰 사진도 짧은 변이 DECODE_MIN_SIZE 근처인 크기로만 읽습니다.
+ */
+public final class PerceptualHash {
+
+    private static final int GRID_WIDTH = 9;
+    private static final int GRID_HEIGHT = 8;
+
+    // javax.imageio가 읽을 수 있는 확장자 (소문자)
+    private static final Set<String> READABLE_SUFFIXES = Arrays.stream(ImageIO.getReaderFileSuffixes())
+            .map(suffix -> suffix.toLowerCase(Locale.ROOT))
+            .collect(Collectors.toUnmodifiableSet());
+
+    private PerceptualHash() {
+    }
+
+    /**
+     * javax.imageio로 디코딩할 수 있는 확장자인지 확인
+     */
+    public static boolean isSupported(String extension) {
+        return extension != null && READABLE_SUFFIXES.contains(extension.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * 이미지 파일의 dHash 계산
+     *
+     * @throws IOException 읽을 수 없거나 지원하지 않는 형식인 경우
+     */
+    public static long dHash(Path file) throws IOException {
+        BufferedImage image = decodeDownscaled(file);
+        return dHash(image);
+    }
+
+    /**
+     * 디코딩된 이미지의 dHash 계산
+     */
+    public static long dHash(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+        // 격자 칸마다 밝기 평균 (영역 평균이라 축소할 때 생기는 잡음이 적음)
+        double[] grid = new double[GRID_WIDTH * GRID_HEIGHT];
+        for (int gy = 0; gy < GRID_HEIGHT; gy++) {
+            int y0 = gy * height / GRID_HEIGHT;
+            int y1 = Math.max(y0 + 1, (gy + 1) * height / GRID_HEIGHT);
+
+            for (int gx = 0; gx < GRID_WIDTH; gx++) {
+                int x0 = gx * width / GRID_WIDTH;
+                int x1 = Math.max(x0 + 1, (gx + 1) * width / GRID_WIDTH);
+
+                long sum = 0;
+                for (int y = y0; y < Math.min(y1, height); y++) {
+                    for (int x = x0; x < Math.min(x1, width); x++) {
+                        sum += luminance(pixels[y * width + x]);
+                    }
+                }
+                grid[gy * GRID_WIDTH + gx] = (double) sum / ((Math.min(y1, height) - y0) * (Math.min(x1, width) - x0));
+            }
+        }
+
+        long hash = 0;
+        for (int gy = 0; gy < GRID_HEIGHT; gy++) {
+            for (int gx = 0; gx < GRID_WIDTH - 1; gx++) {
+                hash <<= 1;
+                if (grid[gy * GRID_WIDTH + gx] > grid[gy * GRID_WIDTH + gx + 1]) {
+                    hash |= 1;
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * 두 해시의 해밍 거리 (다른 비트 수)
+     */
+    public static int distance(long first, long second) {
+        return Long.bitCount(first ^ second);
+    }
+
+    /**
+     * 해시 캐시에 저장할 16자리 16진수 문자열
+     */
+    public static String toHex(long hash) {
+        return String.format("%016x", hash);
+    }
+
+    public static long fromHex(String hex) {
+        return Long.parseUnsignedLong(hex, 16);
+    }
+
+    /**
+     * 짧은 변이 DECODE_MIN_SIZE 이상 남는 범위에서 최대한 서브샘플링해서 디코딩
+     */
+    private static BufferedImage decodeDownscaled(Path file) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            if (input == null) {
+                throw new IOException("이미지를 열 수 없음: " + file);
+            }
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식: " + file);
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int shortSide = Math.min(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, shortSide / PerceptualHashing.DECODE_MIN_SIZE);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+
+                BufferedImage image = reader.read(0, param);
+                if (image == null || image.getWidth() == 0 || image.getHeight() == 0) {
+                    throw new IOException("이미지를 디코딩할 수 없음: " + file);
+                }
+                return image;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static int luminance(int rgb) {
+        int r = (rgb >> 16) & 0xFF;
+        int g = (rgb >> 8) & 0xFF;
+        int b = rgb & 0xFF;
+        return (r * 299 + g * 587 + b * 114) / 1000;
+    }
+}
@@ -0,0 +1,281 @@
+package com.smartfilemanager.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 비슷한 파일명 쌍 찾기 (트라이그램 역색인 + 접두 필터 + 밴드 레벤슈타인)
+ *
+ * 유사도(1 - 편집거리/긴 이름 길이)가 threshold 이상인 두 이름은 앞뒤를 패딩한 트라이그램을
+ * 최소 ceil(2 + n - 3(1 - threshold)n)개 공유합니다 (편집 1번이 트라이그램을 최대 3개 바꾸므로).
+ * 그래서 각 이름의 트라이그램을 드문 순서로 정렬한 뒤 앞부분(접두)만 색인해도 조건을 만족하는 쌍을
+ * 빠짐없이 후보로 찾을 수 있고, 후보만 편집거리 상한이 있는 레벤슈타인으로 확인합니다.
+ *
+ * 인스턴스는 스레드 안전하지 않습니다 (레벤슈타인 행 버퍼를 재사용).
+ */
+public final class SimilarNameIndex {
+
+    private static final int Q = 3;
+    private static final char PAD = '\u0001';
+    private static final double EPSILON = 1e-9;
+
+    /**
+     * 일치하는 쌍을 받는 콜백 (i, j는 입력 목록의 위치)
+     */
+    @FunctionalInterface
+    public interface PairConsumer {
+        void accept(int first, int second, double similarity);
+    }
+
+    private final double threshold;
+
+    // 레벤슈타인 두 행 (필요할 때만 키움)
+    private int[] previousRow = new int[64];
+    private int[] currentRow = new int[64];
+
+    // 마지막 findPairs 통계
+    private long candidatePairs;
+    private long matchedPairs;
+
+    /**
+     * @param threshold 유사도 임계값 (0.0 ~ 1.0, 2/3 이상이어야 접두 필터가 의미 있음)
+     */
+    public SimilarNameIndex(double threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * 정규화된 이름 목록에서 유사도가 임계값 이상인 쌍을 모두 찾음
+     */
+    public void findPairs(List<String> names, PairConsumer consumer) {
+        candidatePairs = 0;
+        matchedPairs = 0;
+
+        int count = names.size();
+        if (count < 2) {
+            return;
+        }
+
+        // 1. 이름별 트라이그램 토큰 (같은 트라이그램이 여러 번 나오면 등장 순번으로 구분)
+        Map<Long, Integer> tokenIds = new HashMap<>();
+        List<Integer> frequencies = new ArrayList<>();
+        int[][] tokens = new int[count][];
+
+        for (int i = 0; i < count; i++) {
+            String name = names.get(i);
+            if (name.isEmpty()) {
+                tokens[i] = new int[0];
+                continue;
+            }
+
+            long[] grams = trigramsOf(name);
+            int[] ids = new int[grams.length];
+            for (int g = 0; g < grams.length; g++) {
+                Integer id = tokenIds.get(grams[g]);
+                if (id == null) {
+                    id = frequencies.size();
+                    tokenIds.put(grams[g], id);
+                    frequencies.add(0);
+                }
+                frequencies.set(id, frequencies.get(id) + 1);
+                ids[g] = id;
+            }
+            tokens[i] = ids;
+        }
+
+        // 2. 전역 순서: 드문 토큰이 앞으로 (rank가 작을수록 드묾)
+        Integer[] byFrequency = new Integer[frequencies.size()];
+        for (int id = 0; id < byFrequency.length; id++) {
+            byFrequency[id] = id;
+        }
+        Arrays.sort(byFrequency, (a, b) -> {
+            int compare = Integer.compare(frequencies.get(a), frequencies.get(b));
+            return compare != 0 ? compare : Integer.compare(a, b);
+        });
+        int[] rank = new int[byFrequency.length];
+        for (int r = 0; r < byFrequency.length; r++) {
+            rank[byFrequency[r]] = r;
+        }
+        for (int[] ids : tokens) {
+            for (int g = 0; g < ids.length; g++) {
+                ids[g] = rank[ids[g]];
+            }
+            Arrays.sort(ids);
+        }
+
+        // 3. 짧은 이름부터 처리하며 접두 토큰으로 후보를 찾고, 자신의 접두를 색인에 추가
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> {
+            int compare = Integer.compare(names.get(a).length(), names.get(b).length());
+            return compare != 0 ? compare : Integer.compare(a, b);
+        });
+
+        int[][] postings = new int[rank.length][];
+        int[] postingSizes = new int[rank.length];
+        int[] seenBy = new int[count];
+        Arrays.fill(seenBy, -1);
+        int[] candidates = new int[16];
+
+        for (int current : order) {
+            int[] ids = tokens[current];
+            if (ids.length == 0) {
+                continue;
+            }
+
+            String name = names.get(current);
+            int length = name.length();
+            int maxDistance = maxDistance(length);
+            int prefixLength = Math.min(ids.length, ids.length - minSharedTokens(length) + 1);
+
+            // 후보 수집 (색인에 있는 이름은 모두 길이가 같거나 짧음)
+            int candidateCount = 0;
+            for (int p = 0; p < prefixLength; p++) {
+                int token = ids[p];
+                int[] posting = postings[token];
+                for (int k = 0; k < postingSizes[token]; k++) {
+                    int other = posting[k];
+                    if (seenBy[other] == current || length - names.get(other).length() > maxDistance) {
+                        continue;
+                    }
+                    seenBy[other] = current;
+                    if (candidateCount == candidates.length) {
+                        candidates = Arrays.copyOf(candidates, candidateCount * 2);
+                    }
+                    candidates[candidateCount++] = other;
+                }
+            }
+
+            // 후보 확인
+            candidatePairs += candidateCount;
+            for (int c = 0; c < candidateCount; c++) {
+                int other = candidates[c];
+                int distance = boundedLevenshtein(names.get(other), name, maxDistance);
+                if (distance > maxDistance) {
+                    continue;
+                }
+
+                double similarity = 1.0 - (double) distance / length;
+                if (similarity >= threshold) {
+                    matchedPairs++;
+                    consumer.accept(Math.min(other, current), Math.max(other, current), similarity);
+                }
+            }
+
+            // 색인에 추가
+            for (int p = 0; p < prefixLength; p++) {
+                int token = ids[p];
+                if (postings[token] == null) {
+                    postings[token] = new int[4];
+                } else if (postingSizes[token] == postings[token].length) {
+                    postings[token] = Arrays.copyOf(postings[token], postingSizes[token] * 2);
+                }
+                postings[token][postingSizes[token]++] = current;
+            }
+        }
+    }
+
+    /**
+     * 편집거리가 maxDistance 이하이면 그 값, 넘으면 maxDistance + 1
+     * 대각선 주변 2 * maxDistance + 1 칸만 계산하고, 한 행의 최솟값이 상한을 넘으면 바로 종료합니다
+     */
+    public int boundedLevenshtein(String a, String b, int maxDistance) {
+        int n = a.length();
+        int m = b.length();
+        int exceeded = maxDistance + 1;
+        if (Math.abs(n - m) > maxDistance) {
+            return exceeded;
+        }
+        if (n == 0 || m == 0) {
+            return Math.max(n, m);
+        }
+
+        if (previousRow.length < m + 1) {
+            previousRow = new int[m + 1];
+            currentRow = new int[m + 1];
+        }
+        int[] previous = previousRow;
+        int[] current = currentRow;
+
+        for (int j = 0; j <= m; j++) {
+            previous[j] = j <= maxDistance ? j : exceeded;
+        }
+
+        for (int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(m, i + maxDistance);
+            char ca = a.charAt(i - 1);
+
+            current[from - 1] = from == 1 && i <= maxDistance ? i : exceeded;
+            int rowMin = current[from - 1];
+
+            for (int j = from; j <= to; j++) {
+                int value = previous[j - 1] + (ca == b.charAt(j - 1) ? 0 : 1);
+                value = Math.min(value, previous[j] + 1);
+                value = Math.min(value, current[j - 1] + 1);
+                current[j] = Math.min(value, exceeded);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < m) {
+                current[to + 1] = exceeded;  // 다음 행이 밴드 밖 값을 읽지 않도록
+            }
+
+            if (rowMin > maxDistance) {
+                return exceeded;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return Math.min(previous[m], exceeded);
+    }
+
+    /**
+     * 마지막 findPairs에서 레벤슈타인으로 확인한 후보 쌍 수
+     */
+    public long getCandidatePairs() {
+        return candidatePairs;
+    }
+
+    public long getMatchedPairs() {
+        return matchedPairs;
+    }
+
+    /**
+     * 길이 n인 이름이 (자신보다 짧거나 같은 이름과) 가질 수 있는 최대 편집거리
+     */
+    private int maxDistance(int length) {
+        return (int) Math.floor((1.0 - threshold) * length + EPSILON);
+    }
+
+    /**
+     * 길이 n 이상인 이름과 쌍을 이루려면 공유해야 하는 최소 토큰 수
+     */
+    private int minSharedTokens(int length) {
+        double bound = (Q - 1) + length - Q * (1.0 - threshold) * length;
+        return Math.max(1, (int) Math.ceil(bound - EPSILON));
+    }
+
+    /**
+     * 앞뒤를 패딩한 트라이그램 (3글자 + 등장 순번을 long 하나로 인코딩)
+     */
+    private static long[] trigramsOf(String name) {
+        String padded = "" + PAD + PAD + name + PAD + PAD;
+        long[] grams = new long[padded.length() - Q + 1];
+        Map<Long, Integer> occurrences = new HashMap<>();
+
+        for (int i = 0; i < grams.length; i++) {
+            long gram = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2);
+            int occurrence = occurrences.merge(gram, 1, Integer::sum) - 1;
+            grams[i] = gram | ((long) Math.min(occurrence, 0xFFFF) << 48);
+        }
+        return grams;
+    }
+}
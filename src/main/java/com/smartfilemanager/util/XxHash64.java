@@ -0,0 +1,199 @@
+package com.smartfilemanager.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * xxHash64 스트리밍 구현 (순수 Java)
+ * 암호학적 해시가 아니므로 보안 용도로는 쓰면 안 되지만, MD5보다 몇 배 빨라
+ * 중복 파일 후보를 가려내는 데 적합합니다. 결과는 원본 XXH64와 같습니다.
+ */
+public final class XxHash64 {
+
+    private static final long PRIME1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME3 = 0x165667B19E3779F9L;
+    private static final long PRIME4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME5 = 0x27D4EB2F165667C5L;
+
+    private static final int STRIPE = 32;
+
+    // 리틀 엔디언 8/4바이트 읽기 (정렬되지 않은 위치도 허용)
+    private static final VarHandle ARRAY_LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle ARRAY_INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle BUFFER_LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final long seed;
+    private long v1, v2, v3, v4;
+    private long totalLength;
+    private final byte[] memory = new byte[STRIPE];  // 32바이트가 안 되는 나머지
+    private int memorySize;
+
+    public XxHash64() {
+        this(0L);
+    }
+
+    public XxHash64(long seed) {
+        this.seed = seed;
+        reset();
+    }
+
+    /**
+     * 바이트 배열 전체의 해시 (한 번에 계산)
+     */
+    public static long hash(byte[] data, int offset, int length) {
+        XxHash64 hasher = new XxHash64();
+        hasher.update(data, offset, length);
+        return hasher.getValue();
+    }
+
+    public void reset() {
+        v1 = seed + PRIME1 + PRIME2;
+        v2 = seed + PRIME2;
+        v3 = seed;
+        v4 = seed - PRIME1;
+        totalLength = 0;
+        memorySize = 0;
+    }
+
+    public void update(byte[] data, int offset, int length) {
+        totalLength += length;
+        int position = offset;
+        int end = offset + length;
+
+        // 이전 호출의 나머지 채우기
+        if (memorySize > 0) {
+            int fill = Math.min(STRIPE - memorySize, length);
+            System.arraycopy(data, position, memory, memorySize, fill);
+            memorySize += fill;
+            position += fill;
+            if (memorySize < STRIPE) {
+                return;
+            }
+            processStripe(memory, 0);
+            memorySize = 0;
+        }
+
+        // 32바이트 단위 처리
+        long a = v1, b = v2, c = v3, d = v4;
+        while (position <= end - STRIPE) {
+            a = round(a, (long) ARRAY_LONG.get(data, position));
+            b = round(b, (long) ARRAY_LONG.get(data, position + 8));
+            c = round(c, (long) ARRAY_LONG.get(data, position + 16));
+            d = round(d, (long) ARRAY_LONG.get(data, position + 24));
+            position += STRIPE;
+        }
+        v1 = a; v2 = b; v3 = c; v4 = d;
+
+        if (position < end) {
+            memorySize = end - position;
+            System.arraycopy(data, position, memory, 0, memorySize);
+        }
+    }
+
+    /**
+     * position부터 limit까지 반영하고 position을 limit으로 옮김 (direct 버퍼도 복사 없이 처리)
+     */
+    public void update(ByteBuffer buffer) {
+        int length = buffer.remaining();
+        if (buffer.hasArray()) {
+            update(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+            buffer.position(buffer.limit());
+            return;
+        }
+
+        totalLength += length;
+        int position = buffer.position();
+        int end = buffer.limit();
+
+        if (memorySize > 0) {
+            int fill = Math.min(STRIPE - memorySize, length);
+            buffer.get(position, memory, memorySize, fill);
+            memorySize += fill;
+            position += fill;
+            if (memorySize < STRIPE) {
+                buffer.position(end);
+                return;
+            }
+            processStripe(memory, 0);
+            memorySize = 0;
+        }
+
+        long a = v1, b = v2, c = v3, d = v4;
+        while (position <= end - STRIPE) {
+            a = round(a, (long) BUFFER_LONG.get(buffer, position));
+            b = round(b, (long) BUFFER_LONG.get(buffer, position + 8));
+            c = round(c, (long) BUFFER_LONG.get(buffer, position + 16));
+            d = round(d, (long) BUFFER_LONG.get(buffer, position + 24));
+            position += STRIPE;
+        }
+        v1 = a; v2 = b; v3 = c; v4 = d;
+
+        if (position < end) {
+            memorySize = end - position;
+            buffer.get(position, memory, 0, memorySize);
+        }
+        buffer.position(end);
+    }
+
+    /**
+     * 지금까지 반영한 데이터의 해시 (상태는 바뀌지 않음)
+     */
+    public long getValue() {
+        long hash;
+        if (totalLength >= STRIPE) {
+            hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            hash = mergeRound(hash, v1);
+            hash = mergeRound(hash, v2);
+            hash = mergeRound(hash, v3);
+            hash = mergeRound(hash, v4);
+        } else {
+            hash = seed + PRIME5;
+        }
+        hash += totalLength;
+
+        int position = 0;
+        while (position + 8 <= memorySize) {
+            hash ^= round(0, (long) ARRAY_LONG.get(memory, position));
+            hash = Long.rotateLeft(hash, 27) * PRIME1 + PRIME4;
+            position += 8;
+        }
+        if (position + 4 <= memorySize) {
+            hash ^= ((int) ARRAY_INT.get(memory, position) & 0xFFFFFFFFL) * PRIME1;
+            hash = Long.rotateLeft(hash, 23) * PRIME2 + PRIME3;
+            position += 4;
+        }
+        while (position < memorySize) {
+            hash ^= (memory[position] & 0xFF) * PRIME5;
+            hash = Long.rotateLeft(hash, 11) * PRIME1;
+            position++;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= PRIME2;
+        hash ^= hash >>> 29;
+        hash *= PRIME3;
+        hash ^= hash >>> 32;
+        return hash;
+    }
+
+    private void processStripe(byte[] data, int offset) {
+        v1 = round(v1, (long) ARRAY_LONG.get(data, offset));
+        v2 = round(v2, (long) ARRAY_LONG.get(data, offset + 8));
+        v3 = round(v3, (long) ARRAY_LONG.get(data, offset + 16));
+        v4 = round(v4, (long) ARRAY_LONG.get(data, offset + 24));
+    }
+
+    private static long round(long accumulator, long input) {
+        accumulator += input * PRIME2;
+        accumulator = Long.rotateLeft(accumulator, 31);
+        return accumulator * PRIME1;
+    }
+
+    private static long mergeRound(long accumulator, long value) {
+        accumulator ^= round(0, value);
+        return accumulator * PRIME1 + PRIME4;
+    }
+}
@@ -0,0 +1,132 @@
+package com.smartfilemanager.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 작업 저널 기록/읽기와 중단 후 되돌리기 테스트
+ */
+class OperationJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void skipsTornAndCorruptLines() throws Exception {
+        Path journalDir = tempDir.resolve("journal");
+        OperationJournal journal = OperationJournal.create(journalDir, "organize");
+        long id = journal.planned(tempDir.resolve("a\tb.txt"), tempDir.resolve("out/a\tb.txt"));
+        journal.started(id);
+        journal.completed(id);
+        journal.close();
+
+        // CRC가 틀린 줄, 쓰다가 끊긴 마지막 줄
+        Files.write(journal.getFile(), ("00000000\tF\t" + id + "\n" + "1234abcd\tS\t9")
+                .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        OperationJournal.Session session = OperationJournal.read(journal.getFile());
+        assertEquals("organize", session.getOperation());
+        assertTrue(session.isClosed());
+        assertEquals(1, session.getMoves().size());
+
+        OperationJournal.Move move = session.getMoves().get(0);
+        assertEquals(tempDir.resolve("a\tb.txt"), move.getSource());
+        assertEquals(OperationJournal.MoveState.COMPLETED, move.getState());
+    }
+
+    @Test
+    void replaysLastStatePerMove() throws Exception {
+        OperationJournal journal = OperationJournal.create(tempDir, "organize");
+        long done = journal.planned(tempDir.resolve("1"), tempDir.resolve("out/1"));
+        long started = journal.planned(tempDir.resolve("2"), tempDir.resolve("out/2"));
+        long failed = journal.planned(tempDir.resolve("3"), tempDir.resolve("out/3"));
+        long planned = journal.planned(tempDir.resolve("4"), tempDir.resolve("out/4"));
+        journal.started(done);
+        journal.completed(done);
+        journal.started(started);
+        journal.started(failed);
+        journal.failed(failed);
+        journal.suspend();
+
+        OperationJournal.Session session = OperationJournal.read(journal.getFile());
+        assertFalse(session.isClosed());
+        assertFalse(session.isReverting());
+        List<OperationJournal.Move> moves = session.getMoves();
+        assertEquals(OperationJournal.MoveState.COMPLETED, moves.get(0).getState());
+        assertEquals(OperationJournal.MoveState.STARTED, moves.get(1).getState());
+        assertEquals(OperationJournal.MoveState.FAILED, moves.get(2).getState());
+        assertEquals(OperationJournal.MoveState.PLANNED, moves.get(3).getState());
+        // 중단된 세션: 실패하지 않은 이동은 모두 확인 대상
+        assertEquals(3, session.getRevertibleCount());
+        assertEquals(1, OperationJournal.listSessions(tempDir).size());
+
+        // 이어서 기록하면 번호가 겹치지 않고, 닫으면 종료된 세션이 됨
+        OperationJournal reopened = OperationJournal.reopen(session);
+        reopened.reverting(done);
+        reopened.reverted(done);
+        assertEquals(planned + 1, reopened.planned(tempDir.resolve("5"), tempDir.resolve("out/5")));
+        reopened.close();
+
+        session = OperationJournal.read(journal.getFile());
+        assertTrue(session.isClosed());
+        assertTrue(session.isReverting());
+        assertEquals(OperationJournal.MoveState.REVERTED, session.getMoves().get(0).getState());
+        // 종료된 세션: 완료됐을 수 있는 이동만 (시작 기록만 있는 2번)
+        assertEquals(1, session.getRevertibleCount());
+    }
+
+    @Test
+    void rollsBackMovesWhoseRecordsWereLostInCrash() throws Exception {
+        Path sourceDir = Files.createDirectories(tempDir.resolve("src"));
+        Path targetDir = Files.createDirectories(tempDir.resolve("out"));
+        Path[] sources = new Path[3];
+        Path[] targets = new Path[3];
+        long[] ids = new long[3];
+
+        OperationJournal journal = OperationJournal.create(tempDir.resolve("journal"), "organize");
+        for (int i = 0; i < 3; i++) {
+            sources[i] = Files.writeString(sourceDir.resolve("file" + i + ".txt"), "content " + i);
+            targets[i] = targetDir.resolve("file" + i + ".txt");
+            ids[i] = journal.planned(sources[i], targets[i]);
+        }
+        journal.commit();
+
+        // 두 파일은 실제로 옮겼지만 시작/완료 기록은 확정되기 전에 프로그램이 죽음
+        for (int i = 0; i < 2; i++) {
+            journal.started(ids[i]);
+            Files.move(sources[i], targets[i]);
+            journal.completed(ids[i]);
+        }
+
+        OperationJournal.Session session = OperationJournal.read(journal.getFile());
+        assertFalse(session.isClosed());
+        for (OperationJournal.Move move : session.getMoves()) {
+            assertEquals(OperationJournal.MoveState.PLANNED, move.getState());
+        }
+
+        int inPlace = new UndoService(null, null, null).revertSession(session, null);
+
+        assertEquals(3, inPlace);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(Files.exists(sources[i]));
+            assertFalse(Files.exists(targets[i]));
+            assertEquals("content " + i, Files.readString(sources[i]));
+        }
+
+        OperationJournal.Session reverted = OperationJournal.read(journal.getFile());
+        assertTrue(reverted.isClosed());
+        for (OperationJournal.Move move : reverted.getMoves()) {
+            assertEquals(OperationJournal.MoveState.REVERTED, move.getState());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.smartfilemanager.test;
+
+import com.smartfilemanager.constants.FileConstants.HashAlgorithms;
+import com.smartfilemanager.util.ContentHasher;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * 중복 탐지 해시 알고리즘 처리량 벤치마크 (콘솔 실행)
+ * XXH64, MD5, SHA-256을 4KB / 1MB / 1GB 입력에서 비교합니다.
+ * 디스크 속도를 빼고 해시 계산 비용만 보기 위해 1MB direct 버퍼를 반복해서 넣습니다
+ * (1GB = 1MB 버퍼 1024번, 해시 워커가 파일을 읽는 방식과 같음).
+ */
+public class HashThroughputBenchmark {
+
+    private static final String[] ALGORITHMS = {HashAlgorithms.XXH64, HashAlgorithms.MD5, HashAlgorithms.SHA256};
+    private static final int CHUNK_SIZE = 1024 * 1024;
+    private static final long[] INPUT_SIZES = {4 * 1024L, 1024 * 1024L, 1024 * 1024 * 1024L};
+    private static final long BYTES_PER_MEASUREMENT = 512L * 1024 * 1024;  // 작은 입력은 이만큼 반복
+
+    // 결과를 버리지 않도록 보관 (JIT가 계산을 없애지 못하게)
+    private static volatile String sink;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("🔬 해시 처리량 벤치마크");
+        System.out.println("=".repeat(55));
+
+        ByteBuffer chunk = ByteBuffer.allocateDirect(CHUNK_SIZE);
+        byte[] random = new byte[CHUNK_SIZE];
+        new Random(42).nextBytes(random);
+        chunk.put(random).flip();
+
+        // 워밍업 (JIT 컴파일)
+        for (String algorithm : ALGORITHMS) {
+            for (int i = 0; i < 3; i++) {
+                hashInput(algorithm, chunk, 64L * 1024 * 1024);
+            }
+        }
+
+        System.out.printf("%n%-10s %12s %12s %12s%n", "", "4 KB", "1 MB", "1 GB");
+        for (String algorithm : ALGORITHMS) {
+            StringBuilder row = new StringBuilder(String.format("%-10s", algorithm));
+            for (long inputSize : INPUT_SIZES) {
+                row.append(String.format(" %8.0f MB/s", measure(algorithm, chunk, inputSize)));
+            }
+            System.out.println(row);
+        }
+    }
+
+    /**
+     * 입력 크기별 처리량 (MB/s) - 작은 입력은 여러 번 해시해서 평균
+     */
+    private static double measure(String algorithm, ByteBuffer chunk, long inputSize) throws Exception {
+        long repetitions = Math.max(1, BYTES_PER_MEASUREMENT / inputSize);
+
+        long start = System.nanoTime();
+        for (long i = 0; i < repetitions; i++) {
+            sink = hashInput(algorithm, chunk, inputSize);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return (double) (repetitions * inputSize) / (1024 * 1024) / (elapsed / 1_000_000_000.0);
+    }
+
+    private static String hashInput(String algorithm, ByteBuffer chunk, long inputSize) throws Exception {
+        ContentHasher hasher = ContentHasher.create(algorithm);
+        long remaining = inputSize;
+
+        while (remaining > 0) {
+            int length = (int) Math.min(remaining, chunk.capacity());
+            ByteBuffer slice = chunk.duplicate();
+            slice.position(0).limit(length);
+            hasher.update(slice);
+            remaining -= length;
+        }
+        return hasher.digestHex();
+    }
+}
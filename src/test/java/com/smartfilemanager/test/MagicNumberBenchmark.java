@@ -0,0 +1,204 @@
+package com.smartfilemanager.test;
+
+import com.smartfilemanager.util.FileTypeDetector;
+import com.smartfilemanager.util.FileTypeDetector.FileTypeInfo;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 매직 넘버 감지 벤치마크 (콘솔 실행)
+ * 이전 방식(헤더를 16진수 문자열로 바꾼 뒤 HashMap을 돌며 startsWith)과
+ * 바이트 트라이 방식의 조회 시간과 조회당 할당량을 비교합니다
+ */
+public class MagicNumberBenchmark {
+
+    private static final int WARMUP_ROUNDS = 200_000;
+    private static final int MEASURE_ROUNDS = 2_000_000;
+
+    // 이전 구현과 같은 시그니처 맵 (중복 키는 나중 값이 덮어씀)
+    private static final Map<String, String> LEGACY_SIGNATURES = new HashMap<>();
+
+    static {
+        LEGACY_SIGNATURES.put("FFD8FF", "JPEG");
+        LEGACY_SIGNATURES.put("89504E47", "PNG");
+        LEGACY_SIGNATURES.put("47494638", "GIF");
+        LEGACY_SIGNATURES.put("424D", "BMP");
+        LEGACY_SIGNATURES.put("49492A00", "TIFF");
+        LEGACY_SIGNATURES.put("52494646", "WEBP");
+        LEGACY_SIGNATURES.put("66747970", "MP4");
+        LEGACY_SIGNATURES.put("000001BA", "MPEG");
+        LEGACY_SIGNATURES.put("52494646", "AVI");
+        LEGACY_SIGNATURES.put("1A45DFA3", "MKV");
+        LEGACY_SIGNATURES.put("464C5601", "FLV");
+        LEGACY_SIGNATURES.put("494433", "MP3");
+        LEGACY_SIGNATURES.put("FFF3", "MP3");
+        LEGACY_SIGNATURES.put("52494646", "WAV");
+        LEGACY_SIGNATURES.put("664C6143", "FLAC");
+        LEGACY_SIGNATURES.put("4F676753", "OGG");
+        LEGACY_SIGNATURES.put("25504446", "PDF");
+        LEGACY_SIGNATURES.put("D0CF11E0", "DOC");
+        LEGACY_SIGNATURES.put("504B0304", "DOCX");
+        LEGACY_SIGNATURES.put("7B5C7274", "RTF");
+        LEGACY_SIGNATURES.put("504B0304", "ZIP");
+        LEGACY_SIGNATURES.put("526172211A07", "RAR");
+        LEGACY_SIGNATURES.put("377ABCAF271C", "7Z");
+        LEGACY_SIGNATURES.put("1F8B", "GZIP");
+        LEGACY_SIGNATURES.put("425A68", "BZIP2");
+        LEGACY_SIGNATURES.put("4D5A", "EXE");
+        LEGACY_SIGNATURES.put("CAFEBABE", "CLASS");
+        LEGACY_SIGNATURES.put("7F454C46", "ELF");
+        LEGACY_SIGNATURES.put("89504E47", "ICO");
+        LEGACY_SIGNATURES.put("3C3F786D6C", "XML");
+        LEGACY_SIGNATURES.put("3C68746D6C", "HTML");
+    }
+
+    public static void main(String[] args) {
+        System.out.println("🔬 매직 넘버 감지 벤치마크");
+        System.out.println("=".repeat(55));
+
+        List<byte[]> samples = createSamples();
+
+        // 1. 감지 결과 비교
+        System.out.println("\n[결과 비교] 샘플별 감지 타입 (이전 → 트라이)");
+        for (byte[] header : samples) {
+            FileTypeInfo trieType = FileTypeDetector.detectByHeaderBytes(header, header.length);
+            System.out.printf("  %-26s %-8s → %s%n", preview(header), legacyDetect(header),
+                    trieType != null ? trieType.getType() : "null");
+        }
+
+        byte[][] corpus = samples.toArray(new byte[0][]);
+
+        // 2. 워밍업
+        runLegacy(corpus, WARMUP_ROUNDS);
+        runTrie(corpus, WARMUP_ROUNDS);
+
+        // 3. 측정
+        System.out.println("\n[성능] " + MEASURE_ROUNDS + "회 조회");
+        measure("이전 방식 (hex + HashMap)", () -> runLegacy(corpus, MEASURE_ROUNDS));
+        measure("바이트 트라이", () -> runTrie(corpus, MEASURE_ROUNDS));
+    }
+
+    private static void measure(String name, Runnable benchmark) {
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        benchmark.run();
+        long elapsed = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        System.out.printf("  %-28s %8.1f ns/조회, %8.1f B/조회%n", name,
+                (double) elapsed / MEASURE_ROUNDS, allocated >= 0 ? (double) allocated / MEASURE_ROUNDS : Double.NaN);
+    }
+
+    private static int runLegacy(byte[][] corpus, int rounds) {
+        int found = 0;
+        for (int i = 0; i < rounds; i++) {
+            if (legacyDetect(corpus[i % corpus.length]) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private static int runTrie(byte[][] corpus, int rounds) {
+        int found = 0;
+        for (int i = 0; i < rounds; i++) {
+            byte[] header = corpus[i % corpus.length];
+            if (FileTypeDetector.detectByHeaderBytes(header, header.length) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 이전 detectByHeader + detectSpecialCases 동작 재현
+     */
+    private static String legacyDetect(byte[] header) {
+        StringBuilder sb = new StringBuilder();
+        for (byte b : header) {
+            sb.append(String.format("%02X", b));
+        }
+        String hexHeader = sb.toString();
+
+        for (Map.Entry<String, String> entry : LEGACY_SIGNATURES.entrySet()) {
+            if (hexHeader.startsWith(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+
+        if (hexHeader.startsWith("52494646")) {
+            if (hexHeader.contains("57415645")) return "WAV";
+            if (hexHeader.contains("41564920")) return "AVI";
+            if (hexHeader.contains("57454250")) return "WEBP";
+        }
+        return null;
+    }
+
+    /**
+     * 대표 헤더 12바이트 샘플 + 임의 바이트
+     */
+    private static List<byte[]> createSamples() {
+        List<byte[]> samples = new ArrayList<>();
+        samples.add(hex("FFD8FFE000104A4649460001"));
+        samples.add(hex("89504E470D0A1A0A0000000D"));
+        samples.add(hex("474946383961010001000000"));
+        samples.add(concat("RIFF", hex("24080000"), "WAVE"));
+        samples.add(concat("RIFF", hex("24080000"), "AVI "));
+        samples.add(concat("RIFF", hex("24080000"), "WEBP"));
+        samples.add(concat(hex("00000020"), "ftypisom"));
+        samples.add(concat(hex("00000014"), "ftypqt  "));
+        samples.add(concat(hex("00000020"), "ftypM4A "));
+        samples.add(concat("%PDF-1.7", hex("0A25E2E3")));
+        samples.add(hex("504B03041400060008000000"));
+        samples.add(concat("<?xml versio"));
+        samples.add(hex("4D5A90000300000004000000"));
+
+        Random random = new Random(42);
+        for (int i = 0; i < 3; i++) {
+            byte[] noise = new byte[12];
+            random.nextBytes(noise);
+            samples.add(noise);
+        }
+        return samples;
+    }
+
+    private static byte[] hex(String hex) {
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(i * 2, i * 2 + 2), 16);
+        }
+        return bytes;
+    }
+
+    private static byte[] concat(Object... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (Object part : parts) {
+            byte[] bytes = part instanceof byte[] ? (byte[]) part : ((String) part).getBytes(StandardCharsets.ISO_8859_1);
+            out.write(bytes, 0, bytes.length);
+        }
+        return out.toByteArray();
+    }
+
+    private static String preview(byte[] header) {
+        StringBuilder sb = new StringBuilder();
+        for (byte b : header) {
+            sb.append(b >= 32 && b < 127 ? (char) b : '.');
+        }
+        return sb.toString();
+    }
+
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}